@@ -0,0 +1,38 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * The map screen's per-frame work apart from drawing, {@link ConvergingMapScreen.MapFrame#update}, with a touch on
+ * the first node the player can move to. In the game's package because the frame is package-private.
+ */
+public final class MapFrameOperation implements Runnable {
+    private final ConvergingMapScreen.MapFrame frame;
+    private final int screenX;
+    private final int screenY;
+    private int touches;
+
+    /** @param viewport sized without {@code update}, which needs GL */
+    public MapFrameOperation(Viewport viewport) {
+        frame = new ConvergingMapScreen.MapFrame(viewport);
+        frame.current = frame.nodes.get(0);
+        ConvergingMapScreen.Node target = frame.current.next.get(0);
+        Vector2 screen = viewport.project(new Vector2(target.pos));
+        screenX = Math.round(screen.x);
+        screenY = Math.round(screen.y);
+        if (frame.update(true, screenX, screenY) != target) {
+            throw new IllegalStateException("The measured touch misses " + target.id);
+        }
+    }
+
+    @Override
+    public void run() {
+        if (frame.update(true, screenX, screenY) != null) touches++;
+    }
+
+    /** Frames whose touch selected a node; every one of them should. */
+    public int getTouches() {
+        return touches;
+    }
+}
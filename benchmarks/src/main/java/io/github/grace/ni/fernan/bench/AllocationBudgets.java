@@ -0,0 +1,196 @@
+package io.github.grace.ni.fernan.bench;
+
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import io.github.grace.ni.fernan.CardCatalog;
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.CardPantheon;
+import io.github.grace.ni.fernan.CardSystem.CardType;
+import io.github.grace.ni.fernan.CardSystem.Skill;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.MapFrameOperation;
+import io.github.grace.ni.fernan.PackOpenScreenFernan.PackType;
+import io.github.grace.ni.fernan.PackSampler;
+import io.github.grace.ni.fernan.SkillEffect;
+import io.github.grace.ni.fernan.battle.BattleEngine;
+import io.github.grace.ni.fernan.battle.BattleListener;
+import io.github.grace.ni.fernan.battle.BattleState;
+import io.github.grace.ni.fernan.battle.EnemyPolicy;
+import io.github.grace.ni.fernan.effects.BurnEffect;
+import io.github.grace.ni.fernan.effects.ConfuseEffect;
+import io.github.grace.ni.fernan.effects.DamageModifierEffect;
+import io.github.grace.ni.fernan.effects.DodgeBuffEffect;
+import io.github.grace.ni.fernan.effects.PoisonEffect;
+import io.github.grace.ni.fernan.status.BurnStatus;
+import io.github.grace.ni.fernan.status.ConfuseStatus;
+import io.github.grace.ni.fernan.status.DamageModifierStatus;
+import io.github.grace.ni.fernan.status.DodgeBuffStatus;
+import io.github.grace.ni.fernan.status.FlatDamageBuffStatus;
+import io.github.grace.ni.fernan.status.PoisonStatus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Holds hot paths to a budget of heap bytes per operation, so garbage creeping into them fails the build instead of
+ * showing up as GC pauses in game. Each operation runs {@value #WARMUP} times so the JIT has compiled it, then
+ * {@value #MEASURED} times between two reads of the thread's allocated bytes.
+ * <pre>
+ * ./gradlew benchmarks:checkAllocations
+ * </pre>
+ * Budgets leave room for amortised growth, such as a status pool or a list filling up, but not for an object per
+ * call. The map frame is the map screen's own per-frame update without the drawing, which headless can't do. The
+ * process exits with status 1 if any operation is over budget.
+ */
+public final class AllocationBudgets {
+    private static final int WARMUP = 50_000;
+    private static final int MEASURED = 100_000;
+    /** Long enough that nothing expires while measuring. */
+    private static final int LASTING = 1_000_000_000;
+    private static final int HEALTH = 1_000_000;
+
+    /** Results go here so the JIT can't drop an operation as unused. */
+    private static int sink;
+
+    private AllocationBudgets() {}
+
+    public static void main(String[] args) {
+        Headless.start();
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+
+        boolean failed = false;
+        failed |= !check(threads, "battle turn", 64, battleTurn());
+        failed |= !check(threads, "status tick", 16, statusTick());
+        failed |= !check(threads, "status cycle", 16, statusCycle());
+        failed |= !check(threads, "pack roll", 8, packRoll());
+        failed |= !check(threads, "map frame", 16, mapFrame());
+
+        System.out.println(failed ? "FAILED" : "All operations within budget.");
+        // Exit here, also on success: the headless application leaves a thread behind.
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("This JVM can't count the bytes a thread allocates");
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    private static boolean check(com.sun.management.ThreadMXBean threads, String name, long budget, Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED; i++) {
+            operation.run();
+        }
+        long after = threads.getThreadAllocatedBytes(thread);
+        double perOperation = (double) (after - before) / MEASURED;
+        boolean ok = perOperation <= budget;
+        System.out.printf(Locale.ROOT, "%-12s %10.2f B/op  budget %4d  %s%n", name, perOperation, budget, ok ? "PASS" : "FAIL");
+        return ok;
+    }
+
+    /**
+     * A round of a battle that never ends: the player's first affordable skill, the end of the turn, and the
+     * enemy's turn with its first skill, after which both sides are healed back up.
+     */
+    private static Runnable battleTurn() {
+        CardCatalog catalog = CardCatalog.get();
+        List<Card> deck = new ArrayList<>();
+        for (Card c : catalog.ofType(CardType.DIVINE)) {
+            if (deck.size() == BattleBenchmark.DECK_SIZE) break;
+            deck.add(new Card(c));
+        }
+        Card enemy = catalog.byName("Minotaur");
+        if (deck.isEmpty() || enemy == null) throw new IllegalStateException("cards.json needs divine cards and a Minotaur");
+
+        BattleState state = new BattleState(deck, new Card(enemy), new GameRandom(42));
+        BattleEngine engine = new BattleEngine(state, BattleListener.NONE, EnemyPolicy.RANDOM);
+        engine.start();
+        engine.setActiveFromHand(state.getHand().get(0));
+        return () -> {
+            Card active = state.getPlayerActive();
+            List<Skill> skills = active.getSkills();
+            for (int i = 0; i < skills.size(); i++) {
+                if (engine.canUseSkill(skills.get(i))) {
+                    engine.useSkill(skills.get(i));
+                    break;
+                }
+            }
+            engine.endPlayerTurn();
+            engine.playEnemyTurn(0);
+            if (state.isEnded()) throw new IllegalStateException("The measured battle ended: " + state.getOutcome());
+            active.setHealth(HEALTH);
+            state.getEnemyActive().setHealth(HEALTH);
+            sink += state.getRoundNumber();
+        };
+    }
+
+    /** The start and end of a turn for a card carrying every kind of status that ticks or expires. */
+    private static Runnable statusTick() {
+        Card afflicted = new Card("Afflicted", HEALTH, new ArrayList<Skill>(), CardType.DIVINE, CardPantheon.GREEK, "cards/none.png");
+        afflicted.addStatus(PoisonStatus.obtain(1, LASTING));
+        afflicted.addStatus(BurnStatus.obtain(1, LASTING));
+        afflicted.addStatus(DamageModifierStatus.obtain(0.1f, LASTING));
+        afflicted.addStatus(DodgeBuffStatus.obtain(0.1f, LASTING));
+        afflicted.addStatus(ConfuseStatus.obtain(0.1f, LASTING));
+        afflicted.addStatus(FlatDamageBuffStatus.obtain(5, LASTING));
+        return () -> {
+            afflicted.applyStartOfTurnStatuses();
+            afflicted.applyEndOfTurnStatuses();
+            sink += afflicted.getHealth();
+            afflicted.setHealth(HEALTH);
+        };
+    }
+
+    /**
+     * Statuses coming and going through the effects: each one is applied twice, so the second merges into the first
+     * and goes back to its pool, then expires after a turn and is obtained from the pool again next time.
+     */
+    private static Runnable statusCycle() {
+        Card user = new Card("User", HEALTH, new ArrayList<Skill>(), CardType.DIVINE, CardPantheon.GREEK, "cards/none.png");
+        Card target = new Card("Target", HEALTH, new ArrayList<Skill>(), CardType.DIVINE, CardPantheon.GREEK, "cards/none.png");
+        SkillEffect[] effects = {
+            new PoisonEffect(1, 1), new BurnEffect(1, 1), new DamageModifierEffect(0.1f, 1),
+            new DodgeBuffEffect(0.1f, 1), new ConfuseEffect(0.1f, 1)
+        };
+        GameRandom random = new GameRandom(42);
+        return () -> {
+            for (SkillEffect effect : effects) {
+                effect.apply(user, target, random);
+                effect.apply(user, target, random);
+            }
+            target.applyStartOfTurnStatuses();
+            target.applyEndOfTurnStatuses();
+            if (!target.getStatuses().isEmpty()) throw new IllegalStateException("A status outlived its one turn");
+            sink += target.getHealth();
+            target.setHealth(HEALTH);
+        };
+    }
+
+    private static Runnable packRoll() {
+        PackSampler sampler = PackSampler.get();
+        if (sampler.getCatalog().isEmpty()) throw new IllegalStateException("No cards in cards.json");
+        GameRandom random = new GameRandom(42);
+        return () -> sink += sampler.drawOrdinal(PackType.GOD_DIVINE, random);
+    }
+
+    private static Runnable mapFrame() {
+        // The viewport's own update would set the GL viewport, so size it by hand.
+        ScreenViewport viewport = new ScreenViewport();
+        viewport.setScreenBounds(0, 0, 1280, 720);
+        viewport.setWorldSize(1280, 720);
+        viewport.getCamera().position.set(640, 360, 0);
+        viewport.getCamera().update();
+        return new MapFrameOperation(viewport);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.grace.ni.fernan.bench;
+
+import io.github.grace.ni.fernan.CardCatalog;
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.CardType;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.battle.BattleEngine;
+import io.github.grace.ni.fernan.battle.BattleListener;
+import io.github.grace.ni.fernan.battle.BattleState;
+import io.github.grace.ni.fernan.battle.EnemyPolicy;
+import io.github.grace.ni.fernan.battle.GreedyPlayerPolicy;
+import io.github.grace.ni.fernan.battle.PlayerPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole battle as the simulator plays it: the first {@value #DECK_SIZE} divine cards of the catalog against the
+ * Minotaur, the greedy player policy against a random enemy, a new seed each battle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BattleBenchmark {
+    static final int DECK_SIZE = 6;
+    static final int MAX_ROUNDS = 200;
+
+    private final PlayerPolicy policy = new GreedyPlayerPolicy();
+    private List<Card> deck;
+    private Card enemy;
+    private long battle;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        CardCatalog catalog = CardCatalog.get();
+        List<Card> divine = catalog.ofType(CardType.DIVINE);
+        deck = new ArrayList<>(divine.subList(0, Math.min(DECK_SIZE, divine.size())));
+        enemy = catalog.byName("Minotaur");
+        if (enemy == null) throw new IllegalStateException("cards.json has no Minotaur");
+    }
+
+    @Benchmark
+    public BattleState.Outcome battle() {
+        List<Card> battleDeck = new ArrayList<>(deck.size());
+        for (Card c : deck) {
+            battleDeck.add(new Card(c));
+        }
+        BattleState state = new BattleState(battleDeck, new Card(enemy), GameRandom.forStream(42, battle++));
+        BattleEngine engine = new BattleEngine(state, BattleListener.NONE, EnemyPolicy.RANDOM);
+        engine.start();
+        return engine.playOut(policy, MAX_ROUNDS);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.grace.ni.fernan.bench;
+
+import io.github.grace.ni.fernan.CardSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Parsing cards.json and building every card and effect, as {@code CardCatalog.get()} does once per run. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CardLoadBenchmark {
+    @Setup
+    public void setUp() {
+        Headless.start();
+    }
+
+    @Benchmark
+    public List<CardSystem.Card> loadCardsFromJson() {
+        return CardSystem.loadCardsFromJson();
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.grace.ni.fernan.bench;
+
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.CardPantheon;
+import io.github.grace.ni.fernan.CardSystem.CardType;
+import io.github.grace.ni.fernan.CardSystem.Skill;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.SkillEffect;
+import io.github.grace.ni.fernan.effects.DamageEffect;
+import io.github.grace.ni.fernan.status.BurnStatus;
+import io.github.grace.ni.fernan.status.ConfuseStatus;
+import io.github.grace.ni.fernan.status.DamageModifierStatus;
+import io.github.grace.ni.fernan.status.DodgeBuffStatus;
+import io.github.grace.ni.fernan.status.FlatDamageBuffStatus;
+import io.github.grace.ni.fernan.status.PoisonStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-hit and per-turn work of a battle: a damage skill from a card carrying buffs, and the start-of-turn pass
+ * over a card carrying every kind of status. {@code stacks} is how often each status was applied; same-class
+ * statuses merge, so it changes their strength, not the length of the list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CombatBenchmark {
+    /** Long enough that nothing expires during an iteration; statuses are rebuilt before each one. */
+    private static final int LASTING = 1_000_000_000;
+    private static final int HEALTH = 1_000_000;
+
+    @Param({"0", "1", "3"})
+    public int stacks;
+
+    private final GameRandom random = new GameRandom(42);
+    private Skill strike;
+    private Card attacker;
+    private Card target;
+    private Card afflicted;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        strike = new Skill("Strike", 2, new ArrayList<SkillEffect>(Collections.singletonList(new DamageEffect(30))));
+        attacker = card("Attacker");
+        target = card("Target");
+        afflicted = card("Afflicted");
+        for (int i = 0; i < stacks; i++) {
+            attacker.addStatus(FlatDamageBuffStatus.obtain(5, LASTING));
+            attacker.addStatus(DamageModifierStatus.obtain(0.1f, LASTING));
+            target.addStatus(DodgeBuffStatus.obtain(0.1f, LASTING));
+
+            afflicted.addStatus(PoisonStatus.obtain(1, LASTING));
+            afflicted.addStatus(BurnStatus.obtain(1, LASTING));
+            afflicted.addStatus(DamageModifierStatus.obtain(0.1f, LASTING));
+            afflicted.addStatus(DodgeBuffStatus.obtain(0.1f, LASTING));
+            afflicted.addStatus(ConfuseStatus.obtain(0.1f, LASTING));
+            afflicted.addStatus(FlatDamageBuffStatus.obtain(5, LASTING));
+        }
+    }
+
+    private static Card card(String name) {
+        return new Card(name, HEALTH, new ArrayList<Skill>(), CardType.DIVINE, CardPantheon.GREEK, "cards/none.png");
+    }
+
+    @Benchmark
+    public int damageSkill() {
+        strike.apply(attacker, target, random);
+        int health = target.getHealth();
+        target.setHealth(HEALTH);
+        return health;
+    }
+
+    @Benchmark
+    public int startOfTurnStatuses() {
+        afflicted.applyStartOfTurnStatuses();
+        int health = afflicted.getHealth();
+        afflicted.setHealth(HEALTH);
+        return health;
+    }
+}
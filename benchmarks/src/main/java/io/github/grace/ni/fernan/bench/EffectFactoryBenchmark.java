@@ -0,0 +1,46 @@
+package io.github.grace.ni.fernan.bench;
+
+import io.github.grace.ni.fernan.CardSystem;
+import io.github.grace.ni.fernan.EffectFactory;
+import io.github.grace.ni.fernan.SkillEffect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Turning one parsed effect entry into its {@link SkillEffect}, per effect type. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EffectFactoryBenchmark {
+    @Param({"Damage", "Poison", "Stun", "DamageMod", "FlatDamageBuff", "Cleanse"})
+    public String type;
+
+    private CardSystem.CardData.EffectData data;
+
+    @Setup
+    public void setUp() {
+        data = new CardSystem.CardData.EffectData();
+        data.type = type;
+        data.amount = 20;
+        data.duration = 2;
+        data.percent = 0.25f;
+    }
+
+    @Benchmark
+    public SkillEffect create() {
+        return EffectFactory.create(data);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.grace.ni.fernan.bench;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Sets up {@code Gdx.files} and {@code Gdx.app} for benchmarks whose code reads assets or logs. The application
+ * never renders: with no update rate its thread creates the empty listener and ends, leaving the statics set.
+ */
+final class Headless {
+    private static boolean started;
+
+    private Headless() {}
+
+    static synchronized void start() {
+        if (started) return;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+        started = true;
+    }
+}
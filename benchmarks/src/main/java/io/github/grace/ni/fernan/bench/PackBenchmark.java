@@ -0,0 +1,66 @@
+package io.github.grace.ni.fernan.bench;
+
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.PackOpenScreenFernan.PackType;
+import io.github.grace.ni.fernan.PackOpening;
+import io.github.grace.ni.fernan.PackSampler;
+import io.github.grace.ni.fernan.SaveProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Drawing one pack card, and opening {@code packs} packs into a profile's collection in one batch. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PackBenchmark {
+    @Param({"GOD_DIVINE", "ARTIFACT_ITEM", "GENERIC"})
+    public PackType type;
+
+    @Param({"10", "1000"})
+    public int packs;
+
+    private final GameRandom random = new GameRandom(42);
+    private PackSampler sampler;
+    private SaveProfile profile;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        sampler = PackSampler.get();
+    }
+
+    /** A fresh collection each iteration, so copy counts stay small. */
+    @Setup(Level.Iteration)
+    public void newProfile() {
+        profile = new SaveProfile();
+    }
+
+    @Benchmark
+    public int draw() {
+        return sampler.drawOrdinal(type, random);
+    }
+
+    @Benchmark
+    public PackOpening.Result open() {
+        // GENERIC packs are never stocked, so open the shop's GOD_DIVINE packs with its table instead.
+        PackType stocked = type == PackType.GENERIC ? PackType.GOD_DIVINE : type;
+        profile.godDivinePacks = packs;
+        profile.artifactItemPacks = packs;
+        return PackOpening.open(profile, stocked, packs, sampler, random);
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.grace.ni.fernan.bench;
+
+import io.github.grace.ni.fernan.CardCatalog;
+import io.github.grace.ni.fernan.CardSystem;
+import io.github.grace.ni.fernan.DeckSelectionScreen;
+import io.github.grace.ni.fernan.SaveProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading a profile with {@code decks} decks of {@value #DECK_SIZE} cards and the whole catalog
+ * collected, i.e. a save late in a run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SaveProfileBenchmark {
+    static final int DECK_SIZE = 10;
+
+    @Param({"1", "5", "20"})
+    public int decks;
+
+    private SaveProfile profile;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        List<CardSystem.Card> all = CardCatalog.get().getAll();
+        profile = new SaveProfile();
+        profile.saveName = "bench";
+        profile.currentMapId = "n12";
+        profile.gachaCurrency = 1234;
+        for (int d = 0; d < decks; d++) {
+            List<CardSystem.Card> cards = new ArrayList<>();
+            for (int i = 0; i < DECK_SIZE; i++) {
+                cards.add(all.get((d * DECK_SIZE + i) % all.size()));
+            }
+            profile.decks.add(new DeckSelectionScreen.Deck("Deck " + d, cards));
+        }
+        for (CardSystem.Card card : all) {
+            profile.addToCollection(card);
+        }
+        json = profile.toJson();
+    }
+
+    @Benchmark
+    public String toJson() {
+        return profile.toJson();
+    }
+
+    @Benchmark
+    public SaveProfile fromJson() {
+        return SaveProfile.fromJson(json);
+    }
+}
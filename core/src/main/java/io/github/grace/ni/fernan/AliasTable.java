@@ -0,0 +1,81 @@
+package io.github.grace.ni.fernan;
+
+/**
+ * Draws outcomes {@code 0..n-1} with fixed weights in O(1), using Walker's alias method (Vose's construction).
+ * Building the table is O(n); drawing costs two random numbers and allocates nothing.
+ * <p>
+ * Each of the n columns holds an outcome that is kept with probability {@code keep[i]} and otherwise swapped for its
+ * {@code alias[i]}. Outcomes with weight 0 are never drawn.
+ */
+public final class AliasTable {
+    private final int[] outcome;
+    private final int[] alias;
+    private final double[] keep;
+    private final double[] probability;
+
+    /** @param weights non-negative weights, at least one of them positive; they need not sum to 1 */
+    public AliasTable(double[] weights) {
+        double total = 0;
+        int n = 0;
+        for (double w : weights) {
+            if (w < 0 || Double.isNaN(w) || Double.isInfinite(w)) throw new IllegalArgumentException("Bad weight: " + w);
+            if (w > 0) n++;
+            total += w;
+        }
+        if (n == 0) throw new IllegalArgumentException("No positive weights");
+
+        probability = new double[weights.length];
+        outcome = new int[n];
+        alias = new int[n];
+        keep = new double[n];
+        // Scaled so the average column holds exactly 1.
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for (int i = 0, c = 0; i < weights.length; i++) {
+            probability[i] = weights[i] / total;
+            if (weights[i] == 0) continue;
+            outcome[c] = i;
+            scaled[c] = probability[i] * n;
+            if (scaled[c] < 1) small[smallCount++] = c;
+            else large[largeCount++] = c;
+            c++;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            keep[s] = scaled[s];
+            alias[s] = outcome[l];
+            scaled[l] -= 1 - scaled[s];
+            if (scaled[l] < 1) small[smallCount++] = l;
+            else large[largeCount++] = l;
+        }
+        // Whatever is left is 1 up to rounding.
+        while (largeCount > 0) {
+            int l = large[--largeCount];
+            keep[l] = 1;
+            alias[l] = outcome[l];
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            keep[s] = 1;
+            alias[s] = outcome[s];
+        }
+    }
+
+    public int draw(GameRandom random) {
+        int column = random.nextInt(keep.length);
+        return random.nextDouble() < keep[column] ? outcome[column] : alias[column];
+    }
+
+    /** The number of outcomes, including those with weight 0. */
+    public int size() {
+        return probability.length;
+    }
+
+    /** The chance of drawing {@code outcome}, i.e. its share of the total weight. */
+    public double probability(int outcome) {
+        return probability[outcome];
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.grace.ni.fernan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The textures a screen needs before its first frame. The screen before it hands the manifest to
+ * {@link TextureCache#preload} so they decode while that screen is still showing, and building the next one
+ * finds them already loaded.
+ */
+public final class AssetManifest {
+    private final List<String> textures = new ArrayList<>();
+    private final List<TextureCache.Tier> atlases = new ArrayList<>();
+
+    public AssetManifest texture(String... paths) {
+        Collections.addAll(textures, paths);
+        return this;
+    }
+
+    public AssetManifest atlas(TextureCache.Tier... tiers) {
+        Collections.addAll(atlases, tiers);
+        return this;
+    }
+
+    public List<String> getTextures() {
+        return Collections.unmodifiableList(textures);
+    }
+
+    public List<TextureCache.Tier> getAtlases() {
+        return Collections.unmodifiableList(atlases);
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.utils.Array;
+import io.github.grace.ni.fernan.battle.BattleLog;
+
+import java.util.Arrays;
+
+/**
+ * Battle log widget for a {@link com.badlogic.gdx.scenes.scene2d.ui.ScrollPane}.
+ * Messages are word-wrapped once when added and kept as fixed-height rows in a {@link BattleLog},
+ * and only the rows inside the scroll pane's culling area are drawn, through a few reused labels.
+ * Adding a message costs the same on round 1 and round 100.
+ */
+public class BattleLogView extends Widget implements Cullable {
+    public static final int KIND_INFO = 0;
+    public static final int KIND_WARNING = 1;
+
+    private static final float ROW_PAD = 2f;
+
+    private final BattleLog rows;
+    private final BitmapFont font;
+    private final float fontScale;
+    private final float wrapWidth;
+    private final float rowHeight;
+    private final Label.LabelStyle infoStyle;
+    private final Label.LabelStyle warningStyle;
+    private final GlyphLayout measure = new GlyphLayout();
+    private final StringBuilder line = new StringBuilder();
+
+    /** Labels reused for whichever rows are visible; shown[i] is the sequence number of the row labels[i] shows. */
+    private final Array<Label> labels = new Array<>();
+    private long[] shown = new long[0];
+    private Rectangle cullingArea;
+
+    /**
+     * @param capacity  rows kept before the oldest are dropped
+     * @param wrapWidth width messages are wrapped to, in the same units as the stage
+     */
+    public BattleLogView(BitmapFont font, float fontScale, float wrapWidth, int capacity) {
+        this.rows = new BattleLog(capacity);
+        this.font = font;
+        this.fontScale = fontScale;
+        this.wrapWidth = wrapWidth;
+        this.rowHeight = font.getLineHeight() / font.getData().scaleY * fontScale + ROW_PAD;
+        this.infoStyle = new Label.LabelStyle(font, Color.LIGHT_GRAY);
+        this.warningStyle = new Label.LabelStyle(font, Color.ORANGE);
+    }
+
+    public void add(String message, int kind) {
+        if (message == null) return;
+        float scale = fontScale / font.getData().scaleX;
+        line.setLength(0);
+        int start = 0;
+        int length = message.length();
+        while (start < length) {
+            int end = message.indexOf(' ', start);
+            if (end < 0) end = length;
+            int mark = line.length();
+            if (mark > 0) line.append(' ');
+            line.append(message, start, end);
+            measure.setText(font, line);
+            if (measure.width * scale > wrapWidth && mark > 0) {
+                line.setLength(mark);
+                rows.add(line.toString(), kind);
+                line.setLength(0);
+                line.append(message, start, end);
+            }
+            start = end + 1;
+        }
+        if (line.length() > 0) rows.add(line.toString(), kind);
+        invalidateHierarchy();
+    }
+
+    public void clear() {
+        rows.clear();
+        invalidateHierarchy();
+    }
+
+    @Override
+    public float getPrefWidth() {
+        return wrapWidth;
+    }
+
+    @Override
+    public float getPrefHeight() {
+        return rows.size() * rowHeight;
+    }
+
+    @Override
+    public void setCullingArea(Rectangle cullingArea) {
+        this.cullingArea = cullingArea;
+    }
+
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        validate();
+        int count = rows.size();
+        if (count == 0) return;
+        // Row 0 is the oldest and sits at the top; y grows upwards.
+        float height = getHeight();
+        int first = 0;
+        int last = count - 1;
+        if (cullingArea != null) {
+            first = Math.max(0, (int) ((height - cullingArea.y - cullingArea.height) / rowHeight));
+            last = Math.min(count - 1, (int) ((height - cullingArea.y) / rowHeight));
+        }
+        int visible = last - first + 1;
+        if (visible <= 0) return;
+        ensureLabels(visible);
+        for (int i = 0; i < visible; i++) {
+            int row = first + i;
+            Label label = labels.get(i);
+            long sequence = rows.getSequence(row);
+            if (shown[i] != sequence) {
+                label.setStyle(rows.getKind(row) == KIND_WARNING ? warningStyle : infoStyle);
+                label.setText(rows.getLine(row));
+                shown[i] = sequence;
+            }
+            label.setBounds(getX(), getY() + height - (row + 1) * rowHeight, getWidth(), rowHeight);
+            label.draw(batch, parentAlpha * getColor().a);
+        }
+    }
+
+    private void ensureLabels(int count) {
+        if (labels.size >= count) return;
+        while (labels.size < count) {
+            Label label = new Label("", infoStyle);
+            label.setFontScale(fontScale);
+            label.setEllipsis(true);
+            labels.add(label);
+        }
+        shown = new long[count];
+        Arrays.fill(shown, -1);
+    }
+}
@@ -5,8 +5,6 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -14,21 +12,26 @@ import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import io.github.grace.ni.fernan.battle.BattleEngine;
+import io.github.grace.ni.fernan.battle.BattleListener;
+import io.github.grace.ni.fernan.battle.BattleState;
+import io.github.grace.ni.fernan.battle.EnemyPolicy;
+import io.github.grace.ni.fernan.battle.EnemyTurnPlanner;
+import io.github.grace.ni.fernan.battle.MctsEnemyPolicy;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Collections;
+import java.util.Map;
 
-public class BattleScreen implements Screen {
-    private static final int STARTING_HAND = 5;
-    private static final int MAX_ACTIVE_DEATHS = 5;
-    private static final int MAX_FAITH = 10;
-    private static final int MAX_BENCH_SLOTS = 3;
+public class BattleScreen implements Screen, BattleListener {
+    private static final int MAX_BENCH_SLOTS = BattleEngine.MAX_BENCH_SLOTS;
+    private static final long MINIBOSS_THINK_MS = 150;
+    private static final long BOSS_THINK_MS = 400;
 
     private final FernansGrace game;
     private final ConvergingMapScreen mapScreen;
@@ -38,17 +41,10 @@ public class BattleScreen implements Screen {
     public static final float VIRTUAL_WIDTH = 1600f;
     public static final float VIRTUAL_HEIGHT = 900f;
 
-    private List<CardSystem.Card> playerDeck;
-    private List<CardSystem.Card> playerHand;
-    private List<CardSystem.Card> playerBench;
-    private List<CardSystem.Card> playerGraveyard;
-    private CardSystem.Card playerActive;
-    private int activeDeathCount = 0;
-    private int playerFaith = 1;
-
-    private CardSystem.Card enemyActive;
-    private boolean playerTurn = true;
-    private boolean battleEnded = false; // Flag to prevent further actions after battle ends
+    private final BattleState state;
+    private final BattleEngine engine;
+    private final EnemyTurnPlanner enemyPlanner = new EnemyTurnPlanner();
+    private final TextureCache.Lease textures;
 
     private Stage stage;
     private Skin skin;
@@ -65,13 +61,22 @@ public class BattleScreen implements Screen {
     private Label roundLabel, faithLabel, deathCountLabel, deckCountLabel;
     private Stack enemyStack, activeStack;
     private Label enemyHpLabel, activeHpLabel;
-    private int roundNumber = 1;
 
     private Table skillsAndEndTable;
     private TextButton endTurnBtn;
 
     private Table graveTable;
-    private Table logTable;
+    private BattleLogView logView;
+
+    // Widgets the battle events patch in place.
+    private final Map<CardSystem.Card, Actor> handButtons = new IdentityHashMap<>();
+    private final Map<CardSystem.Card, Label> benchHpLabels = new IdentityHashMap<>();
+    private final List<TextButton> skillButtons = new ArrayList<>();
+    private final List<CardSystem.Skill> skillButtonSkills = new ArrayList<>();
+
+    // Modules to update on the next frame; several events in one action update each only once.
+    private static final int DIRTY_ACTIVE = 1, DIRTY_BENCH = 2, DIRTY_GRAVE = 4, DIRTY_DECK = 8, DIRTY_SKILLS = 16;
+    private int dirtyModules;
 
     private final float CARD_WIDTH_ACTIVE_V = VIRTUAL_WIDTH * 0.16f;
     private final float CARD_HEIGHT_ACTIVE_V = CARD_WIDTH_ACTIVE_V * 1.4f;
@@ -90,6 +95,12 @@ public class BattleScreen implements Screen {
     private final float LOG_FONT_SCALE_V = 1.2f * (VIRTUAL_WIDTH / 1600f);
     private final float DIALOG_TEXT_FONT_SCALE_V = 2.4f * (VIRTUAL_WIDTH / 1600f);
     private final float DIALOG_BUTTON_FONT_SCALE_V = 2.4f * (VIRTUAL_WIDTH / 1600f);
+    private static final int LOG_CAPACITY_ROWS = 300;
+
+    /** What the constructor loads; the map preloads it while the player picks a node. */
+    static final AssetManifest MANIFEST = new AssetManifest()
+        .texture("ui/battlebackground.png", "ui/back_card.png", TextureCache.PLACEHOLDER)
+        .atlas(TextureCache.Tier.THUMB, TextureCache.Tier.FULL);
 
 
     public BattleScreen(FernansGrace game, ConvergingMapScreen mapScreen, SaveProfile profile, ConvergingMapScreen.Node battleNode) {
@@ -97,13 +108,14 @@ public class BattleScreen implements Screen {
         this.mapScreen = mapScreen;
         this.profile = profile;
         this.battleNode = battleNode;
+        this.textures = game.textures.lease();
 
         this.stage = new Stage(new FitViewport(VIRTUAL_WIDTH, VIRTUAL_HEIGHT));
         Gdx.input.setInputProcessor(this.stage);
 
-        this.skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
-        this.font = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
-        this.logTable = new Table(skin);
+        this.skin = game.assets.skin();
+        this.font = game.assets.font("ui/smalligator_white.fnt");
+        this.logView = new BattleLogView(font, LOG_FONT_SCALE_V, LOG_MENU_WIDTH_V * 0.92f, LOG_CAPACITY_ROWS);
 
         DeckSelectionScreen.Deck activeDeck = null;
         if (profile != null && profile.decks != null && !profile.decks.isEmpty()) {
@@ -112,10 +124,10 @@ public class BattleScreen implements Screen {
                 .orElse(profile.decks.get(0));
         }
 
+        List<CardSystem.Card> playerDeck = new ArrayList<>();
         if (activeDeck == null || activeDeck.getCards().isEmpty()) {
             logSafe("CRITICAL: No active deck or empty. Using placeholder deck.");
-            playerDeck = new ArrayList<>();
-            List<CardSystem.Card> allCardsFallback = CardSystem.loadCardsFromJson();
+            List<CardSystem.Card> allCardsFallback = CardCatalog.get().getAll();
             if (!allCardsFallback.isEmpty()) {
                 for (int i = 0; i < Math.min(5, allCardsFallback.size()); i++) {
                     playerDeck.add(new CardSystem.Card(allCardsFallback.get(i)));
@@ -127,96 +139,94 @@ public class BattleScreen implements Screen {
                 logSafe("CRITICAL: cards.json seems empty or unloadable for fallback deck creation.");
             }
         } else {
-            playerDeck = new ArrayList<>();
             for(CardSystem.Card cardData : activeDeck.getCards()){
                 playerDeck.add(new CardSystem.Card(cardData));
             }
         }
-        Collections.shuffle(playerDeck);
 
-        playerHand = new ArrayList<>();
-        playerBench = new ArrayList<>();
-        playerGraveyard = new ArrayList<>();
-        playerActive = null;
+        GameRandom battleRandom = game.random.split();
+        this.state = new BattleState(playerDeck, selectEnemy(battleRandom), battleRandom);
+        this.engine = new BattleEngine(state, this, enemyPolicyFor(battleNode));
 
         buildUI();
-        drawCards(STARTING_HAND);
+        engine.start();
+
+        updateEnemyStack();
+        refreshAll();
+        log("Battle started against " + (state.getEnemyActive() != null ? state.getEnemyActive().getName() : "Unknown Enemy") + ". Select a creature from your hand to make it active.");
+    }
+
+    /** Bosses think longer per move, so they play better. */
+    private static EnemyPolicy enemyPolicyFor(ConvergingMapScreen.Node node) {
+        if (node == null) return EnemyPolicy.RANDOM;
+        switch (node.type) {
+            case MINIBOSS: return new MctsEnemyPolicy(MINIBOSS_THINK_MS);
+            case BOSS:     return new MctsEnemyPolicy(BOSS_THINK_MS);
+            default:       return EnemyPolicy.RANDOM;
+        }
+    }
 
-        List<CardSystem.Card> allCardsMasterList = CardSystem.loadCardsFromJson();
+    private CardSystem.Card selectEnemy(GameRandom random) {
+        CardCatalog catalog = CardCatalog.get();
+        List<CardSystem.Card> allCardsMasterList = catalog.getAll();
         if (allCardsMasterList.isEmpty()) {
             logSafe("CRITICAL ERROR: No cards loaded from cards.json. Cannot select an enemy.");
-            this.enemyActive = new CardSystem.Card("Fallback Enemy", 30, new ArrayList<>(), CardSystem.CardType.DIVINE, CardSystem.CardPantheon.NONE, "ui/card_slot_empty.png");
-        } else {
-            String enemyName = null;
-            CardSystem.Card tempEnemy = null;
-
-            if (this.battleNode != null) {
-                switch (this.battleNode.type) {
-                    case COMBAT:   enemyName = "Cerberus"; break;
-                    case MINIBOSS: enemyName = "Medusa";   break;
-                    case BOSS:     enemyName = "Minotaur"; break;
-                    default:
-                        logSafe("Warning: Battle for non-combat node type (" + this.battleNode.type + "). Picking random enemy.");
-                        if (!allCardsMasterList.isEmpty()) {
-                            tempEnemy = allCardsMasterList.get(MathUtils.random(allCardsMasterList.size() - 1));
-                        }
-                        break;
-                }
-            } else {
-                logSafe("CRITICAL: battleNode is null. Picking random enemy.");
-                if (!allCardsMasterList.isEmpty()) {
-                    tempEnemy = allCardsMasterList.get(MathUtils.random(allCardsMasterList.size() - 1));
-                }
-            }
+            return new CardSystem.Card("Fallback Enemy", 30, new ArrayList<>(), CardSystem.CardType.DIVINE, CardSystem.CardPantheon.NONE, "ui/card_slot_empty.png");
+        }
 
-            if (enemyName != null && tempEnemy == null) {
-                final String finalEnemyName = enemyName;
-                tempEnemy = allCardsMasterList.stream()
-                    .filter(card -> finalEnemyName.equals(card.getName()))
-                    .findFirst()
-                    .orElse(null);
-
-                if (tempEnemy == null) {
-                    logSafe("CRITICAL: Specified enemy '" + enemyName + "' not found. Picking random enemy.");
-                    if (!allCardsMasterList.isEmpty()) {
-                        tempEnemy = allCardsMasterList.get(MathUtils.random(allCardsMasterList.size() - 1));
-                    }
-                }
+        String enemyName = null;
+        CardSystem.Card tempEnemy = null;
+
+        if (this.battleNode != null) {
+            switch (this.battleNode.type) {
+                case COMBAT:   enemyName = "Cerberus"; break;
+                case MINIBOSS: enemyName = "Medusa";   break;
+                case BOSS:     enemyName = "Minotaur"; break;
+                default:
+                    logSafe("Warning: Battle for non-combat node type (" + this.battleNode.type + "). Picking random enemy.");
+                    tempEnemy = random.pick(allCardsMasterList);
+                    break;
             }
+        } else {
+            logSafe("CRITICAL: battleNode is null. Picking random enemy.");
+            tempEnemy = random.pick(allCardsMasterList);
+        }
+
+        if (enemyName != null && tempEnemy == null) {
+            tempEnemy = catalog.byName(enemyName);
 
             if (tempEnemy == null) {
-                logSafe("CRITICAL: Could not select an enemy. Using a hardcoded fallback.");
-                this.enemyActive = new CardSystem.Card("Ultimate Fallback Enemy", 10, new ArrayList<>(), CardSystem.CardType.DIVINE, CardSystem.CardPantheon.NONE, "ui/card_slot_empty.png");
-            } else {
-                this.enemyActive = new CardSystem.Card(tempEnemy);
+                logSafe("CRITICAL: Specified enemy '" + enemyName + "' not found. Picking random enemy.");
+                tempEnemy = random.pick(allCardsMasterList);
             }
+        }
 
-            if (this.enemyActive != null && this.enemyActive.getHealth() <= 0 &&
-                this.enemyActive.getType() != CardSystem.CardType.ITEM &&
-                this.enemyActive.getType() != CardSystem.CardType.ARTIFACT) {
-
-                CardSystem.Card originalCardData = allCardsMasterList.stream()
-                    .filter(c -> this.enemyActive.getName().equals(c.getName()) &&
-                        this.enemyActive.getPantheon() == c.getPantheon() &&
-                        this.enemyActive.getType() == c.getType())
-                    .findFirst().orElse(null);
-                if (originalCardData != null && originalCardData.getHealth() > 0) {
-                    this.enemyActive.setHealth(originalCardData.getHealth());
-                } else {
-                    this.enemyActive.setHealth(90);
-                }
-                logSafe("Adjusted health for " + this.enemyActive.getName() + " to " + this.enemyActive.getHealth());
+        CardSystem.Card enemy;
+        if (tempEnemy == null) {
+            logSafe("CRITICAL: Could not select an enemy. Using a hardcoded fallback.");
+            enemy = new CardSystem.Card("Ultimate Fallback Enemy", 10, new ArrayList<>(), CardSystem.CardType.DIVINE, CardSystem.CardPantheon.NONE, "ui/card_slot_empty.png");
+        } else {
+            enemy = new CardSystem.Card(tempEnemy);
+        }
+
+        if (enemy.getHealth() <= 0 &&
+            enemy.getType() != CardSystem.CardType.ITEM &&
+            enemy.getType() != CardSystem.CardType.ARTIFACT) {
+
+            CardSystem.Card originalCardData = catalog.byUniqueId(enemy.getUniqueId());
+            if (originalCardData != null && originalCardData.getHealth() > 0) {
+                enemy.setHealth(originalCardData.getHealth());
+            } else {
+                enemy.setHealth(90);
             }
+            logSafe("Adjusted health for " + enemy.getName() + " to " + enemy.getHealth());
         }
-        updateEnemyStack();
-        refreshAll();
-        log("Battle started against " + (enemyActive != null ? enemyActive.getName() : "Unknown Enemy") + ". Select a creature from your hand to make it active.");
+        return enemy;
     }
 
     @Override
     public void show() {
         Gdx.input.setInputProcessor(stage);
-        battleEnded = false; // Reset battle ended flag when screen is shown
     }
 
     @Override
@@ -224,18 +234,9 @@ public class BattleScreen implements Screen {
     }
 
     private void logSafe(String message) {
-        if (this.font != null && this.logTable != null && this.skin != null) {
-            Label lbl = new Label(message, new Label.LabelStyle(font, Color.ORANGE));
-            lbl.setFontScale(LOG_FONT_SCALE_V);
-            lbl.setWrap(true);
-            float logWidth = LOG_MENU_WIDTH_V * 0.92f;
-            this.logTable.add(lbl).width(logWidth).left().padTop(2);
-            this.logTable.row();
-            this.logTable.layout();
-            if (this.logScroll != null) {
-                this.logScroll.layout();
-                this.logScroll.scrollTo(0, 0, 0, 0);
-            }
+        if (this.logView != null) {
+            this.logView.add(message, BattleLogView.KIND_WARNING);
+            scrollLogToBottom();
         } else {
             Gdx.app.log("BattleScreen (SafeLog)", message);
         }
@@ -245,7 +246,7 @@ public class BattleScreen implements Screen {
         if (root == null) {
             root = new Table(skin);
             root.setFillParent(true);
-            Image backgroundImage = new Image(new Texture(Gdx.files.internal("ui/battlebackground.png")));
+            Image backgroundImage = new Image(textures.get("ui/battlebackground.png"));
             backgroundImage.setFillParent(true);
             backgroundImage.setScaling(Scaling.fill);
             stage.addActor(backgroundImage);
@@ -257,9 +258,9 @@ public class BattleScreen implements Screen {
 
 
         topHudTable = new Table(skin);
-        roundLabel = new Label("Round " + roundNumber, new Label.LabelStyle(font, Color.YELLOW));
-        faithLabel = new Label("Faith: " + playerFaith, new Label.LabelStyle(font, Color.CYAN));
-        deathCountLabel = new Label("Lives: " + (MAX_ACTIVE_DEATHS - activeDeathCount), new Label.LabelStyle(font, Color.RED));
+        roundLabel = new Label("Round " + state.getRoundNumber(), new Label.LabelStyle(font, Color.YELLOW));
+        faithLabel = new Label("Faith: " + state.getFaith(), new Label.LabelStyle(font, Color.CYAN));
+        deathCountLabel = new Label("Lives: " + state.getLivesLeft(), new Label.LabelStyle(font, Color.RED));
         roundLabel.setFontScale(HUD_FONT_SCALE_V);
         faithLabel.setFontScale(HUD_FONT_SCALE_V);
         deathCountLabel.setFontScale(HUD_FONT_SCALE_V);
@@ -268,9 +269,10 @@ public class BattleScreen implements Screen {
         topHudTable.add(faithLabel).pad(VIRTUAL_HEIGHT * 0.005f).expandX().center();
         topHudTable.add(deathCountLabel).pad(VIRTUAL_HEIGHT * 0.005f).expandX().right();
 
+        CardSystem.Card enemyActive = state.getEnemyActive();
         String enemyImgPath = (enemyActive != null && enemyActive.getImagePath() != null) ? enemyActive.getImagePath() : "ui/card_slot_empty.png";
         int enemyHp = (enemyActive != null) ? enemyActive.getHealth() : 0;
-        enemyStack = createCardStack(enemyImgPath, enemyHp, CARD_WIDTH_ACTIVE_V, CARD_HEIGHT_ACTIVE_V);
+        enemyStack = createCardStack(enemyImgPath, enemyHp, CARD_WIDTH_ACTIVE_V, CARD_HEIGHT_ACTIVE_V, TextureCache.Tier.FULL);
 
         if (enemyStack.getChildren().size > 1 && enemyStack.getChildren().get(1) instanceof Table) {
             Table enemyOverlayTable = (Table) enemyStack.getChildren().get(1);
@@ -280,7 +282,7 @@ public class BattleScreen implements Screen {
         } else { enemyHpLabel = new Label("0", new Label.LabelStyle(font, Color.WHITE)); logSafe("Warning: enemyStack overlay table not found or structured as expected during buildUI."); }
 
 
-        activeStack = createCardStack("ui/card_slot_empty.png", 0, CARD_WIDTH_ACTIVE_V, CARD_HEIGHT_ACTIVE_V);
+        activeStack = createCardStack("ui/card_slot_empty.png", 0, CARD_WIDTH_ACTIVE_V, CARD_HEIGHT_ACTIVE_V, TextureCache.Tier.FULL);
 
         if (activeStack.getChildren().size > 1 && activeStack.getChildren().get(1) instanceof Table) {
             Table activeOverlayTable = (Table) activeStack.getChildren().get(1);
@@ -293,11 +295,13 @@ public class BattleScreen implements Screen {
         benchTable = new Table(skin);
         benchContainer = new Container<>(benchTable);
 
-        deckCountLabel = new Label("Deck: " + (playerDeck != null ? playerDeck.size() : 0), new Label.LabelStyle(font, Color.WHITE));
+        deckCountLabel = new Label("Deck: " + state.getDeck().size(), new Label.LabelStyle(font, Color.WHITE));
         deckCountLabel.setFontScale(HUD_FONT_SCALE_V * 0.9f);
         deckAndGraveTable = new Table(skin);
 
         handTable = new Table(skin);
+        handTable.left().bottom();
+        handTable.defaults().size(CARD_WIDTH_BENCH_HAND_V, CARD_HEIGHT_BENCH_HAND_V).pad(VIRTUAL_WIDTH * 0.005f);
         handScroll = new ScrollPane(handTable, skin);
         handScroll.setFadeScrollBars(false);
         handScroll.setScrollingDisabled(true, false);
@@ -309,46 +313,15 @@ public class BattleScreen implements Screen {
         endTurnBtn = new TextButton("End Turn", skin);
         endTurnBtn.addListener(new ClickListener() {
             @Override public void clicked(InputEvent event, float x, float y) {
-                if (battleEnded || !playerTurn) return; // Check battleEnded flag
-                if (playerActive == null && (playerHand != null && !playerHand.isEmpty()) && (playerBench != null && !playerBench.isEmpty())) {
-                    boolean canMakeActive = false;
-                    if (playerHand != null) {
-                        for (CardSystem.Card card : playerHand) {
-                            if (card.getType() == CardSystem.CardType.GOD || card.getType() == CardSystem.CardType.DIVINE) {
-                                canMakeActive = true; break;
-                            }
-                        }
-                    }
-                    if (!canMakeActive && playerBench != null) {
-                        for (CardSystem.Card card : playerBench) {
-                            if (card.getType() == CardSystem.CardType.GOD || card.getType() == CardSystem.CardType.DIVINE) {
-                                canMakeActive = true; break;
-                            }
-                        }
-                    }
-                    if (canMakeActive) {
-                        log("Please set an active card before ending the turn.");
-                    } else {
-                        log("No playable active card. Player ends turn.");
-                        endPlayerTurnActions();
-                    }
-                } else if (playerActive == null && (playerHand == null || playerHand.isEmpty()) && (playerDeck == null || playerDeck.isEmpty()) && (playerBench == null || playerBench.isEmpty())) {
-                    log("No cards left to play or in deck/bench. Player ends turn.");
-                    endPlayerTurnActions();
-                }
-                else if (playerActive == null) {
-                    log("Cannot end turn: no active card. Please play a card from your hand or bench.");
-                }
-                else {
-                    log("Player ends turn.");
-                    endPlayerTurnActions();
+                if (state.isEnded() || !state.isPlayerTurn()) return;
+                if (engine.endPlayerTurn() && engine.isEnemyMoveDue()) {
+                    enemyPlanner.plan(engine, engine::playEnemyTurn);
                 }
             }
         });
 
 
-        if (this.logTable == null) this.logTable = new Table(skin);
-        logScroll = new ScrollPane(this.logTable, skin);
+        logScroll = new ScrollPane(this.logView, skin);
         logScroll.setFadeScrollBars(false);
         logScroll.setScrollingDisabled(false, false);
         logScroll.setForceScroll(false, true);
@@ -381,60 +354,46 @@ public class BattleScreen implements Screen {
     }
 
     private void log(String msg) {
-        if (font == null || this.logTable == null || this.logScroll == null || skin == null) {
+        if (this.logView == null || this.logScroll == null) {
             System.out.println("Log (UI not ready): " + msg);
             return;
         }
-        Label lbl = new Label(msg, new Label.LabelStyle(font, Color.LIGHT_GRAY));
-        lbl.setFontScale(LOG_FONT_SCALE_V);
-        lbl.setWrap(true);
-        float actualLogContentWidth = LOG_MENU_WIDTH_V * 0.92f;
-        this.logTable.add(lbl).width(actualLogContentWidth).left().padTop(2);
-        this.logTable.row();
-
-        this.logTable.layout();
-        this.logScroll.layout();
-        this.logScroll.scrollTo(0, 0, 0, 0);
+        this.logView.add(msg, BattleLogView.KIND_INFO);
+        scrollLogToBottom();
     }
 
-    private void endPlayerTurnActions() {
-        if (battleEnded) return; // Don't proceed if battle has already concluded
-        playerTurn = false;
-        if (playerActive != null) playerActive.applyEndOfTurnStatuses();
-        if (playerBench != null) {
-            for (CardSystem.Card benchCard : playerBench) {
-                benchCard.applyEndOfTurnStatuses();
-            }
-        }
-        // Check for player defeat immediately after their end-of-turn effects (like poison)
-        if (!checkPlayerDefeated()) { // If player is not defeated
-            enemyTurn();
-        }
+    /** Lays out only the scroll pane and the log view, which is O(1) however long the log is. */
+    private void scrollLogToBottom() {
+        if (this.logScroll == null) return;
+        this.logScroll.layout();
+        this.logScroll.scrollTo(0, 0, 0, 0);
     }
 
-
+    /**
+     * Builds every module from the state. Only needed once; after that the {@link BattleListener}
+     * events below patch just what changed. The hand is kept up by the card-moved events from the start.
+     */
     private void refreshAllUIModules() {
         refreshSkillsAndEndTurnUI();
-        refreshHandUI();
         refreshBenchUI();
         refreshDeckAndGraveUI();
         updateActiveStack();
         updateEnemyStack();
-        if (deckCountLabel != null) deckCountLabel.setText("Deck: " + (playerDeck != null ? playerDeck.size() : 0) );
-        if (deathCountLabel != null) deathCountLabel.setText("Lives: " + (MAX_ACTIVE_DEATHS - activeDeathCount));
-        if (faithLabel != null) faithLabel.setText("Faith: " + playerFaith);
-        if (roundLabel != null) roundLabel.setText("Round " + roundNumber);
+        if (deckCountLabel != null) deckCountLabel.setText("Deck: " + state.getDeck().size());
+        if (deathCountLabel != null) deathCountLabel.setText("Lives: " + state.getLivesLeft());
+        if (faithLabel != null) faithLabel.setText("Faith: " + state.getFaith());
+        if (roundLabel != null) roundLabel.setText("Round " + state.getRoundNumber());
     }
 
 
-    private Stack createCardStack(String imgPath, int hp, float width, float height) {
+    private Stack createCardStack(String imgPath, int hp, float width, float height, TextureCache.Tier tier) {
         Stack stack = new Stack();
         Image img;
         try {
-            img = new Image(new Texture(Gdx.files.internal(imgPath)));
+            img = new Image(textures.drawable(imgPath, tier));
         } catch (Exception e) {
             logSafe("Error loading texture: " + imgPath + ". Using placeholder.");
-            img = new Image(new Texture(Gdx.files.internal("ui/card_slot_empty.png")));
+            img = new Image(textures.get(TextureCache.PLACEHOLDER));
         }
         img.setScaling(Scaling.fit);
 
@@ -465,9 +424,12 @@ public class BattleScreen implements Screen {
 
     private void refreshSkillsAndEndTurnUI() {
         skillsAndEndTable.clear();
+        skillButtons.clear();
+        skillButtonSkills.clear();
         skillsAndEndTable.defaults().pad(VIRTUAL_HEIGHT * 0.006f).fillX().width(ACTION_MENU_WIDTH_V - (VIRTUAL_WIDTH * 0.01f));
         skillsAndEndTable.top();
 
+        CardSystem.Card playerActive = state.getPlayerActive();
         if (playerActive != null) {
             List<CardSystem.Skill> skills = playerActive.getSkills();
             if (skills != null && !skills.isEmpty()) {
@@ -476,53 +438,18 @@ public class BattleScreen implements Screen {
                     skillButton.getLabel().setWrap(true);
                     skillButton.getLabel().setAlignment(Align.center);
                     skillButton.getLabel().setFontScale(SKILL_BUTTON_FONT_SCALE_V);
-
-                    if (battleEnded || !playerTurn || playerFaith < skill.getCost() || !playerActive.canUse()) {
-                        skillButton.setDisabled(true);
-                        skillButton.getLabel().setColor(Color.GRAY);
-                    } else {
-                        skillButton.getLabel().setColor(Color.WHITE);
-                    }
-
+                    skillButtons.add(skillButton);
+                    skillButtonSkills.add(skill);
 
                     skillButton.addListener(new ClickListener() {
                         @Override
                         public void clicked(InputEvent event, float x, float y) {
-                            if (battleEnded || !playerTurn || skillButton.isDisabled()) return;
+                            if (state.isEnded() || !state.isPlayerTurn() || skillButton.isDisabled()) return;
 
                             if ("Retreat".equals(skill.getName())) {
                                 showRetreatDialog();
                             } else {
-                                log("Player uses " + skill.getName() + " from " + playerActive.getName());
-                                playerActive.markUsed();
-                                int oldEnemyHp = (enemyActive != null) ? enemyActive.getHealth() : 0;
-                                int oldPlayerHp = playerActive.getHealth();
-
-                                skill.apply(playerActive, enemyActive);
-                                playerFaith -= skill.getCost();
-
-                                if (enemyActive != null && enemyActive.getHealth() != oldEnemyHp) {
-                                    log(enemyActive.getName() + " HP: " + oldEnemyHp + " -> " + enemyActive.getHealth());
-                                }
-                                if (playerActive.getHealth() != oldPlayerHp) { // Check if player card HP changed
-                                    log(playerActive.getName() + " HP: " + oldPlayerHp + " -> " + playerActive.getHealth());
-                                }
-                                // For items, check if they should be consumed (e.g., health reduced to 0 by a self-damage effect)
-                                if (playerActive.getType() == CardSystem.CardType.ITEM && playerActive.getHealth() <=0) {
-                                    playerActive.consume(); // This should handle moving to graveyard
-                                    log(playerActive.getName() + " was consumed.");
-                                    if (playerGraveyard != null) playerGraveyard.add(playerActive);
-                                    // playerActive = null; // Handled by checkPlayerDefeated
-                                }
-
-                                refreshAllUIModules(); // Refresh UI before defeat checks
-                                if (checkEnemyDefeated()) return; // If enemy defeated, battle ends.
-                                if (checkPlayerDefeated()) return; // If player defeated, battle ends.
-
-                                // If neither is defeated, and player's active card is still usable (e.g. artifact not used this turn)
-                                // We might refresh skills again, or the turn might end.
-                                // For simplicity, skill use usually means the card has acted.
-                                refreshSkillsAndEndTurnUI(); // Refresh skills in case some became available/unavailable
+                                engine.useSkill(skill);
                             }
                         }
                     });
@@ -539,97 +466,99 @@ public class BattleScreen implements Screen {
             skillsAndEndTable.add(noActiveLabel).center().row();
         }
         endTurnBtn.getLabel().setFontScale(SKILL_BUTTON_FONT_SCALE_V * 1.15f);
-        if (battleEnded || !playerTurn) { // Also disable if battle ended
+        skillsAndEndTable.add(endTurnBtn).padTop(VIRTUAL_HEIGHT * 0.015f).center().prefHeight(VIRTUAL_HEIGHT * 0.10f);
+        updateSkillButtons();
+    }
+
+    /** Enables and greys out the existing skill and End Turn buttons without rebuilding them. */
+    private void updateSkillButtons() {
+        for (int i = 0; i < skillButtons.size(); i++) {
+            TextButton skillButton = skillButtons.get(i);
+            boolean usable = engine.canUseSkill(skillButtonSkills.get(i));
+            skillButton.setDisabled(!usable);
+            skillButton.getLabel().setColor(usable ? Color.WHITE : Color.GRAY);
+        }
+        if (state.isEnded() || !state.isPlayerTurn()) {
             endTurnBtn.setDisabled(true);
             endTurnBtn.getLabel().setColor(Color.GRAY);
         } else {
             endTurnBtn.setDisabled(false);
             endTurnBtn.getLabel().setColor(Color.WHITE);
         }
-        skillsAndEndTable.add(endTurnBtn).padTop(VIRTUAL_HEIGHT * 0.015f).center().prefHeight(VIRTUAL_HEIGHT * 0.10f);
     }
 
-    private void refreshHandUI() {
-        handTable.clear();
-        handTable.left().bottom();
-        handTable.defaults().size(CARD_WIDTH_BENCH_HAND_V, CARD_HEIGHT_BENCH_HAND_V).pad(VIRTUAL_WIDTH * 0.005f);
-
-        if (playerHand == null) playerHand = new ArrayList<>();
-
-        for (final CardSystem.Card c : playerHand) {
-            ImageButton btn = new ImageButton(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal(c.getImagePath())))));
-            btn.getImageCell().grow();
-            btn.setTouchable(Touchable.enabled);
-            btn.addListener(new ClickListener() {
-                @Override public void clicked(InputEvent event, float x, float y) {
-                    if (battleEnded || !playerTurn) return;
-                    Dialog dialog = new Dialog("Play Card", skin) {
-                        @Override
-                        protected void result(Object object) {
-                            handleHandCard(c, object);
-                        }
-                    };
-                    Label textLabel = new Label("What to do with " + c.getName() + "?", skin);
-                    textLabel.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
-                    dialog.getContentTable().add(textLabel).pad(VIRTUAL_HEIGHT * 0.01f).row();
-
-                    dialog.button("Set Active", "active");
-                    dialog.button("To Bench", "bench");
-                    dialog.button("Cancel", false);
-
-                    Table buttonTable = dialog.getButtonTable();
-                    for (Cell cell : buttonTable.getCells()) {
-                        Actor actor = cell.getActor();
-                        if (actor instanceof TextButton) {
-                            ((TextButton) actor).getLabel().setFontScale(DIALOG_BUTTON_FONT_SCALE_V);
-                        }
+    private void addHandButton(final CardSystem.Card c) {
+        if (handTable == null || handButtons.containsKey(c)) return;
+        ImageButton btn = new ImageButton(textures.drawable(c.getImagePath(), TextureCache.Tier.THUMB));
+        btn.getImageCell().grow();
+        btn.setTouchable(Touchable.enabled);
+        btn.addListener(new ClickListener() {
+            @Override public void clicked(InputEvent event, float x, float y) {
+                if (state.isEnded() || !state.isPlayerTurn()) return;
+                Dialog dialog = new Dialog("Play Card", skin) {
+                    @Override
+                    protected void result(Object object) {
+                        handleHandCard(c, object);
+                    }
+                };
+                Label textLabel = new Label("What to do with " + c.getName() + "?", skin);
+                textLabel.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
+                dialog.getContentTable().add(textLabel).pad(VIRTUAL_HEIGHT * 0.01f).row();
+
+                dialog.button("Set Active", "active");
+                dialog.button("To Bench", "bench");
+                dialog.button("Cancel", false);
+
+                Table buttonTable = dialog.getButtonTable();
+                for (Cell cell : buttonTable.getCells()) {
+                    Actor actor = cell.getActor();
+                    if (actor instanceof TextButton) {
+                        ((TextButton) actor).getLabel().setFontScale(DIALOG_BUTTON_FONT_SCALE_V);
                     }
-                    dialog.pad(VIRTUAL_HEIGHT * 0.05f);
-                    buttonTable.padTop(VIRTUAL_HEIGHT * 0.02f);
-                    dialog.show(stage);
                 }
-            });
-            handTable.add(btn);
-        }
+                dialog.pad(VIRTUAL_HEIGHT * 0.05f);
+                buttonTable.padTop(VIRTUAL_HEIGHT * 0.02f);
+                dialog.show(stage);
+            }
+        });
+        handButtons.put(c, btn);
+        handTable.add(btn);
+    }
+
+    private void removeHandButton(CardSystem.Card c) {
+        Actor btn = handButtons.remove(c);
+        if (btn != null) handTable.removeActor(btn);
     }
 
     private void refreshBenchUI() {
         benchTable.clear();
+        benchHpLabels.clear();
         benchTable.left();
         benchTable.defaults().size(CARD_WIDTH_BENCH_HAND_V, CARD_HEIGHT_BENCH_HAND_V).pad(VIRTUAL_WIDTH * 0.005f);
-        Texture emptyTex = new Texture(Gdx.files.internal("ui/card_slot_empty.png"));
-
-        if (playerBench == null) playerBench = new ArrayList<>();
+        Texture emptyTex = textures.get(TextureCache.PLACEHOLDER);
 
+        List<CardSystem.Card> playerBench = state.getBench();
         for (int i = 0; i < MAX_BENCH_SLOTS; i++) {
             if (i < playerBench.size()) {
                 final CardSystem.Card c = playerBench.get(i);
-                Stack s = createCardStack(c.getImagePath(), c.getHealth(), CARD_WIDTH_BENCH_HAND_V, CARD_HEIGHT_BENCH_HAND_V);
+                Stack s = createCardStack(c.getImagePath(), c.getHealth(), CARD_WIDTH_BENCH_HAND_V, CARD_HEIGHT_BENCH_HAND_V, TextureCache.Tier.THUMB);
+                Label hpLabel = (Label) ((Table) s.getChildren().get(1)).getChildren().first();
+                if (hpLabel.getText().length() > 0) benchHpLabels.put(c, hpLabel);
                 s.setTouchable(Touchable.enabled);
                 s.addListener(new ClickListener() {
                     @Override
                     public void clicked(InputEvent event, float x, float y) {
-                        if (battleEnded || !playerTurn) return;
-                        if (playerActive == null) {
-                            playerActive = c;
-                            playerBench.remove(c);
-                            log(c.getName() + " moved from bench to active slot.");
-                            refreshAll();
+                        if (state.isEnded() || !state.isPlayerTurn()) return;
+                        if (state.getPlayerActive() == null) {
+                            engine.activateFromBench(c);
                         } else {
                             Dialog dialog = new Dialog("Swap with Active?", skin){
                                 @Override
                                 protected void result(Object obj){
-                                    if (Boolean.TRUE.equals(obj)) {
-                                        CardSystem.Card temp = playerActive;
-                                        playerActive = c;
-                                        playerBench.remove(c);
-                                        playerBench.add(temp);
-                                        log(c.getName() + " swapped with " + temp.getName() + " from bench.");
-                                        refreshAll();
-                                    }
+                                    if (Boolean.TRUE.equals(obj)) engine.swapActiveWithBench(c);
                                 }
                             };
-                            Label textLabel = new Label("Swap " + c.getName() + " with " + playerActive.getName() + "?", skin);
+                            Label textLabel = new Label("Swap " + c.getName() + " with " + state.getPlayerActive().getName() + "?", skin);
                             textLabel.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
                             dialog.getContentTable().add(textLabel).pad(VIRTUAL_HEIGHT * 0.01f);
 
@@ -670,14 +599,7 @@ public class BattleScreen implements Screen {
             this.deckCountLabel = new Label("Deck: 0", new Label.LabelStyle(font, Color.WHITE));
             logSafe("CRITICAL: deckCountLabel was null, reinitialized in refreshDeckAndGraveUI");
         }
-        if (this.playerGraveyard == null) {
-            this.playerGraveyard = new ArrayList<>();
-            logSafe("CRITICAL: playerGraveyard was null, reinitialized in refreshDeckAndGraveUI");
-        }
-        if (this.playerDeck == null) {
-            this.playerDeck = new ArrayList<>();
-            logSafe("CRITICAL: playerDeck was null, reinitialized in refreshDeckAndGraveUI");
-        }
+        List<CardSystem.Card> playerGraveyard = state.getGraveyard();
 
         deckAndGraveTable.clear();
         this.graveTable.clear();
@@ -695,7 +617,7 @@ public class BattleScreen implements Screen {
             if (R_INDEX >= 0 && R_INDEX < playerGraveyard.size()) {
                 CardSystem.Card c = playerGraveyard.get(R_INDEX);
                 if (c != null && c.getImagePath() != null) {
-                    this.graveTable.add(createCardStack(c.getImagePath(), 0, CARD_WIDTH_GRAVE_V, CARD_HEIGHT_GRAVE_V)).pad(VIRTUAL_WIDTH * 0.001f);
+                    this.graveTable.add(createCardStack(c.getImagePath(), 0, CARD_WIDTH_GRAVE_V, CARD_HEIGHT_GRAVE_V, TextureCache.Tier.THUMB)).pad(VIRTUAL_WIDTH * 0.001f);
                     graveDisplayCount++;
                 } else {
                     logSafe("Warning: Null card or imagePath in graveyard at effective index " + R_INDEX);
@@ -706,7 +628,7 @@ public class BattleScreen implements Screen {
         }
         deckAndGraveTable.add(this.graveTable).colspan(MAX_BENCH_SLOTS).center().minHeight(CARD_HEIGHT_GRAVE_V + (VIRTUAL_HEIGHT * 0.01f)).row();
 
-        deckCountLabel.setText("Deck: " + playerDeck.size());
+        deckCountLabel.setText("Deck: " + state.getDeck().size());
         deckCountLabel.setFontScale(HUD_FONT_SCALE_V * 0.85f);
         try {
             deckAndGraveTable.add(deckCountLabel).colspan(MAX_BENCH_SLOTS).center().padTop(VIRTUAL_HEIGHT * 0.015f).row();
@@ -716,11 +638,11 @@ public class BattleScreen implements Screen {
 
         Texture deckTex = null;
         try {
-            deckTex = new Texture(Gdx.files.internal("ui/back_card.png"));
+            deckTex = textures.get("ui/back_card.png");
         } catch (Exception e) {
             logSafe("Error loading deck texture ui/back_card.png: " + e.getMessage() + ". Using placeholder.");
             try {
-                deckTex = new Texture(Gdx.files.internal("ui/card_slot_empty.png"));
+                deckTex = textures.get(TextureCache.PLACEHOLDER);
             } catch (Exception e2) {
                 logSafe("Error loading fallback deck texture: " + e2.getMessage());
                 if (deckAndGraveTable != null) deckAndGraveTable.add(new Label("Error", skin)); // Add error label if texture fails
@@ -741,24 +663,20 @@ public class BattleScreen implements Screen {
             logSafe("Active stack UI not initialized in updateActiveStack.");
             return;
         }
+        CardSystem.Card playerActive = state.getPlayerActive();
         if (playerActive != null) {
             activeHpLabel.setText(String.valueOf(playerActive.getHealth()));
             Actor firstChild = activeStack.getChildren().size > 0 ? activeStack.getChildren().first() : null;
             if (firstChild instanceof Image) {
                 Image img = (Image) firstChild;
-                try {
-                    img.setDrawable(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal(playerActive.getImagePath())))));
-                } catch (Exception e) {
-                    logSafe("Error loading active card image: " + playerActive.getImagePath());
-                    img.setDrawable(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal("ui/card_slot_empty.png")))));
-                }
+                img.setDrawable(textures.drawable(playerActive.getImagePath(), TextureCache.Tier.FULL));
             }
         } else {
             activeHpLabel.setText("");
             Actor firstChild = activeStack.getChildren().size > 0 ? activeStack.getChildren().first() : null;
             if (firstChild instanceof Image) {
                 Image img = (Image) firstChild;
-                img.setDrawable(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal("ui/card_slot_empty.png")))));
+                img.setDrawable(textures.drawable(TextureCache.PLACEHOLDER));
             }
         }
         refreshSkillsAndEndTurnUI();
@@ -769,12 +687,13 @@ public class BattleScreen implements Screen {
             logSafe("Enemy stack UI not initialized in updateEnemyStack.");
             return;
         }
+        CardSystem.Card enemyActive = state.getEnemyActive();
         if(enemyActive == null) {
             enemyHpLabel.setText("");
             Actor firstChild = enemyStack.getChildren().size > 0 ? enemyStack.getChildren().first() : null;
             if (firstChild instanceof Image) {
                 Image img = (Image) firstChild;
-                img.setDrawable(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal("ui/card_slot_empty.png")))));
+                img.setDrawable(textures.drawable(TextureCache.PLACEHOLDER));
             }
             return;
         }
@@ -782,49 +701,26 @@ public class BattleScreen implements Screen {
         Actor firstChild = enemyStack.getChildren().size > 0 ? enemyStack.getChildren().first() : null;
         if (firstChild instanceof Image) {
             Image img = (Image)firstChild;
-            try {
-                img.setDrawable(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal(enemyActive.getImagePath())))));
-            } catch (Exception e) {
-                logSafe("Error loading enemy card image: " + enemyActive.getImagePath());
-                img.setDrawable(new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal("ui/card_slot_empty.png")))));
-            }
+            img.setDrawable(textures.drawable(enemyActive.getImagePath(), TextureCache.Tier.FULL));
         }
     }
 
     private void refreshAll() {
         refreshAllUIModules();
-        if (playerActive != null) playerActive.resetTurnUsage();
-        if (playerBench != null) {
-            for(CardSystem.Card benchCard : playerBench) {
-                benchCard.resetTurnUsage();
-            }
-        }
     }
 
     private void handleHandCard(final CardSystem.Card c, Object action) {
-        if (battleEnded) return;
+        if (state.isEnded()) return;
         if ("active".equals(action)) {
-            if (playerActive == null) {
-                playerActive = c;
-                if (playerHand != null) playerHand.remove(c);
-                log("Player set active to " + c.getName());
-                refreshAll();
-            } else {
-                log("Active slot is already occupied.");
-                if (playerBench != null && playerBench.size() < MAX_BENCH_SLOTS) {
+            if (!engine.setActiveFromHand(c) && state.getPlayerActive() != null) {
+                if (!engine.isBenchFull()) {
                     Dialog dialog = new Dialog("Active Slot Occupied", skin) {
                         @Override
                         protected void result(Object moveChoiceObject) {
-                            if ("moveToBench".equals(moveChoiceObject)) {
-                                if (playerBench != null) playerBench.add(playerActive);
-                                playerActive = c;
-                                if (playerHand != null) playerHand.remove(c);
-                                log(c.getName() + " is now active. Previous active ("+ (playerBench != null && !playerBench.isEmpty() ? playerBench.get(playerBench.size()-1).getName() : "N/A") +") moved to bench.");
-                                refreshAll();
-                            }
+                            if ("moveToBench".equals(moveChoiceObject)) engine.replaceActiveFromHand(c);
                         }
                     };
-                    Label textLabel = new Label(playerActive.getName() + " is active. Move it to bench to play " + c.getName() + "?", skin);
+                    Label textLabel = new Label(state.getPlayerActive().getName() + " is active. Move it to bench to play " + c.getName() + "?", skin);
                     textLabel.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
                     textLabel.setWrap(true);
                     dialog.getContentTable().add(textLabel).width(VIRTUAL_WIDTH * 0.45f).pad(VIRTUAL_HEIGHT * 0.01f).row();
@@ -846,20 +742,14 @@ public class BattleScreen implements Screen {
                 }
             }
         } else if ("bench".equals(action)) {
-            if (playerBench != null && playerBench.size() < MAX_BENCH_SLOTS) {
-                playerBench.add(c);
-                if (playerHand != null) playerHand.remove(c);
-                log("Player benched " + c.getName());
-                refreshAll();
-            } else {
-                log("Bench is full. Cannot move " + c.getName() + " to bench.");
-            }
+            engine.benchFromHand(c);
         }
     }
 
     private void showRetreatDialog() {
-        if (battleEnded || playerActive == null) { log("No active card to retreat."); return; }
-        if (playerBench == null || playerBench.isEmpty()) { log("Cannot retreat: no cards on the bench."); return; }
+        final List<CardSystem.Card> playerBench = state.getBench();
+        if (state.isEnded() || state.getPlayerActive() == null) { log("No active card to retreat."); return; }
+        if (playerBench.isEmpty()) { log("Cannot retreat: no cards on the bench."); return; }
 
         final SelectBox<String> box = new SelectBox<>(skin);
         List<String> benchCardNames = new ArrayList<>();
@@ -869,8 +759,10 @@ public class BattleScreen implements Screen {
         box.setItems(benchCardNames.toArray(new String[0]));
 
         SelectBox.SelectBoxStyle boxStyle = new SelectBox.SelectBoxStyle(skin.get("default", SelectBox.SelectBoxStyle.class));
-        boxStyle.font.getData().setScale(DIALOG_TEXT_FONT_SCALE_V);
-        boxStyle.listStyle.font.getData().setScale(DIALOG_TEXT_FONT_SCALE_V);
+        // The skin's fonts are shared, so use scaled copies rather than rescaling them.
+        boxStyle.font = game.assets.scaled(boxStyle.font, DIALOG_TEXT_FONT_SCALE_V);
+        boxStyle.listStyle = new com.badlogic.gdx.scenes.scene2d.ui.List.ListStyle(boxStyle.listStyle);
+        boxStyle.listStyle.font = game.assets.scaled(boxStyle.listStyle.font, DIALOG_TEXT_FONT_SCALE_V);
         box.setStyle(boxStyle);
 
         final Dialog retreatDialog = new Dialog("Retreat: Select Card from Bench", skin) {
@@ -878,16 +770,7 @@ public class BattleScreen implements Screen {
             protected void result(Object obj) {
                 if (Boolean.TRUE.equals(obj)) {
                     if (box.getItems().size == 0) { log("Error: No items in bench selection for retreat."); return; }
-                    int selectedBenchIndex = box.getSelectedIndex();
-                    if (playerBench == null || selectedBenchIndex < 0 || selectedBenchIndex >= playerBench.size()) {
-                        log("Error: Invalid selection from bench for retreat."); return;
-                    }
-                    CardSystem.Card cardToMakeActive = playerBench.get(selectedBenchIndex);
-                    playerBench.remove(selectedBenchIndex);
-                    playerBench.add(playerActive);
-                    playerActive = cardToMakeActive;
-                    log(playerActive.getName() + " is now active (retreated). " + playerBench.get(playerBench.size()-1).getName() + " moved to bench.");
-                    refreshAll();
+                    engine.retreat(box.getSelectedIndex());
                 }
             }
         };
@@ -911,246 +794,190 @@ public class BattleScreen implements Screen {
         retreatDialog.show(stage);
     }
 
-    private void enemyTurn() {
-        if (battleEnded) return;
-
-        log("-- Enemy turn (Round " + roundNumber + ") --");
-        if (enemyActive != null && enemyActive.getHealth() > 0) { // Check if enemy is still alive
-            if (playerActive != null && playerActive.getHealth() > 0) {
-                if (enemyActive.getSkills() != null && !enemyActive.getSkills().isEmpty()) {
-                    CardSystem.Skill sk = enemyActive.getSkills().get(MathUtils.random(enemyActive.getSkills().size() - 1));
-                    log("Enemy " + enemyActive.getName() + " uses " + sk.getName());
-                    int oldHp = playerActive.getHealth();
-                    sk.apply(enemyActive, playerActive);
-                    log(playerActive.getName() + " HP: " + oldHp + " -> " + playerActive.getHealth());
-                    refreshAllUIModules(); // Update UI immediately after skill application
-                    if (checkPlayerDefeated()) return; // If player defeated, end enemy turn
-                } else {
-                    log(enemyActive.getName() + " has no skills to use.");
-                }
-            } else {
-                log("Player has no active card to target or active card is already defeated.");
-            }
-        } else {
-            log("Enemy was already defeated before its turn.");
-        }
-
-        if(enemyActive != null) {
-            enemyActive.applyStartOfTurnStatuses();
-            enemyActive.resetTurnUsage();
-            enemyActive.applyEndOfTurnStatuses();
-            // Check if enemy defeated itself with status effects (e.g. self-inflicted poison)
-            if (checkEnemyDefeated()) return;
-        }
+    @Override
+    public void onLog(String message) {
+        log(message);
+    }
 
-        // Transition back to player turn if battle not ended
-        playerTurn = true;
-        log("-- Player turn (Round " + (roundNumber + 1) + ") --");
+    // ---------------------------------------------------------------- battle events
 
-        if (playerFaith < MAX_FAITH) {
-            playerFaith++;
-        }
+    @Override
+    public void onCardMoved(CardSystem.Card card, BattleState.Zone from, BattleState.Zone to) {
+        if (from == BattleState.Zone.HAND) removeHandButton(card);
+        if (to == BattleState.Zone.HAND) addHandButton(card);
+        // Any board change can give artifacts their use back, so the skill buttons are rechecked too.
+        dirtyModules |= dirtyBit(from) | dirtyBit(to) | DIRTY_SKILLS;
+    }
 
-        if(playerActive != null) playerActive.applyStartOfTurnStatuses();
-        if (playerBench != null) {
-            for(CardSystem.Card benchCard : playerBench) {
-                benchCard.applyStartOfTurnStatuses();
-            }
+    private static int dirtyBit(BattleState.Zone zone) {
+        switch (zone) {
+            case ACTIVE:    return DIRTY_ACTIVE;
+            case BENCH:     return DIRTY_BENCH;
+            case GRAVEYARD: return DIRTY_GRAVE;
+            case DECK:      return DIRTY_DECK;
+            default:        return 0; // the hand is patched right away
         }
-        // Check if player cards were defeated by start-of-turn statuses
-        if (checkPlayerDefeated()) return;
-
+    }
 
-        drawCards(1);
-        roundNumber++;
-        refreshAll();
+    @Override
+    public void onHealthChanged(CardSystem.Card card, int oldHealth, int newHealth) {
+        Label hpLabel = card == state.getEnemyActive() ? enemyHpLabel
+            : card == state.getPlayerActive() ? activeHpLabel
+            : benchHpLabels.get(card);
+        if (hpLabel != null) hpLabel.setText(String.valueOf(newHealth));
     }
 
-    // Returns true if battle ended due to enemy defeat, false otherwise
-    private boolean checkEnemyDefeated() {
-        if (battleEnded) return true; // Already ended
-
-        if (enemyActive != null && enemyActive.getHealth() <= 0) {
-            log("Enemy " + enemyActive.getName() + " defeated!");
-            battleEnded = true; // Set flag
-
-            int coinsEarned = 0;
-            String packTypeNameForLog = "";
-
-            if (this.battleNode != null && this.profile != null) {
-                switch (this.battleNode.type) {
-                    case COMBAT:
-                        coinsEarned = 20;
-                        profile.addArtifactItemPack(1);
-                        packTypeNameForLog = "Artifact/Item";
-                        break;
-                    case MINIBOSS:
-                        coinsEarned = 30;
-                        profile.addDivinePack(1);
-                        packTypeNameForLog = "Divine";
-                        break;
-                    case BOSS:
-                        coinsEarned = 50;
-                        profile.addGodDivinePack(1);
-                        packTypeNameForLog = "God/Divine";
-                        break;
-                    default:
-                        log("No specific rewards for this node type: " + this.battleNode.type);
-                        break;
-                }
-                if (coinsEarned > 0) {
-                    profile.gachaCurrency += coinsEarned;
-                }
-                SaveManager.saveProfile(profile);
-                log("Profile saved. Current coins: " + profile.gachaCurrency +
-                    ", God/Divine Packs: " + profile.godDivinePacks +
-                    ", Divine Packs: " + profile.divinePacks +
-                    ", Artifact/Item Packs: " + profile.artifactItemPacks);
-            }
+    @Override
+    public void onFaithChanged(int oldFaith, int newFaith) {
+        if (faithLabel != null) faithLabel.setText("Faith: " + newFaith);
+        dirtyModules |= DIRTY_SKILLS;
+    }
 
-            final boolean wasBossNodeFight = (this.battleNode != null && this.battleNode.type == ConvergingMapScreen.NodeType.BOSS);
-            Dialog victoryDialog = new Dialog("Victory!", skin) {
-                @Override
-                protected void result(Object obj) {
-                    if (wasBossNodeFight) {
-                        log("Boss Node cleared! Returning to Game Menu.");
-                        if (profile != null) {
-                            profile.currentMapId = "n0";
-                            SaveManager.saveProfile(profile);
-                        }
-                        game.setScreen(new GameMenuFernan(game, profile));
-                    } else {
-                        if (mapScreen != null && BattleScreen.this.battleNode != null) {
-                            mapScreen.moveTo(BattleScreen.this.battleNode);
-                        }
-                        game.setScreen(mapScreen);
-                    }
-                }
-            };
-            String rewardLogMessage = "You have defeated " + enemyActive.getName() + "!\n" +
-                "Gained " + coinsEarned + " coins." +
-                (packTypeNameForLog.isEmpty() ? "" : "\nReceived a " + packTypeNameForLog + " Pack!\n(Check your inventory/store to open packs)");
-            Label victoryText = new Label(rewardLogMessage, skin);
-            victoryText.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
-            victoryText.setWrap(true);
-            victoryText.setAlignment(Align.center);
-            victoryDialog.getContentTable().add(victoryText).width(VIRTUAL_WIDTH * 0.5f).pad(VIRTUAL_HEIGHT * 0.01f);
-
-            if (wasBossNodeFight) {
-                victoryDialog.button("Finish Map & Return", true);
-            } else {
-                victoryDialog.button("Continue to Map", true);
-            }
+    @Override
+    public void onSkillUsed(CardSystem.Card user, CardSystem.Skill skill) {
+        dirtyModules |= DIRTY_SKILLS;
+    }
 
-            Table buttonTable = victoryDialog.getButtonTable();
-            for(Cell cell : buttonTable.getCells()){
-                if(cell.getActor() instanceof TextButton){
-                    ((TextButton)cell.getActor()).getLabel().setFontScale(DIALOG_BUTTON_FONT_SCALE_V);
-                }
-            }
-            victoryDialog.pad(VIRTUAL_HEIGHT * 0.055f);
-            victoryDialog.show(stage);
-            return true; // Battle ended
-        }
-        return false; // Battle continues
+    @Override
+    public void onTurnChanged(boolean playerTurn, int roundNumber) {
+        if (roundLabel != null) roundLabel.setText("Round " + roundNumber);
+        dirtyModules |= DIRTY_SKILLS;
     }
 
-    // Returns true if battle ended due to player defeat, false otherwise
-    private boolean checkPlayerDefeated() {
-        if (battleEnded) return true; // Already ended
-
-        boolean activeCardWasJustDefeatedThisCheck = false;
-        if (playerActive != null && playerActive.getHealth() <= 0) {
-            log("Active card " + playerActive.getName() + " was defeated.");
-            if (playerGraveyard != null) playerGraveyard.add(playerActive);
-            activeDeathCount++;
-            playerActive = null;
-            activeCardWasJustDefeatedThisCheck = true;
+    /** Runs the module updates the events asked for since the last frame, each at most once. */
+    private void flushDirtyModules() {
+        int dirty = dirtyModules;
+        if (dirty == 0) return;
+        dirtyModules = 0;
+        if ((dirty & DIRTY_ACTIVE) != 0) {
+            updateActiveStack(); // rebuilds the skill buttons for the new active card
+            if (deathCountLabel != null) deathCountLabel.setText("Lives: " + state.getLivesLeft());
+        } else if ((dirty & DIRTY_SKILLS) != 0) {
+            updateSkillButtons();
+        }
+        if ((dirty & DIRTY_BENCH) != 0) refreshBenchUI();
+        if ((dirty & DIRTY_GRAVE) != 0) {
+            refreshDeckAndGraveUI();
+        } else if ((dirty & DIRTY_DECK) != 0 && deckCountLabel != null) {
+            deckCountLabel.setText("Deck: " + state.getDeck().size());
         }
+    }
 
-        boolean noCardsLeftToPlay = (playerActive == null && (playerHand == null || playerHand.isEmpty()) && (playerDeck == null || playerDeck.isEmpty()) && (playerBench == null || playerBench.isEmpty()));
-
-        if (activeDeathCount >= MAX_ACTIVE_DEATHS || noCardsLeftToPlay) {
-            battleEnded = true; // Set flag
-            String defeatReason = noCardsLeftToPlay && activeDeathCount < MAX_ACTIVE_DEATHS ?
-                "You have no more cards to play!" :
-                "You have run out of lives!";
-            log(defeatReason + " Game Over.");
-
-            if (profile != null) {
-                profile.gachaCurrency += 10; // Gain 10 coins on loss
-                profile.currentMapId = "n0";   // Reset map progress
-                SaveManager.saveProfile(profile);
-                log("Awarded 10 coins. Map progress reset. Profile saved.");
+    @Override
+    public void onVictory(CardSystem.Card enemyActive) {
+        int coinsEarned = 0;
+        String packTypeNameForLog = "";
+
+        if (this.battleNode != null && this.profile != null) {
+            switch (this.battleNode.type) {
+                case COMBAT:
+                    coinsEarned = 20;
+                    profile.addArtifactItemPack(1);
+                    packTypeNameForLog = "Artifact/Item";
+                    break;
+                case MINIBOSS:
+                    coinsEarned = 30;
+                    profile.addDivinePack(1);
+                    packTypeNameForLog = "Divine";
+                    break;
+                case BOSS:
+                    coinsEarned = 50;
+                    profile.addGodDivinePack(1);
+                    packTypeNameForLog = "God/Divine";
+                    break;
+                default:
+                    log("No specific rewards for this node type: " + this.battleNode.type);
+                    break;
+            }
+            if (coinsEarned > 0) {
+                profile.gachaCurrency += coinsEarned;
             }
+            SaveManager.saveProfile(profile);
+            log("Profile saved. Current coins: " + profile.gachaCurrency +
+                ", God/Divine Packs: " + profile.godDivinePacks +
+                ", Divine Packs: " + profile.divinePacks +
+                ", Artifact/Item Packs: " + profile.artifactItemPacks);
+        }
 
-            Dialog defeatDialog = new Dialog("Defeat!", skin) {
-                @Override
-                protected void result(Object obj) {
-                    game.setScreen(new GameMenuFernan(game, profile)); // Go to Game Menu
-                }
-            };
-            Label defeatText = new Label(defeatReason + "\n\nYou gained 10 coins.\nMap progress has been reset.", skin);
-            defeatText.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
-            defeatText.setWrap(true);
-            defeatText.setAlignment(Align.center);
-            defeatDialog.getContentTable().add(defeatText).width(VIRTUAL_WIDTH * 0.6f).pad(VIRTUAL_HEIGHT * 0.01f);
-            defeatDialog.button("To Game Menu", true);
-
-            Table buttonTable = defeatDialog.getButtonTable();
-            for(Cell cell : buttonTable.getCells()){
-                if(cell.getActor() instanceof TextButton){
-                    ((TextButton)cell.getActor()).getLabel().setFontScale(DIALOG_BUTTON_FONT_SCALE_V);
+        final boolean wasBossNodeFight = (this.battleNode != null && this.battleNode.type == ConvergingMapScreen.NodeType.BOSS);
+        Dialog victoryDialog = new Dialog("Victory!", skin) {
+            @Override
+            protected void result(Object obj) {
+                if (wasBossNodeFight) {
+                    log("Boss Node cleared! Returning to Game Menu.");
+                    if (profile != null) {
+                        profile.currentMapId = "n0";
+                        SaveManager.saveProfile(profile);
+                    }
+                    game.screens.show(GameMenuFernan.class, profile, () -> new GameMenuFernan(game, profile));
+                } else {
+                    if (mapScreen != null && BattleScreen.this.battleNode != null) {
+                        mapScreen.moveTo(BattleScreen.this.battleNode);
+                    }
+                    game.setScreen(mapScreen);
                 }
             }
-            defeatDialog.pad(VIRTUAL_HEIGHT * 0.055f);
-            defeatDialog.show(stage);
-            return true; // Battle ended
-        } else if (activeCardWasJustDefeatedThisCheck) {
-            if (playerBench != null && !playerBench.isEmpty()) {
-                log("Your active card was defeated. Select a card from your bench to make active.");
-            } else if (playerHand != null && !playerHand.isEmpty()) {
-                log("Your active card was defeated. Play a card from your hand.");
+        };
+        String rewardLogMessage = "You have defeated " + enemyActive.getName() + "!\n" +
+            "Gained " + coinsEarned + " coins." +
+            (packTypeNameForLog.isEmpty() ? "" : "\nReceived a " + packTypeNameForLog + " Pack!\n(Check your inventory/store to open packs)");
+        Label victoryText = new Label(rewardLogMessage, skin);
+        victoryText.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
+        victoryText.setWrap(true);
+        victoryText.setAlignment(Align.center);
+        victoryDialog.getContentTable().add(victoryText).width(VIRTUAL_WIDTH * 0.5f).pad(VIRTUAL_HEIGHT * 0.01f);
+
+        if (wasBossNodeFight) {
+            victoryDialog.button("Finish Map & Return", true);
+        } else {
+            victoryDialog.button("Continue to Map", true);
+        }
+
+        Table buttonTable = victoryDialog.getButtonTable();
+        for(Cell cell : buttonTable.getCells()){
+            if(cell.getActor() instanceof TextButton){
+                ((TextButton)cell.getActor()).getLabel().setFontScale(DIALOG_BUTTON_FONT_SCALE_V);
             }
-            refreshAllUIModules(); // Refresh UI to show empty active slot and updated death count
         }
-        return false; // Battle continues
+        victoryDialog.pad(VIRTUAL_HEIGHT * 0.055f);
+        victoryDialog.show(stage);
     }
 
+    @Override
+    public void onDefeat(String defeatReason) {
+        if (profile != null) {
+            profile.gachaCurrency += 10; // Gain 10 coins on loss
+            profile.currentMapId = "n0";   // Reset map progress
+            SaveManager.saveProfile(profile);
+            log("Awarded 10 coins. Map progress reset. Profile saved.");
+        }
 
-    private void drawCards(int n) {
-        if (battleEnded) return; // Don't draw if battle is over
-        if (playerDeck == null) playerDeck = new ArrayList<>();
-        if (playerHand == null) playerHand = new ArrayList<>();
-
-        for (int i = 0; i < n; i++) {
-            if (!playerDeck.isEmpty()) {
-                CardSystem.Card drawnCard = playerDeck.remove(0);
-                playerHand.add(drawnCard);
-                if (logTable != null) {
-                    log("Drew " + drawnCard.getName());
-                } else {
-                    Gdx.app.log("BattleScreen_drawCards", "Drew " + drawnCard.getName() + " (logging system not fully ready)");
-                }
-            } else {
-                if (logTable != null) {
-                    log("Deck is empty. Cannot draw more cards.");
-                } else {
-                    Gdx.app.log("BattleScreen_drawCards", "Deck is empty. (logging system not fully ready)");
-                }
-                break;
+        Dialog defeatDialog = new Dialog("Defeat!", skin) {
+            @Override
+            protected void result(Object obj) {
+                game.screens.show(GameMenuFernan.class, profile, () -> new GameMenuFernan(game, profile)); // Go to Game Menu
+            }
+        };
+        Label defeatText = new Label(defeatReason + "\n\nYou gained 10 coins.\nMap progress has been reset.", skin);
+        defeatText.setFontScale(DIALOG_TEXT_FONT_SCALE_V);
+        defeatText.setWrap(true);
+        defeatText.setAlignment(Align.center);
+        defeatDialog.getContentTable().add(defeatText).width(VIRTUAL_WIDTH * 0.6f).pad(VIRTUAL_HEIGHT * 0.01f);
+        defeatDialog.button("To Game Menu", true);
+
+        Table buttonTable = defeatDialog.getButtonTable();
+        for(Cell cell : buttonTable.getCells()){
+            if(cell.getActor() instanceof TextButton){
+                ((TextButton)cell.getActor()).getLabel().setFontScale(DIALOG_BUTTON_FONT_SCALE_V);
             }
         }
-        if (handTable != null) {
-            refreshHandUI();
-        }
-        if (deckCountLabel != null && deckAndGraveTable != null) {
-            deckCountLabel.setText("Deck: " + playerDeck.size());
-        }
+        defeatDialog.pad(VIRTUAL_HEIGHT * 0.055f);
+        defeatDialog.show(stage);
     }
 
 
     @Override public void render(float delta) {
+        flushDirtyModules();
         ScreenUtils.clear(Color.BLACK);
         stage.getViewport().apply();
         stage.act(delta);
@@ -1167,8 +994,8 @@ public class BattleScreen implements Screen {
     @Override public void resume() {}
 
     @Override public void dispose() {
+        enemyPlanner.dispose();
         if (stage != null) stage.dispose();
-        if (skin != null) skin.dispose();
-        if (font != null) font.dispose();
+        textures.dispose();
     }
 }
@@ -0,0 +1,220 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.*;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Scaling;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+/**
+ * The outcome of a {@link PackOpening bulk opening}: a summary of new cards, duplicates and card types, above the
+ * drawn cards a page at a time. Only the page on screen has its art loaded; turning the page releases it.
+ */
+public class BulkPackOpenScreen implements Screen {
+    private static final int COLUMNS = 5;
+    private static final int PAGE_SIZE = COLUMNS * 2;
+
+    private final FernansGrace game;
+    private final SaveProfile profile;
+    private final PackOpening.Result result;
+    private final Screen previousScreen;
+
+    private final Stage stage;
+    private final TextureCache.Lease textures;
+    /** Held for the whole screen so turning pages doesn't unload and reload it; null if it wasn't built. */
+    private final TextureAtlas thumbAtlas;
+    private TextureCache.Lease pageTextures;
+    private final BitmapFont yellowFont;
+    private final BitmapFont whiteFont;
+    private final Sound clickSound;
+
+    private final Table grid = new Table();
+    private Label pageLabel;
+    private int page;
+
+    /**
+     * With a {@code previousScreen}, show this with {@code game.screens.showChild(previousScreen, ...)} so the screen
+     * cache keeps the screen the back button returns to.
+     */
+    public BulkPackOpenScreen(FernansGrace game, SaveProfile profile, PackOpening.Result result, Screen previousScreen) {
+        this.game = game;
+        this.profile = profile;
+        this.result = result;
+        this.previousScreen = previousScreen;
+
+        this.stage = new Stage(new ScreenViewport());
+        Gdx.input.setInputProcessor(stage);
+
+        this.textures = game.textures.lease();
+        this.thumbAtlas = game.textures.acquireAtlas(TextureCache.Tier.THUMB);
+        this.yellowFont = game.assets.font("ui/smalligator_yellow.fnt");
+        this.whiteFont = game.assets.font("ui/smalligator_gradient2.fnt");
+        this.clickSound = game.assets.sound(SharedAssets.CLICK);
+
+        buildUI();
+        showPage(0);
+    }
+
+    private void buildUI() {
+        Image background = new Image(textures.get("Bg2B.PNG"));
+        background.setFillParent(true);
+        stage.addActor(background);
+
+        Table root = new Table();
+        root.setFillParent(true);
+        root.top().padTop(60);
+        stage.addActor(root);
+
+        Label title = new Label("Opened " + result.getPacks() + (result.getPacks() == 1 ? " pack" : " packs"),
+            new Label.LabelStyle(whiteFont, Color.YELLOW));
+        title.setFontScale(1.2f);
+        root.add(title).padBottom(10).row();
+
+        Label summary = new Label("New cards: " + result.getNewCards() + "    Duplicates: " + result.getDuplicates(),
+            new Label.LabelStyle(yellowFont, Color.WHITE));
+        summary.setFontScale(0.7f);
+        root.add(summary).padBottom(5).row();
+
+        StringBuilder types = new StringBuilder();
+        for (CardSystem.CardType type : CardSystem.CardType.values()) {
+            int count = result.getCount(type);
+            if (count == 0) continue;
+            if (types.length() > 0) types.append("    ");
+            types.append(type).append(": ").append(count);
+        }
+        Label typeLabel = new Label(types.toString(), new Label.LabelStyle(yellowFont, Color.WHITE));
+        typeLabel.setFontScale(0.6f);
+        root.add(typeLabel).padBottom(20).row();
+
+        root.add(grid).center().row();
+
+        TextButton.TextButtonStyle buttonStyle = new TextButton.TextButtonStyle();
+        Drawable transparent = textures.drawable("ui/transparent.png");
+        buttonStyle.up = buttonStyle.down = buttonStyle.over = transparent;
+        buttonStyle.font = yellowFont;
+
+        TextButton previous = new TextButton("<", buttonStyle);
+        TextButton next = new TextButton(">", buttonStyle);
+        pageLabel = new Label("", new Label.LabelStyle(yellowFont, Color.WHITE));
+        pageLabel.setFontScale(0.6f);
+        previous.addListener(new ClickListener() {
+            @Override public void clicked(InputEvent event, float x, float y) {
+                if (page > 0) {
+                    clickSound.play();
+                    showPage(page - 1);
+                }
+            }
+        });
+        next.addListener(new ClickListener() {
+            @Override public void clicked(InputEvent event, float x, float y) {
+                if (page < pageCount() - 1) {
+                    clickSound.play();
+                    showPage(page + 1);
+                }
+            }
+        });
+        Table pager = new Table();
+        pager.add(previous).width(60).height(40);
+        pager.add(pageLabel).width(160).center();
+        pager.add(next).width(60).height(40);
+        root.add(pager).padTop(10).row();
+
+        TextButton backButton = new TextButton("Back", buttonStyle);
+        backButton.getLabel().setFontScale(1.5f);
+        backButton.addListener(new ClickListener() {
+            @Override public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
+                backButton.getLabel().setStyle(new Label.LabelStyle(whiteFont, Color.WHITE));
+            }
+
+            @Override public void exit(InputEvent event, float x, float y, int pointer, Actor toActor) {
+                backButton.getLabel().setStyle(new Label.LabelStyle(yellowFont, Color.YELLOW));
+            }
+
+            @Override public void clicked(InputEvent event, float x, float y) {
+                clickSound.play();
+                if (previousScreen != null) {
+                    game.setScreen(previousScreen);
+                } else {
+                    game.screens.show(StoreScreenFernan.class, profile, () -> new StoreScreenFernan(game, profile));
+                }
+            }
+        });
+
+        Table topTable = new Table();
+        topTable.setFillParent(true);
+        topTable.top().left().padTop(10).padLeft(10);
+        topTable.add(backButton).width(100).height(40);
+        stage.addActor(topTable);
+    }
+
+    private int pageCount() {
+        return Math.max(1, (result.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    private void showPage(int page) {
+        this.page = page;
+        // Load the new page before releasing the old one, so art on both isn't unloaded and loaded again.
+        TextureCache.Lease previous = pageTextures;
+        pageTextures = game.textures.lease();
+        grid.clearChildren();
+
+        int end = Math.min(result.size(), (page + 1) * PAGE_SIZE);
+        for (int i = page * PAGE_SIZE; i < end; i++) {
+            CardSystem.Card card = result.getCard(i);
+            String imagePath = card.getImagePath();
+            if (imagePath == null || imagePath.trim().isEmpty()) imagePath = TextureCache.PLACEHOLDER;
+
+            Image art = new Image(pageTextures.drawable(imagePath, TextureCache.Tier.THUMB));
+            art.setScaling(Scaling.fit);
+            Stack stack = new Stack();
+            stack.add(art);
+            if (result.isNew(i)) {
+                Label isNew = new Label("NEW", new Label.LabelStyle(yellowFont, Color.YELLOW));
+                isNew.setFontScale(0.6f);
+                isNew.setAlignment(Align.topRight);
+                stack.add(isNew);
+            }
+            grid.add(stack).size(110, 154).pad(6);
+            if ((i + 1) % COLUMNS == 0) grid.row();
+        }
+        pageLabel.setText((page + 1) + " / " + pageCount());
+
+        if (previous != null) previous.dispose();
+    }
+
+    @Override public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
+
+    @Override public void render(float delta) {
+        ScreenUtils.clear(0, 0, 0, 1);
+        stage.act(delta);
+        stage.draw();
+    }
+
+    @Override public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void hide() {}
+
+    @Override public void dispose() {
+        stage.dispose();
+        if (pageTextures != null) pageTextures.dispose();
+        textures.dispose();
+        if (thumbAtlas != null) game.textures.releaseAtlas(TextureCache.Tier.THUMB);
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.grace.ni.fernan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide, read-only index over every card in cards.json.
+ * The file is parsed once on first use; afterwards lookups by unique id or name are O(1)
+ * and the per-type / per-pantheon partitions are precomputed.
+ * Every distinct card also has an {@link #ordinalOf ordinal}, its position in {@link #getAll()}, for
+ * per-card tables such as {@link PlayerCollection}.
+ *
+ * Cards handed out here are shared prototypes. Anything that mutates a card during play
+ * (battles, pack reveals, starter decks) must take a copy with {@code new CardSystem.Card(card)}.
+ */
+public final class CardCatalog {
+
+    private static volatile CardCatalog instance;
+
+    private final List<CardSystem.Card> cards;
+    private final Map<String, CardSystem.Card> byUniqueId = new HashMap<>();
+    private final Map<String, CardSystem.Card> byName = new HashMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    /** Catalog cards to their ordinal, so looking one up skips building its unique id. */
+    private final Map<CardSystem.Card, Integer> prototypeOrdinals = new IdentityHashMap<>();
+    private final Map<CardSystem.CardType, List<CardSystem.Card>> byType = new EnumMap<>(CardSystem.CardType.class);
+    private final Map<CardSystem.CardPantheon, List<CardSystem.Card>> byPantheon = new EnumMap<>(CardSystem.CardPantheon.class);
+
+    /** Returns the shared catalog, loading cards.json the first time it is asked for. */
+    public static CardCatalog get() {
+        CardCatalog result = instance;
+        if (result == null) {
+            synchronized (CardCatalog.class) {
+                result = instance;
+                if (result == null) {
+                    result = new CardCatalog(CardSystem.loadCardsFromJson());
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Builds a catalog over an already loaded card list (the list is copied). */
+    public CardCatalog(List<CardSystem.Card> source) {
+        this.cards = Collections.unmodifiableList(new ArrayList<>(source));
+
+        Map<CardSystem.CardType, List<CardSystem.Card>> types = new EnumMap<>(CardSystem.CardType.class);
+        Map<CardSystem.CardPantheon, List<CardSystem.Card>> pantheons = new EnumMap<>(CardSystem.CardPantheon.class);
+        for (CardSystem.CardType t : CardSystem.CardType.values()) types.put(t, new ArrayList<>());
+        for (CardSystem.CardPantheon p : CardSystem.CardPantheon.values()) pantheons.put(p, new ArrayList<>());
+
+        for (int i = 0; i < cards.size(); i++) {
+            CardSystem.Card c = cards.get(i);
+            // First entry wins, matching the old "stream().filter(...).findFirst()" lookups.
+            String id = c.getUniqueId();
+            byUniqueId.putIfAbsent(id, c);
+            ordinals.putIfAbsent(id, i);
+            prototypeOrdinals.put(c, ordinals.get(id));
+            if (c.getName() != null) byName.putIfAbsent(c.getName(), c);
+            if (c.getType() != null) types.get(c.getType()).add(c);
+            if (c.getPantheon() != null) pantheons.get(c.getPantheon()).add(c);
+        }
+
+        for (Map.Entry<CardSystem.CardType, List<CardSystem.Card>> e : types.entrySet()) {
+            byType.put(e.getKey(), Collections.unmodifiableList(e.getValue()));
+        }
+        for (Map.Entry<CardSystem.CardPantheon, List<CardSystem.Card>> e : pantheons.entrySet()) {
+            byPantheon.put(e.getKey(), Collections.unmodifiableList(e.getValue()));
+        }
+    }
+
+    /** Every card in file order. */
+    public List<CardSystem.Card> getAll() {
+        return cards;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /** @return the card with this {@link CardSystem.Card#getUniqueId()}, or null */
+    public CardSystem.Card byUniqueId(String uniqueId) {
+        return uniqueId == null ? null : byUniqueId.get(uniqueId);
+    }
+
+    /** @return the first card in the file with this display name, or null */
+    public CardSystem.Card byName(String name) {
+        return name == null ? null : byName.get(name);
+    }
+
+    /**
+     * @return the position in {@link #getAll()} of the card with this card's unique id (the first one, if the file
+     * repeats it), or -1. Copies of catalog cards resolve too.
+     */
+    public int ordinalOf(CardSystem.Card card) {
+        if (card == null) return -1;
+        Integer ordinal = prototypeOrdinals.get(card);
+        if (ordinal == null) ordinal = ordinals.get(card.getUniqueId());
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /** @return the ordinal of the card with this unique id, or -1 */
+    public int ordinalOf(String uniqueId) {
+        Integer ordinal = uniqueId == null ? null : ordinals.get(uniqueId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public CardSystem.Card byOrdinal(int ordinal) {
+        return cards.get(ordinal);
+    }
+
+    public List<CardSystem.Card> ofType(CardSystem.CardType type) {
+        List<CardSystem.Card> list = byType.get(type);
+        return list != null ? list : Collections.<CardSystem.Card>emptyList();
+    }
+
+    public List<CardSystem.Card> ofPantheon(CardSystem.CardPantheon pantheon) {
+        List<CardSystem.Card> list = byPantheon.get(pantheon);
+        return list != null ? list : Collections.<CardSystem.Card>emptyList();
+    }
+}
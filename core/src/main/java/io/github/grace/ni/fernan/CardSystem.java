@@ -6,10 +6,17 @@ import com.badlogic.gdx.utils.Json;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import io.github.grace.ni.fernan.SkillEffect;
 import java.util.Iterator;
+import java.util.function.Predicate;
+import io.github.grace.ni.fernan.status.ConfuseStatus;
+import io.github.grace.ni.fernan.status.DamageModifierStatus;
+import io.github.grace.ni.fernan.status.DodgeBuffStatus;
+import io.github.grace.ni.fernan.status.FlatDamageBuffStatus;
 import io.github.grace.ni.fernan.status.Status;
+import io.github.grace.ni.fernan.status.StatusPools;
 
 
 public class CardSystem {
@@ -53,11 +60,12 @@ public class CardSystem {
         // ADD THIS GETTER METHOD
         public List<SkillEffect> getEffects() { return effects; }
 
-        public void apply(Card user, Card target) {
+        public void apply(Card user, Card target, GameRandom random) {
             if (this.effects != null) {
-                for (SkillEffect e : this.effects) {
+                for (int i = 0; i < this.effects.size(); i++) {
+                    SkillEffect e = this.effects.get(i);
                     if (e != null) {
-                        e.apply(user, target);
+                        e.apply(user, target, random);
                     }
                 }
             }
@@ -73,7 +81,17 @@ public class CardSystem {
         private CardType type;
         private CardPantheon pantheon;
         private String imagePath;
+        /** Built on first use; setting the name, type or pantheon clears it. */
+        private String uniqueId;
         private final List<io.github.grace.ni.fernan.status.Status> statuses = new ArrayList<>();
+        private final List<io.github.grace.ni.fernan.status.Status> readOnlyStatuses = Collections.unmodifiableList(statuses);
+        // Combat modifiers summed over the statuses above, updated only when a status comes or goes.
+        private int flatDamageBonus;
+        private float damageModifier;
+        private float dodgeChance;
+        private float missChance;
+        private int attackCount;
+        private int statusVersion;
         private boolean usedOnceThisBattle = false;
         private boolean usedThisTurn        = false;
 
@@ -119,7 +137,12 @@ public class CardSystem {
         }
 
         public String getUniqueId() {
-            return name + "_" + (pantheon != null ? pantheon.name() : "NONE") + "_" + (type != null ? type.name() : "UNKNOWN");
+            String id = uniqueId;
+            if (id == null) {
+                id = name + "_" + (pantheon != null ? pantheon.name() : "NONE") + "_" + (type != null ? type.name() : "UNKNOWN");
+                uniqueId = id;
+            }
+            return id;
         }
 
         /**
@@ -147,21 +170,41 @@ public class CardSystem {
             this.type = other.type;
             this.pantheon = other.pantheon;
             this.imagePath = other.imagePath;
+            this.uniqueId = other.uniqueId;
             // statuses, usedOnceThisBattle, usedThisTurn are battle-specific and start fresh for the new instance
         }
 
+        /**
+         * An exact mid-battle copy for AI search: HP, statuses and use flags included.
+         * Unlike the copy constructor the skill list is shared, since skills never change during a battle.
+         */
+        public Card snapshot() {
+            Card copy = new Card(name, health, skills, type, pantheon, imagePath);
+            copy.uniqueId = uniqueId;
+            copy.attackCount = attackCount;
+            for (Status st : statuses) {
+                copy.addStatus(st.copy());
+            }
+            copy.usedOnceThisBattle = usedOnceThisBattle;
+            copy.usedThisTurn = usedThisTurn;
+            return copy;
+        }
+
 
         public void setName(String name) {
             this.name = name;
+            this.uniqueId = null;
         }
         public void setImagePath(String imagePath) {
             this.imagePath = imagePath;
         }
         public void setPantheon(CardPantheon pantheon) {
             this.pantheon = pantheon;
+            this.uniqueId = null;
         }
         public void setType(CardType type) {
             this.type = type;
+            this.uniqueId = null;
         }
         public void setHealth(int health) {
             this.health = health;
@@ -171,8 +214,29 @@ public class CardSystem {
         }
 
 
+        /** Read-only; add and remove through {@link #addStatus} and {@link #removeStatusesIf} so the modifier cache stays right. */
         public List<io.github.grace.ni.fernan.status.Status> getStatuses() {
-            return statuses;
+            return readOnlyStatuses;
+        }
+
+        /** Sum of the bonuses of every attached {@link FlatDamageBuffStatus}. */
+        public int getFlatDamageBonus() { return flatDamageBonus; }
+        /** Sum of the percents of every attached {@link DamageModifierStatus}. */
+        public float getDamageModifier() { return damageModifier; }
+        /** Sum of attached {@link DodgeBuffStatus} chances, at most 1. */
+        public float getDodgeChance() { return Math.min(1f, dodgeChance); }
+        /** Sum of attached {@link ConfuseStatus} miss chances, at most 1. */
+        public float getMissChance() { return Math.min(1f, missChance); }
+
+        /** Bumped whenever a status is added, merged or removed, so a screen can tell when to redraw them. */
+        public int getStatusVersion() { return statusVersion; }
+
+        /** How many damaging attacks this card has made; flat damage buffs count their uses off this. */
+        public int getAttackCount() { return attackCount; }
+
+        /** Called once per damaging attack, after the bonuses above were read. */
+        public void recordAttack() {
+            attackCount++;
         }
 
         public String getImagePath() {
@@ -189,27 +253,82 @@ public class CardSystem {
         }
 
 
+        /**
+         * Merges {@code s} into the card's status of the same class if there is one, see {@link Status#mergeWith}.
+         * The card owns {@code s} from here on and returns it to {@link StatusPools} once it is done with it.
+         */
         public void addStatus(io.github.grace.ni.fernan.status.Status s) {
+            for (int i = 0; i < statuses.size(); i++) {
+                Status existing = statuses.get(i);
+                if (existing.getClass() == s.getClass() && existing.mergeWith(s)) {
+                    retotal(existing);
+                    statusVersion++;
+                    StatusPools.free(s);
+                    return;
+                }
+            }
             statuses.add(s);
+            s.onAttach(this);
+            retotal(s);
+            statusVersion++;
         }
 
-        public void applyStartOfTurnStatuses() {
+        public void removeStatusesIf(Predicate<Status> filter) {
             Iterator<Status> it = statuses.iterator();
             while (it.hasNext()) {
                 Status st = it.next();
+                if (filter.test(st)) {
+                    it.remove();
+                    retotal(st);
+                    statusVersion++;
+                    StatusPools.free(st);
+                }
+            }
+        }
+
+        public void applyStartOfTurnStatuses() {
+            // Indexed, not an iterator: this runs every turn for every card in play.
+            for (int i = 0; i < statuses.size(); i++) {
+                Status st = statuses.get(i);
                 st.onTurnStart(this);
-                if (st.isExpired()) it.remove();
+                if (st.isExpired()) {
+                    statuses.remove(i--);
+                    retotal(st);
+                    statusVersion++;
+                    StatusPools.free(st);
+                }
             }
         }
 
         public void applyEndOfTurnStatuses() {
-            Iterator<Status> it = statuses.iterator();
-            while (it.hasNext()) {
-                Status st = it.next();
+            for (int i = 0; i < statuses.size(); i++) {
+                Status st = statuses.get(i);
                 st.onTurnEnd(this);
-                if (st.isExpired()) it.remove();
+                if (st.isExpired()) {
+                    statuses.remove(i--);
+                    retotal(st);
+                    statusVersion++;
+                    StatusPools.free(st);
+                }
             }
         }
+
+        /** Keeps the combat modifier totals in step with the status list after {@code changed} came, went or merged. */
+        private void retotal(Status changed) {
+            if (!(changed instanceof FlatDamageBuffStatus || changed instanceof DamageModifierStatus
+                    || changed instanceof DodgeBuffStatus || changed instanceof ConfuseStatus)) return;
+            // At most one status per class, so re-summing is as cheap as patching the totals.
+            flatDamageBonus = 0;
+            damageModifier = dodgeChance = missChance = 0f;
+            for (int i = 0; i < statuses.size(); i++) {
+                Status st = statuses.get(i);
+                if (st instanceof FlatDamageBuffStatus) flatDamageBonus += ((FlatDamageBuffStatus) st).getBonus();
+                else if (st instanceof DamageModifierStatus) damageModifier += ((DamageModifierStatus) st).getPercent();
+                else if (st instanceof DodgeBuffStatus) dodgeChance += ((DodgeBuffStatus) st).getDodgeChance();
+                else if (st instanceof ConfuseStatus) missChance += ((ConfuseStatus) st).getMissChance();
+            }
+        }
+
         public void takeDamage(int amount) {
             this.health = Math.max(0, this.health - amount);
         }
@@ -221,9 +340,9 @@ public class CardSystem {
         private final List<Card> hand = new ArrayList<>();
         private final List<Card> graveyard = new ArrayList<>();
 
-        public Card drawFromGraveyard() {
+        public Card drawFromGraveyard(GameRandom random) {
             if (graveyard.isEmpty()) return null;
-            return graveyard.remove((int)(Math.random() * graveyard.size()));
+            return graveyard.remove(random.nextInt(graveyard.size()));
         }
         public void addToHand(Card c) {
             if (c != null) {
@@ -319,6 +438,6 @@ public class CardSystem {
     }
 
     public static List<Card> getAllCards() {
-        return loadCardsFromJson();
+        return new ArrayList<>(CardCatalog.get().getAll());
     }
 }
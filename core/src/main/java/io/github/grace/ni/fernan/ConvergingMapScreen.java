@@ -35,6 +35,9 @@ import io.github.grace.ni.fernan.PackOpenScreenFernan.PackType;
 public class ConvergingMapScreen implements Screen {
     enum NodeType { PLAYER, COMBAT, REWARD, REST, MINIBOSS, BOSS }
 
+    /** Touches closer than this to a node, in world units, select it. */
+    static final float TOUCH_RADIUS = 32;
+
     static class Node {
         final String id;
         final NodeType type;
@@ -55,64 +58,77 @@ public class ConvergingMapScreen implements Screen {
     private SpriteBatch   batch;
     private ShapeRenderer shape;
     private Viewport      viewport;
-    private final Set<String> visitedNodeIds = new HashSet<>();
+    private final MapFrame map;
+    private final List<Node> nodes;
+    private final Set<String> visitedNodeIds;
 
     private Texture texBg, texPlayer, texCombat, texReward, texRest, texMiniBoss, texBoss;
-    private final List<Node> nodes = new ArrayList<>();
-    private Node current;
 
     private Stage      uiStage;
     private boolean    showingPopup = false;
     private Table      popupTable;
     private BitmapFont fontHeading, fontBody;
     private Texture    popupBgTex, startBtnTex, openNowBtnTex, openLaterBtnTex, viewDecksBtnTex, proceedBtnTex;
+    private final TextureCache.Lease textures;
+
+    /** What the constructor loads; mode selection preloads it. */
+    static final AssetManifest MANIFEST = new AssetManifest().texture(
+        "ui/map_background2.png", "ui/player_x.png", "ui/combat_icon.png", "ui/reward_icon.png",
+        "ui/rest_temple.png", "ui/miniboss_icon.png", "ui/boss_skull.png", "ui/popupwindowbg.png",
+        "ui/startbutton.png", "ui/opennowbutton.png", "ui/openlaterbutton.png", "ui/viewdecksbutton.png",
+        "ui/proceedbutton.png");
 
 
     public ConvergingMapScreen(FernansGrace game, SaveProfile profile) {
         this.game    = game;
         this.profile = profile;
+        this.textures = game.textures.lease();
         batch        = new SpriteBatch();
         shape        = new ShapeRenderer();
         viewport     = new ScreenViewport();
-
-        texBg       = new Texture(Gdx.files.internal("ui/map_background2.png"));
-        texPlayer   = new Texture(Gdx.files.internal("ui/player_x.png"));
-        texCombat   = new Texture(Gdx.files.internal("ui/combat_icon.png"));
-        texReward   = new Texture(Gdx.files.internal("ui/reward_icon.png"));
-        texRest     = new Texture(Gdx.files.internal("ui/rest_temple.png"));
-        texMiniBoss = new Texture(Gdx.files.internal("ui/miniboss_icon.png"));
-        texBoss     = new Texture(Gdx.files.internal("ui/boss_skull.png"));
+        map          = new MapFrame(viewport);
+        nodes        = map.nodes;
+        visitedNodeIds = map.visitedNodeIds;
+
+        texBg       = textures.get("ui/map_background2.png");
+        texPlayer   = textures.get("ui/player_x.png");
+        texCombat   = textures.get("ui/combat_icon.png");
+        texReward   = textures.get("ui/reward_icon.png");
+        texRest     = textures.get("ui/rest_temple.png");
+        texMiniBoss = textures.get("ui/miniboss_icon.png");
+        texBoss     = textures.get("ui/boss_skull.png");
 
         uiStage     = new Stage(new ScreenViewport(), batch);
-        fontHeading = new BitmapFont(Gdx.files.internal("ui/black_adder_yellow.fnt"));
-        fontBody    = new BitmapFont(Gdx.files.internal("ui/royal_hefana.fnt"));
-        popupBgTex  = new Texture(Gdx.files.internal("ui/popupwindowbg.png"));
-        startBtnTex = new Texture(Gdx.files.internal("ui/startbutton.png"));
-        openNowBtnTex = new Texture(Gdx.files.internal("ui/opennowbutton.png"));
-        openLaterBtnTex = new Texture(Gdx.files.internal("ui/openlaterbutton.png"));
-        viewDecksBtnTex = new Texture(Gdx.files.internal("ui/viewdecksbutton.png"));
-        proceedBtnTex = new Texture(Gdx.files.internal("ui/proceedbutton.png"));
+        fontHeading = game.assets.font("ui/black_adder_yellow.fnt", 1.1f);
+        fontBody    = game.assets.font("ui/royal_hefana.fnt", 0.7f);
+        popupBgTex  = textures.get("ui/popupwindowbg.png");
+        startBtnTex = textures.get("ui/startbutton.png");
+        openNowBtnTex = textures.get("ui/opennowbutton.png");
+        openLaterBtnTex = textures.get("ui/openlaterbutton.png");
+        viewDecksBtnTex = textures.get("ui/viewdecksbutton.png");
+        proceedBtnTex = textures.get("ui/proceedbutton.png");
 
         allYourDecks = (profile != null && profile.decks != null) ? profile.decks : new ArrayList<>();
 
-        defineMap();
-
-        if (profile != null) {
-            if (profile.currentMapId != null) {
-                Node foundNode = findNodeById(profile.currentMapId);
-                this.current = (foundNode != null) ? foundNode : nodes.get(0);
-            } else {
-                this.current = nodes.get(0);
-            }
-            if (this.current != null && this.current.type != NodeType.PLAYER) {
-                visitedNodeIds.add(this.current.id);
-            }
-        } else {
-            this.current = nodes.get(0);
-        }
+        syncWithProfile();
         Gdx.input.setInputProcessor(uiStage);
     }
 
+    /**
+     * Puts the player on the profile's saved node. The screen is cached per profile, so this runs on every show: a
+     * run reset since (defeat, or the boss beaten) sends the player back to the start with nothing visited.
+     */
+    private void syncWithProfile() {
+        Node saved = null;
+        if (profile != null && profile.currentMapId != null) saved = findNodeById(profile.currentMapId);
+        if (saved == null) saved = nodes.get(0);
+        if (saved == map.current) return;
+        map.current = saved;
+        // Only the current node is saved, so that is all that is known to be visited.
+        visitedNodeIds.clear();
+        if (saved.type != NodeType.PLAYER) visitedNodeIds.add(saved.id);
+    }
+
     private Node findNodeById(String id) {
         for (Node node : nodes) {
             if (node.id.equals(id)) {
@@ -122,7 +138,8 @@ public class ConvergingMapScreen implements Screen {
         return null;
     }
 
-    private void defineMap() {
+    /** The map's nodes, the start first; every call builds a new map. */
+    static List<Node> createMap() {
         Node n0  = new Node("n0",  NodeType.PLAYER,   150,  80);
         Node n1a = new Node("n1a", NodeType.COMBAT,   130, 210);
         Node n2a = new Node("n2a", NodeType.COMBAT,   200, 350);
@@ -140,16 +157,82 @@ public class ConvergingMapScreen implements Screen {
         n0 .next.add(n1b); n1b.next.add(n2b); n2b.next.add(n3b);
         n3b.next.add(n4b); n4b.next.add(nBoss);
 
-        nodes.clear();
-        Collections.addAll(nodes, n0, n1a, n2a, n3a, n4a, n5a, n1b, n2b, n3b, n4b, nBoss);
+        List<Node> map = new ArrayList<>();
+        Collections.addAll(map, n0, n1a, n2a, n3a, n4a, n5a, n1b, n2b, n3b, n4b, nBoss);
+        return map;
+    }
+
+    /** The colour of the path from {@code from} to {@code to}: walked, open from where the player stands, or ahead. */
+    static Color edgeColor(Node from, Node to, Node current, Set<String> visited) {
+        if (visited.contains(from.id) && visited.contains(to.id)) return Color.YELLOW;
+        if (visited.contains(from.id) || from == current) return Color.LIGHT_GRAY;
+        return Color.DARK_GRAY;
+    }
+
+    /**
+     * The node the player can move to from {@code current} at a touch in world coordinates, or null.
+     * Visited nodes are closed except rest shrines.
+     */
+    static Node nodeAt(Node current, Set<String> visited, float worldX, float worldY) {
+        for (int i = 0; i < current.next.size(); i++) {
+            Node nxt = current.next.get(i);
+            boolean canMoveTo = !visited.contains(nxt.id) || nxt.type == NodeType.REST;
+            if (canMoveTo && nxt.pos.dst(worldX, worldY) < TOUCH_RADIUS) return nxt;
+        }
+        return null;
+    }
+
+    /**
+     * The map's state, and what {@link #render} works out from it each frame apart from drawing. Needs no GL, so the
+     * allocation check runs the same frame headless.
+     */
+    static final class MapFrame {
+        final List<Node> nodes = createMap();
+        final Set<String> visitedNodeIds = new HashSet<>();
+        Node current;
+        /** This frame's colour for each path, in the order of {@link #nodes} and their {@code next} lists. */
+        final Color[] edgeColors;
+        private final Viewport viewport;
+        private final Vector2 touch = new Vector2();
+
+        MapFrame(Viewport viewport) {
+            this.viewport = viewport;
+            int edges = 0;
+            for (int i = 0; i < nodes.size(); i++) edges += nodes.get(i).next.size();
+            edgeColors = new Color[edges];
+        }
+
+        /**
+         * Colours the paths, and if {@code touched}, matches the touch at screen coordinates to a node.
+         * @return the node the player touched and can move to, or null
+         */
+        Node update(boolean touched, int screenX, int screenY) {
+            int edge = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node n = nodes.get(i);
+                for (int j = 0; j < n.next.size(); j++) {
+                    edgeColors[edge++] = edgeColor(n, n.next.get(j), current, visitedNodeIds);
+                }
+            }
+            if (!touched || current == null) return null;
+            viewport.unproject(touch.set(screenX, screenY));
+            return nodeAt(current, visitedNodeIds, touch.x, touch.y);
+        }
     }
 
     @Override public void show() {
+        hidePopup();
+        syncWithProfile();
         Gdx.input.setInputProcessor(uiStage);
+        // Most nodes are battles; reward nodes open a pack.
+        game.textures.preload(BattleScreen.MANIFEST, FernansGrace.PRELOAD_LIKELY);
+        game.textures.preload(PackOpenScreenFernan.MANIFEST, FernansGrace.PRELOAD_POSSIBLE);
     }
 
     @Override
     public void render(float delta) {
+        Node touched = map.update(Gdx.input.justTouched() && !showingPopup, Gdx.input.getX(), Gdx.input.getY());
+
         ScreenUtils.clear(0,0,0,1);
         viewport.apply();
         batch.setProjectionMatrix(viewport.getCamera().combined);
@@ -159,23 +242,21 @@ public class ConvergingMapScreen implements Screen {
 
         shape.setProjectionMatrix(viewport.getCamera().combined);
         shape.begin(ShapeRenderer.ShapeType.Line);
-        for (Node n : nodes) {
-            for (Node nextNode : n.next) {
-                if (visitedNodeIds.contains(n.id) && visitedNodeIds.contains(nextNode.id)) {
-                    shape.setColor(Color.YELLOW);
-                } else if (visitedNodeIds.contains(n.id) || n == current) {
-                    shape.setColor(Color.LIGHT_GRAY);
-                } else {
-                    shape.setColor(Color.DARK_GRAY);
-                }
+        int edge = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node n = nodes.get(i);
+            for (int j = 0; j < n.next.size(); j++) {
+                Node nextNode = n.next.get(j);
+                shape.setColor(map.edgeColors[edge++]);
                 shape.line(n.pos.x, n.pos.y, nextNode.pos.x, nextNode.pos.y);
             }
         }
         shape.end();
 
         batch.begin();
-        for (Node n : nodes) {
-            if (n != current) {
+        for (int i = 0; i < nodes.size(); i++) {
+            Node n = nodes.get(i);
+            if (n != map.current) {
                 if (visitedNodeIds.contains(n.id) && n.type != NodeType.PLAYER) {
                     batch.setColor(0.5f, 0.5f, 0.5f, 0.7f);
                 } else {
@@ -189,23 +270,13 @@ public class ConvergingMapScreen implements Screen {
                 batch.setColor(Color.WHITE);
             }
         }
-        if (current != null) {
+        if (map.current != null) {
             float markerSize = 96f;
-            batch.draw(texPlayer, current.pos.x - markerSize/2, current.pos.y - markerSize/2, markerSize, markerSize);
+            batch.draw(texPlayer, map.current.pos.x - markerSize/2, map.current.pos.y - markerSize/2, markerSize, markerSize);
         }
         batch.end();
 
-        if (Gdx.input.justTouched() && !showingPopup && current != null) {
-            Vector2 touch = new Vector2(Gdx.input.getX(), Gdx.input.getY());
-            viewport.unproject(touch);
-            for (Node nxt : current.next) {
-                boolean canMoveTo = !visitedNodeIds.contains(nxt.id) || nxt.type == NodeType.REST;
-                if (canMoveTo && nxt.pos.dst(touch) < 32) {
-                    showPopup(nxt);
-                    break;
-                }
-            }
-        }
+        if (touched != null) showPopup(touched);
 
         if (showingPopup) {
             uiStage.act(delta);
@@ -263,18 +334,15 @@ public class ConvergingMapScreen implements Screen {
 
         Label title = new Label(titleText, hStyle);
         title.setAlignment(Align.center);
-        title.getStyle().font.getData().setScale(1.3f);
+        title.setFontScale(1.3f / 1.1f);
 
         Label rewardsHeaderLabel = new Label("Rewards:", hStyle);
-        rewardsHeaderLabel.getStyle().font.getData().setScale(1.1f);
 
         Label rewardsDetailLabel = new Label(rewardText, bStyle);
         rewardsDetailLabel.setWrap(true);
-        rewardsDetailLabel.getStyle().font.getData().setScale(0.7f);
 
         Label body = new Label(detailText, bStyle);
         body.setWrap(true);
-        body.getStyle().font.getData().setScale(0.7f);
 
         popupTable.clear();
         popupTable.pad(20);
@@ -316,7 +384,7 @@ public class ConvergingMapScreen implements Screen {
                     }
                     moveTo(node); // Move player to the node first
                     // Then go to pack opening screen, passing 'this' (ConvergingMapScreen) as previousScreen
-                    game.setScreen(new PackOpenScreenFernan(game, profile, 1, PackOpenScreenFernan.PackType.GOD_DIVINE, ConvergingMapScreen.this));
+                    game.screens.showChild(ConvergingMapScreen.this, new PackOpenScreenFernan(game, profile, 1, PackOpenScreenFernan.PackType.GOD_DIVINE, ConvergingMapScreen.this));
                 }
             });
             Table buttonRow = new Table();
@@ -333,7 +401,7 @@ public class ConvergingMapScreen implements Screen {
                 @Override public void clicked(InputEvent e, float x, float y) {
                     hidePopup();
                     moveTo(node);
-                    game.setScreen(new DeckSelectionScreen(
+                    game.screens.showChild(ConvergingMapScreen.this, new DeckSelectionScreen(
                         game,
                         profile,
                         () -> game.setScreen(ConvergingMapScreen.this)
@@ -357,7 +425,7 @@ public class ConvergingMapScreen implements Screen {
             start.addListener(new ClickListener() {
                 @Override public void clicked(InputEvent e, float x, float y) {
                     hidePopup();
-                    game.setScreen(new BattleScreen(game, ConvergingMapScreen.this, profile, node));
+                    game.screens.showChild(ConvergingMapScreen.this, new BattleScreen(game, ConvergingMapScreen.this, profile, node));
                 }
             });
             popupTable.add(start).size(180,60).colspan(2).center().padTop(15);
@@ -389,20 +457,20 @@ public class ConvergingMapScreen implements Screen {
 
     public void moveTo(Node nxtNodeCompleted) {
         if (nxtNodeCompleted == null) return;
-        this.current = nxtNodeCompleted;
-        visitedNodeIds.add(this.current.id);
+        map.current = nxtNodeCompleted;
+        visitedNodeIds.add(map.current.id);
 
         if (profile != null) {
-            profile.currentMapId = this.current.id;
+            profile.currentMapId = map.current.id;
             SaveManager.saveProfile(profile);
-            Gdx.app.log("MapScreen", "Player moved to node: " + this.current.id + ". Profile saved.");
+            Gdx.app.log("MapScreen", "Player moved to node: " + map.current.id + ". Profile saved.");
         } else {
-            Gdx.app.log("MapScreen", "Player moved to node: " + this.current.id + ". Profile is null, not saving.");
+            Gdx.app.log("MapScreen", "Player moved to node: " + map.current.id + ". Profile is null, not saving.");
         }
     }
 
     public Node getCurrentNode() {
-        return this.current;
+        return map.current;
     }
 
     @Override public void resize(int w, int h)    {
@@ -416,22 +484,7 @@ public class ConvergingMapScreen implements Screen {
     public void dispose() {
         if (batch != null) batch.dispose();
         if (shape != null) shape.dispose();
-        if (texBg != null) texBg.dispose();
-        if (texPlayer != null) texPlayer.dispose();
-        if (texCombat != null) texCombat.dispose();
-        if (texReward != null) texReward.dispose();
-        if (texRest != null) texRest.dispose();
-        if (texMiniBoss != null) texMiniBoss.dispose();
-        if (texBoss != null) texBoss.dispose();
-
         if (uiStage != null) uiStage.dispose();
-        if (fontHeading != null) fontHeading.dispose();
-        if (fontBody != null) fontBody.dispose();
-        if (popupBgTex != null) popupBgTex.dispose();
-        if (startBtnTex != null) startBtnTex.dispose();
-        if (openNowBtnTex != null) openNowBtnTex.dispose();
-        if (openLaterBtnTex != null) openLaterBtnTex.dispose();
-        if (viewDecksBtnTex != null) viewDecksBtnTex.dispose();
-        if (proceedBtnTex != null) proceedBtnTex.dispose();
+        textures.dispose();
     }
 }
@@ -5,7 +5,6 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -14,7 +13,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.ScreenUtils;
@@ -40,6 +38,7 @@ public class DeckBuilderScreen implements Screen {
     private Set<String> selectedIds;
     private Table cardTable;
     private Texture bgTex;
+    private final TextureCache.Lease textures;
     private Image   bgImg;
 
     private BitmapFont fontWhite, fontYellow, fontHover;
@@ -49,6 +48,7 @@ public class DeckBuilderScreen implements Screen {
                              DeckSelectionScreen.Deck deck,
                              ReturnCallback onBack) {
         this.game    = game;
+        this.textures = game.textures.lease();
         this.profile = profile;
         this.deck    = deck;
         this.onBack  = onBack;
@@ -59,7 +59,7 @@ public class DeckBuilderScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        skin = game.assets.skin();
         // Only load the player’s owned cards:
         allCards = new ArrayList<>(profile.getOwnedCards());
 
@@ -72,12 +72,12 @@ public class DeckBuilderScreen implements Screen {
         selected = new ArrayList<>(deck.getCards());
 
 
-        bgTex = new Texture(Gdx.files.internal("ui/deckbuilderscreenbg.png"));
+        bgTex = textures.get("ui/deckbuilderscreenbg.png");
         bgImg = new Image(bgTex);
 
-        fontWhite  = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
-        fontYellow = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        fontHover  = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
+        fontWhite  = game.assets.font("ui/smalligator_white.fnt");
+        fontYellow = game.assets.font("ui/smalligator_yellow.fnt");
+        fontHover  = game.assets.font("ui/smalligator_gradient2.fnt");
 
         buildUI();
     }
@@ -92,8 +92,7 @@ public class DeckBuilderScreen implements Screen {
         stage.addActor(root);
 
         // Back button
-        ImageButton back = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/backicon.png"))));
+        ImageButton back = new ImageButton(textures.drawable("ui/backicon.png"));
         back.setSize(50,50);
         back.addListener(new ClickListener(){
             @Override public void clicked(InputEvent e, float x, float y) {
@@ -102,8 +101,7 @@ public class DeckBuilderScreen implements Screen {
         });
 
         // Sort button
-        ImageButton sort = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/sorticon.png"))));
+        ImageButton sort = new ImageButton(textures.drawable("ui/sorticon.png"));
         sort.setSize(50,50);
         sort.addListener(new ClickListener(){
             @Override public void clicked(InputEvent e, float x, float y) {
@@ -156,9 +154,7 @@ public class DeckBuilderScreen implements Screen {
 
         for (CardSystem.Card c : allCards) {
             // create the image & container
-            Image img = new Image(new TextureRegionDrawable(
-                new TextureRegion(new Texture(c.getImagePath()))
-            ));
+            Image img = new Image(textures.drawable(c.getImagePath(), TextureCache.Tier.THUMB));
             img.setScaling(Scaling.fit);
 
             // to this:
@@ -212,11 +208,7 @@ public class DeckBuilderScreen implements Screen {
     @Override public void hide()   {}
     @Override public void dispose() {
         stage.dispose();
-        skin.dispose();
-        bgTex.dispose();
-        fontWhite.dispose();
-        fontYellow.dispose();
-        fontHover.dispose();
+        textures.dispose();
     }
 
     /** Copy your existing showSortDialog/bubbleSort/insertionSort here… */
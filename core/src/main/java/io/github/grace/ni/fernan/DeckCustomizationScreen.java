@@ -33,6 +33,7 @@ public class DeckCustomizationScreen implements Screen {
 
     private Stage stage;
     private Texture texBg;
+    private final TextureCache.Lease textures;
     private Label nameLabel, countLabel;
     private Container<Actor> nameContainer;
     private Table cardsTable;
@@ -44,6 +45,7 @@ public class DeckCustomizationScreen implements Screen {
                                    DeckSelectionScreen.Deck deck,
                                    ReturnCallback onBack) {
         this.game    = game;
+        this.textures = game.textures.lease();
         this.profile = profile;
         this.deck    = deck;
         this.onBack  = onBack;
@@ -51,11 +53,11 @@ public class DeckCustomizationScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        skin           = new com.badlogic.gdx.scenes.scene2d.ui.Skin(Gdx.files.internal("ui/uiskin.json"));
-        fontNormal     = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
-        fontHover      = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
-        fontBlackAdder = new BitmapFont(Gdx.files.internal("ui/black_adder.fnt"));
-        texBg          = new Texture(Gdx.files.internal("ui/deck_customization_bg.png"));
+        skin           = game.assets.skin();
+        fontNormal     = game.assets.font("ui/smalligator_white.fnt");
+        fontHover      = game.assets.font("ui/smalligator_gradient2.fnt");
+        fontBlackAdder = game.assets.font("ui/black_adder.fnt");
+        texBg          = textures.get("ui/deck_customization_bg.png");
 
         buildUI();
     }
@@ -73,8 +75,7 @@ public class DeckCustomizationScreen implements Screen {
         stage.addActor(root);
 
         // Back
-        ImageButton back = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/backicon.png"))));
+        ImageButton back = new ImageButton(textures.drawable("ui/backicon.png"));
         back.addListener(new ClickListener() {
             @Override public void clicked(InputEvent e, float x, float y) {
                 onBack.goBack();
@@ -86,8 +87,7 @@ public class DeckCustomizationScreen implements Screen {
         nameLabel = new Label(deck.getName(),
             new Label.LabelStyle(fontBlackAdder, Color.BLACK));
         nameContainer = new Container<>(nameLabel);
-        nameContainer.background(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/textfield_bg.png"))));
+        nameContainer.background(textures.drawable("ui/textfield_bg.png"));
         nameContainer.pad(10).width(400).height(40);
         root.add(nameContainer).padRight(10);
 
@@ -95,14 +95,12 @@ public class DeckCustomizationScreen implements Screen {
         countLabel = new Label(deck.getCards().size() + "/" + MAX_CARDS,
             new Label.LabelStyle(fontNormal, Color.BLACK));
         Container<Label> countContainer = new Container<>(countLabel);
-        countContainer.background(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/counter_bg.png"))));
+        countContainer.background(textures.drawable("ui/counter_bg.png"));
         countContainer.pad(5).size(90,50);
         root.add(countContainer).padRight(10);
 
         // Trash
-        ImageButton trash = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/trash_button.png"))));
+        ImageButton trash = new ImageButton(textures.drawable("ui/trash_button.png"));
         trash.addListener(new ClickListener(){
             @Override public void clicked(InputEvent e, float x, float y) {
                 deck.getCards().clear();
@@ -113,8 +111,7 @@ public class DeckCustomizationScreen implements Screen {
         root.add(trash).size(50,50).padRight(10);
 
         // Save (commit name)
-        ImageButton save = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/save_button.png"))));
+        ImageButton save = new ImageButton(textures.drawable("ui/save_button.png"));
         save.addListener(new ClickListener(){
             @Override public void clicked(InputEvent e, float x, float y) {
                 Actor a = nameContainer.getActor();
@@ -130,17 +127,14 @@ public class DeckCustomizationScreen implements Screen {
         root.add(save).size(50,50).padRight(10);
 
         // Rename
-        ImageButton rename = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/rename_button.png"))));
+        ImageButton rename = new ImageButton(textures.drawable("ui/rename_button.png"));
         rename.addListener(new ClickListener(){
             @Override public void clicked(InputEvent e, float x, float y) {
                 TextField.TextFieldStyle base = skin.get(TextField.TextFieldStyle.class);
                 TextField.TextFieldStyle tfStyle = new TextField.TextFieldStyle(base);
                 tfStyle.font      = fontBlackAdder;
                 tfStyle.fontColor = Color.BLACK;
-                tfStyle.background = new TextureRegionDrawable(
-                    new TextureRegion(new Texture("ui/textfield_bg.png"))
-                );
+                tfStyle.background = textures.drawable("ui/textfield_bg.png");
                 TextField tf = new TextField(deck.getName(), skin);
                 tf.setStyle(tfStyle);
                 tf.setMessageText("Enter deck name");
@@ -160,8 +154,7 @@ public class DeckCustomizationScreen implements Screen {
         root.add(rename).size(50,50).padRight(10);
 
         // Sort
-        ImageButton sort = new ImageButton(new TextureRegionDrawable(
-            new TextureRegion(new Texture("ui/sorticon.png"))));
+        ImageButton sort = new ImageButton(textures.drawable("ui/sorticon.png"));
         sort.addListener(new ClickListener(){
             @Override public void clicked(InputEvent e, float x, float y) {
                 showSortDialog();
@@ -187,9 +180,7 @@ public class DeckCustomizationScreen implements Screen {
         List<CardSystem.Card> list = deck.getCards();
         int perRow=5, count=0;
         for (CardSystem.Card c: list) {
-            Image img = new Image(new TextureRegionDrawable(new TextureRegion(
-                new Texture(c.getImagePath())
-            )));
+            Image img = new Image(textures.drawable(c.getImagePath(), TextureCache.Tier.THUMB));
             Table cell = new Table(skin);
             cell.add(img).size(150,220).pad(5);
             cell.addListener(new ClickListener(){
@@ -203,7 +194,7 @@ public class DeckCustomizationScreen implements Screen {
             cardsTable.add(cell);
             if (++count % perRow == 0) cardsTable.row();
         }
-        Texture emptyTex = new Texture(Gdx.files.internal("ui/card_slot_empty.png"));
+        Texture emptyTex = textures.get("ui/card_slot_empty.png");
         while (count++ < MAX_CARDS) {
             Image empty = new Image(new TextureRegionDrawable(new TextureRegion(emptyTex)));
             Table cell = new Table(skin);
@@ -211,7 +202,7 @@ public class DeckCustomizationScreen implements Screen {
             cell.addListener(new ClickListener(){
                 @Override public void clicked(InputEvent e, float x, float y) {
                     if (list.size() < MAX_CARDS) {
-                        game.setScreen(new DeckBuilderScreen(
+                        game.screens.showChild(DeckCustomizationScreen.this, new DeckBuilderScreen(
                             game,
                             profile,
                             deck,
@@ -354,10 +345,6 @@ public class DeckCustomizationScreen implements Screen {
     @Override public void hide()   {}
     @Override public void dispose() {
         stage.dispose();
-        skin.dispose();
-        fontNormal.dispose();
-        fontHover.dispose();
-        fontBlackAdder.dispose();
-        texBg.dispose();
+        textures.dispose();
     }
 }
@@ -47,10 +47,10 @@ public class DeckSelectionScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        skin       = new Skin(Gdx.files.internal("ui/uiskin.json"));
-        titleFont  = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
-        normalFont = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
-        hoverFont  = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
+        skin       = game.assets.skin();
+        titleFont  = game.assets.font("ui/smalligator_white.fnt");
+        normalFont = game.assets.font("ui/smalligator_white.fnt");
+        hoverFont  = game.assets.font("ui/smalligator_gradient2.fnt");
 
         backgroundTex   = new Texture(Gdx.files.internal("BG2B.png"));
         backgroundImage = new Image(new TextureRegionDrawable(new TextureRegion(backgroundTex)));
@@ -204,7 +204,7 @@ public class DeckSelectionScreen implements Screen {
                 customize.setStyle(btnStyle);
             }
             @Override public void clicked(InputEvent e, float x, float y) {
-                game.setScreen(new DeckCustomizationScreen(
+                game.screens.showChild(DeckSelectionScreen.this, new DeckCustomizationScreen(
                     game,
                     profile,
                     decks.get(focusedIndex),
@@ -239,10 +239,6 @@ public class DeckSelectionScreen implements Screen {
     @Override public void hide()   {}
     @Override public void dispose() {
         stage.dispose();
-        skin.dispose();
-        titleFont.dispose();
-        normalFont.dispose();
-        hoverFont.dispose();
         backgroundTex.dispose();
     }
 
@@ -2,6 +2,7 @@ package io.github.grace.ni.fernan;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -19,10 +20,24 @@ import java.util.List;
  * Handles initial screen setup, music playback, and resource management.
  */
 public class FernansGrace extends Game {
+    /** Render-thread time per frame spent finishing preloads, mostly GPU uploads. */
+    private static final int PRELOAD_BUDGET_MILLIS = 4;
+    /** For the screen the player will most likely open next. */
+    public static final int PRELOAD_LIKELY = 10;
+    /** For screens the player may open next. */
+    public static final int PRELOAD_POSSIBLE = 0;
 
     public SpriteBatch batch;
     public FitViewport viewport;
     public boolean isInGame = false;
+    /** The run's generator. Battles and pack openings {@link GameRandom#split() split} their own from it. */
+    public GameRandom random = new GameRandom();
+    /** Shared textures; screens take a {@link TextureCache#lease() lease} and dispose it with themselves. */
+    public TextureCache textures;
+    /** The skin, fonts and sounds all screens share; screens never dispose them. */
+    public SharedAssets assets;
+    /** Keeps recently shown screens alive and disposes the rest; menus are fetched through {@link ScreenManager#show}. */
+    public ScreenManager screens;
 
     private Music backgroundMusic;
     public boolean isMusicEnabled = true;
@@ -31,6 +46,9 @@ public class FernansGrace extends Game {
     public void create() {
         viewport = new FitViewport(16 * 3, 9 * 3);
         batch = new SpriteBatch();
+        textures = new TextureCache();
+        assets = new SharedAssets();
+        screens = new ScreenManager(this);
 
         try {
             backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("BGM1.mp3"));
@@ -41,7 +59,7 @@ public class FernansGrace extends Game {
             Gdx.app.error("FernansGrace", "Failed to load or play background music.", e);
         }
 
-        this.setScreen(new MainFernan(this));
+        screens.show(MainFernan.class, null, () -> new MainFernan(this));
     }
 
     public void toggleMusic() {
@@ -59,8 +77,18 @@ public class FernansGrace extends Game {
         return isMusicEnabled;
     }
 
+    @Override
+    public void setScreen(Screen screen) {
+        // The new screen was built before this call and holds what it needs, so warm-ups can go.
+        screens.showing(screen);
+        if (textures != null) textures.releasePreloads();
+        super.setScreen(screen);
+        screens.shown(screen);
+    }
+
     @Override
     public void render() {
+        textures.update(PRELOAD_BUDGET_MILLIS);
         super.render();
     }
 
@@ -70,11 +98,23 @@ public class FernansGrace extends Game {
         super.resize(width, height);
     }
 
+    @Override
+    public void pause() {
+        super.pause();
+        // Mobile apps can be killed while paused; don't leave a queued save behind.
+        SaveManager.flush();
+    }
+
     @Override
     public void dispose() {
         if (batch != null) batch.dispose();
         if (backgroundMusic != null) backgroundMusic.dispose();
         super.dispose();
+        // Screens go first: they hand their textures back to the cache.
+        if (screens != null) screens.dispose();
+        if (textures != null) textures.dispose();
+        if (assets != null) assets.dispose();
+        SaveManager.shutdown();
     }
 }
 
@@ -35,7 +35,7 @@ public class GameMenuFernan implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        this.skin = new Skin(Gdx.files.internal("ui/uiskin.json")); // Initialize skin for dialogs
+        this.skin = game.assets.skin(); // Initialize skin for dialogs
 
         background = new Texture(Gdx.files.internal("ui/gamemenubg2.png"));
         background.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
@@ -44,10 +44,10 @@ public class GameMenuFernan implements Screen {
         bgImage.setSize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         stage.addActor(bgImage);
 
-        defaultFont = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        hoverFont   = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
+        defaultFont = game.assets.font("ui/smalligator_yellow.fnt");
+        hoverFont   = game.assets.font("ui/smalligator_gradient2.fnt");
 
-        clickSound = Gdx.audio.newSound(Gdx.files.internal("Click.mp3"));
+        clickSound = game.assets.sound(SharedAssets.CLICK);
 
         Drawable transparentDrawable = new TextureRegionDrawable(new TextureRegion(new Texture("ui/transparent.png")));
 
@@ -120,12 +120,12 @@ public class GameMenuFernan implements Screen {
                     switch (index) {
                         case 0: // Play
                             System.out.println("Play clicked");
-                            game.setScreen(new ModeSelectionFernan(game, profile));
+                            game.screens.show(ModeSelectionFernan.class, profile, () -> new ModeSelectionFernan(game, profile));
                             break;
                         case 1: // Decks
                             System.out.println("Decks clicked");
                             DeckSelectionScreen.ReturnCallback onBack = () -> {
-                                game.setScreen(new GameMenuFernan(game, profile));
+                                game.screens.show(GameMenuFernan.class, profile, () -> new GameMenuFernan(game, profile));
                             };
                             game.setScreen(new DeckSelectionScreen(
                                 game,
@@ -135,15 +135,15 @@ public class GameMenuFernan implements Screen {
                             break;
                         case 2: // Store
                             System.out.println("Store clicked");
-                            game.setScreen(new StoreScreenFernan(game, profile));
+                            game.screens.show(StoreScreenFernan.class, profile, () -> new StoreScreenFernan(game, profile));
                             break;
                         case 3: // Settings
                             System.out.println("Settings clicked");
-                            game.setScreen(new SettingsFernan(game));
+                            game.screens.show(SettingsFernan.class, null, () -> new SettingsFernan(game));
                             break;
                         case 4: // Main Menu
                             System.out.println("Main Menu clicked");
-                            game.setScreen(new MainFernan(game));
+                            game.screens.show(MainFernan.class, null, () -> new MainFernan(game));
                             game.isInGame = false;
                             break;
                     }
@@ -162,7 +162,9 @@ public class GameMenuFernan implements Screen {
         this(game, null);
     }
 
-    @Override public void show() {}
+    @Override public void show() {
+        Gdx.input.setInputProcessor(stage); // Reused from the screen cache, so not only in the constructor
+    }
 
     @Override public void render(float delta) {
         Gdx.gl.glClearColor(0,0,0,1); // Clear screen
@@ -179,9 +181,5 @@ public class GameMenuFernan implements Screen {
     @Override public void dispose() {
         stage.dispose();
         if (background != null) background.dispose();
-        if (defaultFont != null) defaultFont.dispose();
-        if (hoverFont != null) hoverFont.dispose();
-        if (clickSound != null) clickSound.dispose();
-        if (skin != null) skin.dispose();
     }
 }
@@ -0,0 +1,121 @@
+package io.github.grace.ni.fernan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The game's random number generator (SplitMix64).
+ *
+ * Every battle, pack opening and run owns its own instance instead of sharing
+ * {@code MathUtils.random} or {@code Math.random()}, so results can be replayed from a seed
+ * and parallel simulations never contend on one generator. It is not thread-safe; hand each
+ * thread its own instance via {@link #split()} or {@link #forStream(long, long)}.
+ * Drawing numbers allocates nothing.
+ */
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final AtomicLong seedUniquifier = new AtomicLong(System.nanoTime());
+
+    private long seed;
+    private long state;
+
+    /** An unseeded generator; two of these created at the same instant still differ. */
+    public GameRandom() {
+        this(mix64(System.nanoTime() ^ seedUniquifier.getAndAdd(GOLDEN_GAMMA)));
+    }
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * The generator for stream {@code stream} of a seeded job, e.g. battle #n of a simulation.
+     * Depends only on the two arguments, so the result is the same however the work is split across threads.
+     */
+    public static GameRandom forStream(long seed, long stream) {
+        return new GameRandom(mix64(seed) + mix64(stream * GOLDEN_GAMMA + 1));
+    }
+
+    /** The seed this generator started from; log it to replay a run. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** A new, independent generator seeded from this one. Advances this generator by one step. */
+    public GameRandom split() {
+        return new GameRandom(mix64(nextLong()));
+    }
+
+    /** Like {@link #split()}, but reseeds {@code target} instead of allocating; both give the same numbers. */
+    public void splitInto(GameRandom target) {
+        target.setSeed(mix64(nextLong()));
+    }
+
+    /** A generator in exactly this state; both will produce the same numbers from here on. */
+    public GameRandom copy() {
+        GameRandom copy = new GameRandom(seed);
+        copy.state = state;
+        return copy;
+    }
+
+    /** Restarts the sequence from a new seed without allocating. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /** Puts this generator in exactly the state of {@code other}, without allocating. */
+    public void copyStateFrom(GameRandom other) {
+        this.seed = other.seed;
+        this.state = other.state;
+    }
+
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /** @return a value in [0, bound); bound must be positive */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive: " + bound);
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /** @return a value in [0, 1) */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /** @return a value in [0, 1) */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /** @return true with the given probability */
+    public boolean chance(float probability) {
+        return nextFloat() < probability;
+    }
+
+    /** @return a uniformly chosen element, or null if the list is empty */
+    public <T> T pick(List<T> list) {
+        return list.isEmpty() ? null : list.get(nextInt(list.size()));
+    }
+
+    /** Fisher-Yates shuffle in place, like {@link Collections#shuffle(List)} but driven by this generator. */
+    public void shuffle(List<?> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, nextInt(i + 1));
+        }
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
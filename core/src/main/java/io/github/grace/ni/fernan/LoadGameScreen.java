@@ -19,6 +19,8 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import io.github.grace.ni.fernan.SaveManager;
 import io.github.grace.ni.fernan.SaveProfile;
+import java.text.DateFormat;
+import java.util.Date;
 import java.util.List;
 
 
@@ -26,7 +28,7 @@ public class LoadGameScreen implements Screen {
 
     final FernansGrace game;
     private Stage stage;
-    private List<SaveProfile> profiles;
+    private List<SaveSlot> slots;
     private Texture background;
     private int selectedSaveIndex = -1;
 
@@ -40,9 +42,9 @@ public class LoadGameScreen implements Screen {
         this.stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
-        // pull all saved profiles
-        profiles = SaveManager.listProfiles();
+        skin = game.assets.skin();
+        // only the index; the chosen profile is read when it is loaded
+        slots = SaveManager.listSlots();
 
 
         Texture bgTexture = new Texture(Gdx.files.internal("ui/loadbg.png"));
@@ -52,9 +54,9 @@ public class LoadGameScreen implements Screen {
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
 
-        font = new BitmapFont(Gdx.files.internal("ui/black_adder.fnt"));
-        buttonFont = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
-        buttonFontHover = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
+        font = game.assets.font("ui/black_adder.fnt");
+        buttonFont = game.assets.font("ui/smalligator_white.fnt");
+        buttonFontHover = game.assets.font("ui/smalligator_gradient2.fnt");
 
         Table root = new Table();
         root.setFillParent(true);
@@ -82,7 +84,7 @@ public class LoadGameScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 // TODO: Replace with actual screen change
-                game.setScreen(new MainFernan(game));
+                game.screens.show(MainFernan.class, null, () -> new MainFernan(game));
             }
         });
 
@@ -102,14 +104,15 @@ public class LoadGameScreen implements Screen {
         pixmap.dispose();
 
         // Scrollable content (name + date rows)
+        DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT);
         Table scrollContent = new Table();
         scrollContent.top().left();
         scrollContent.defaults().expandX().fillX();
 
 
-        for (int i = 0; i < profiles.size(); i++) {
+        for (int i = 0; i < slots.size(); i++) {
             final int index = i;
-            final SaveProfile p = profiles.get(i);
+            final SaveSlot slot = slots.get(i);
             Table row = new Table();
             row.padBottom(10);
             row.setBackground(selectionDrawable);
@@ -119,10 +122,13 @@ public class LoadGameScreen implements Screen {
                     updateRowSelection(scrollContent);
                 }
             });
-            Label nameLabel = new Label(p.saveName, new Label.LabelStyle(font, Color.BLACK));
+            Label nameLabel = new Label(slot.saveName, new Label.LabelStyle(font, Color.BLACK));
             nameLabel.setFontScale(1.5f);
             nameLabel.setAlignment(Align.left);
             row.add(nameLabel).expandX().left();
+            Label dateLabel = new Label(dateFormat.format(new Date(slot.lastModified)), new Label.LabelStyle(font, Color.BLACK));
+            dateLabel.setAlignment(Align.right);
+            row.add(dateLabel).right().padRight(10);
             scrollContent.add(row).expandX().fillX().row();
         }
 
@@ -152,10 +158,10 @@ public class LoadGameScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 if (selectedSaveIndex >= 0) {
-                    SaveProfile toLoad = profiles.get(selectedSaveIndex);
+                    SaveSlot toLoad = slots.get(selectedSaveIndex);
                     SaveProfile loaded = SaveManager.loadProfile(toLoad.saveName);
                     if (loaded != null) {
-                        game.setScreen(new GameMenuFernan(game, loaded));
+                        game.screens.show(GameMenuFernan.class, loaded, () -> new GameMenuFernan(game, loaded));
                     }
                 }
             }
@@ -199,8 +205,5 @@ public class LoadGameScreen implements Screen {
     public void dispose() {
         stage.dispose();
         background.dispose();
-        font.dispose();
-        buttonFont.dispose();
-        skin.dispose();
     }
 }
@@ -50,22 +50,18 @@ public class MainFernan implements Screen {
         Gdx.input.setInputProcessor(stage);
 
         // Fonts
-        customFont = new BitmapFont(Gdx.files.internal("ui/Aligator4.fnt"));
-        customFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        customFont = game.assets.font("ui/Aligator4.fnt");
 
-        buttonFont = new BitmapFont(Gdx.files.internal("ui/Aligator2.fnt"));
-        buttonFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        buttonFont = game.assets.font("ui/Aligator2.fnt");
 
-        yellowFont = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        yellowFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        yellowFont = game.assets.font("ui/smalligator_yellow.fnt");
 
-        whiteFont = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
-        whiteFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        whiteFont = game.assets.font("ui/smalligator_gradient2.fnt");
 
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        skin = game.assets.skin();
 
         // Load click sound
-        clickSound = Gdx.audio.newSound(Gdx.files.internal("Click.mp3")); // Make sure this file exists
+        clickSound = game.assets.sound(SharedAssets.CLICK);
 
         // Button style
         customButtonStyle = new TextButton.TextButtonStyle();
@@ -156,7 +152,7 @@ public class MainFernan implements Screen {
             @Override public void clicked(InputEvent event, float x, float y) {
                 clickSound.play();
                 if (!isMainMenu2) {
-                    game.setScreen(new SettingsFernan(game));
+                    game.screens.show(SettingsFernan.class, null, () -> new SettingsFernan(game));
                 } else {
                     System.out.println("Load Game clicked");
                     game.setScreen(new LoadGameScreen(game));
@@ -193,7 +189,9 @@ public class MainFernan implements Screen {
         button.getLabel().setStyle(style);
     }
 
-    @Override public void show() {}
+    @Override public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     @Override public void render(float delta) {
         ScreenUtils.clear(Color.BLACK);
@@ -221,11 +219,5 @@ public class MainFernan implements Screen {
     @Override public void dispose() {
         background.dispose();
         stage.dispose();
-        skin.dispose();
-        customFont.dispose();
-        buttonFont.dispose();
-        yellowFont.dispose();
-        whiteFont.dispose();
-        clickSound.dispose();
     }
 }
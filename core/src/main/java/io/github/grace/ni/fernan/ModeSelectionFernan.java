@@ -35,8 +35,8 @@ public class ModeSelectionFernan implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        BitmapFont font1 = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        BitmapFont font2 = new BitmapFont(Gdx.files.internal("ui/smalligator_white.fnt"));
+        BitmapFont font1 = game.assets.font("ui/smalligator_yellow.fnt");
+        BitmapFont font2 = game.assets.font("ui/smalligator_white.fnt");
         // Skin skin = new Skin(Gdx.files.internal("ui/uiskin.json")); // skin is unused
 
         background = new Image(new Texture("Bg1.png"));
@@ -73,7 +73,7 @@ public class ModeSelectionFernan implements Screen {
                 backButton.getLabel().setStyle(new Label.LabelStyle(font2, Color.WHITE));
             }
             @Override public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new GameMenuFernan(game, profile));
+                game.screens.show(GameMenuFernan.class, profile, () -> new GameMenuFernan(game, profile));
             }
         });
 
@@ -160,10 +160,10 @@ public class ModeSelectionFernan implements Screen {
                     // Proceed based on the selected game mode
                     switch (gameModes.get(cardIndex).title) {
                         case "Classic":
-                            game.setScreen(new ConvergingMapScreen(game, profile));
+                            game.screens.show(ConvergingMapScreen.class, profile, () -> new ConvergingMapScreen(game, profile));
                             break;
                         case "Versus":
-                            game.setScreen(new ConvergingMapScreen(game, profile)); // Or your Versus screen
+                            game.screens.show(ConvergingMapScreen.class, profile, () -> new ConvergingMapScreen(game, profile)); // Or your Versus screen
                             break;
                         case "Coming Soon":
                             // Do nothing or show a message
@@ -204,7 +204,10 @@ public class ModeSelectionFernan implements Screen {
         mainTable.add(hudLabel).colspan(3).padTop(5);
     }
 
-    @Override public void show() {}
+    @Override public void show() {
+        Gdx.input.setInputProcessor(stage);
+        game.textures.preload(ConvergingMapScreen.MANIFEST, FernansGrace.PRELOAD_LIKELY);
+    }
 
     @Override public void render(float delta) {
         Gdx.gl.glClearColor(0, 0, 0, 1);
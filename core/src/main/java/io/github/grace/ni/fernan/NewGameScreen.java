@@ -31,10 +31,9 @@ public class NewGameScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        customFont = new BitmapFont(Gdx.files.internal("ui/Aligator4.fnt"));
-        customFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        customFont = game.assets.font("ui/Aligator4.fnt");
 
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        skin = game.assets.skin();
 
         Label.LabelStyle labelStyle = new Label.LabelStyle();
         labelStyle.font = customFont;
@@ -76,9 +75,9 @@ public class NewGameScreen implements Screen {
                 if (saveName.isEmpty()) {
                     messageLabel.setText("Please enter a save name");
                 } else {
-                    SaveProfile profile = new SaveProfile(saveName);
+                    SaveProfile profile = new SaveProfile(saveName, game.random);
                     SaveManager.saveProfile(profile);
-                    game.setScreen(new GameMenuFernan(game, profile));
+                    game.screens.show(GameMenuFernan.class, profile, () -> new GameMenuFernan(game, profile));
                 }
             }
         });
@@ -91,7 +90,7 @@ public class NewGameScreen implements Screen {
         // Back button logic
         backButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainFernan(game));
+                game.screens.show(MainFernan.class, null, () -> new MainFernan(game));
             }
         });
 
@@ -141,7 +140,5 @@ public class NewGameScreen implements Screen {
     public void dispose() {
         background.dispose();
         stage.dispose();
-        customFont.dispose();
-        skin.dispose();
     }
 }
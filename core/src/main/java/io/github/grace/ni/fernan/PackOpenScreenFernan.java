@@ -5,25 +5,20 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
-import com.badlogic.gdx.math.MathUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PackOpenScreenFernan implements Screen {
 
@@ -43,6 +38,7 @@ public class PackOpenScreenFernan implements Screen {
     private Stage stage;
     private Skin skin;
     private Texture backgroundTexture;
+    private final TextureCache.Lease textures;
     private Image backgroundImage;
     private List<CardSystem.Card> allCardsFromSystem;
     private BitmapFont yellowFont;
@@ -50,9 +46,18 @@ public class PackOpenScreenFernan implements Screen {
     private Sound clickSound;
     private Label packTypeLabel;
 
-    // Main constructor
+    /** What the constructor loads; screens that open packs preload it. */
+    static final AssetManifest MANIFEST = new AssetManifest()
+        .texture("Bg2B.PNG", "ui/transparent.png", TextureCache.PLACEHOLDER)
+        .atlas(TextureCache.Tier.FULL);
+
+    /**
+     * Main constructor. With a {@code previousScreen}, show this with {@code game.screens.showChild(previousScreen, ...)}
+     * so the screen cache keeps the screen the back button returns to.
+     */
     public PackOpenScreenFernan(FernansGrace game, SaveProfile profile, int numberOfCardsToDisplay, PackType packTypeToOpen, Screen previousScreen) {
         this.game = game;
+        this.textures = game.textures.lease();
         this.profile = profile;
         this.numberOfCardsToDisplay = numberOfCardsToDisplay;
         this.packTypeToOpen = packTypeToOpen;
@@ -61,12 +66,12 @@ public class PackOpenScreenFernan implements Screen {
         this.stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        this.skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
-        this.allCardsFromSystem = CardSystem.loadCardsFromJson();
+        this.skin = game.assets.skin();
+        this.allCardsFromSystem = CardCatalog.get().getAll();
 
-        this.yellowFont = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        this.whiteFont = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
-        this.clickSound = Gdx.audio.newSound(Gdx.files.internal("Click.mp3"));
+        this.yellowFont = game.assets.font("ui/smalligator_yellow.fnt");
+        this.whiteFont = game.assets.font("ui/smalligator_gradient2.fnt");
+        this.clickSound = game.assets.sound(SharedAssets.CLICK);
 
         buildUI();
     }
@@ -74,7 +79,8 @@ public class PackOpenScreenFernan implements Screen {
     // Overloaded constructor that defaults previousScreen to StoreScreenFernan (if profile is available)
     // This might be used by older code or simple store pack openings.
     public PackOpenScreenFernan(FernansGrace game, SaveProfile profile, int numberOfCardsToDisplay, PackType packTypeToOpen) {
-        this(game, profile, numberOfCardsToDisplay, packTypeToOpen, new StoreScreenFernan(game, profile));
+        // Null: the back button fetches the cached store instead of building one nobody may return to.
+        this(game, profile, numberOfCardsToDisplay, packTypeToOpen, null);
         Gdx.app.log("PackOpenScreenFernan", "Warning: previousScreen not specified, defaulting to StoreScreenFernan for pack type: " + packTypeToOpen);
     }
 
@@ -89,7 +95,7 @@ public class PackOpenScreenFernan implements Screen {
     private void buildUI() {
         stage.clear();
 
-        backgroundTexture = new Texture(Gdx.files.internal("Bg2B.PNG"));
+        backgroundTexture = textures.get("Bg2B.PNG");
         backgroundImage = new Image(backgroundTexture);
         backgroundImage.setFillParent(true);
         stage.addActor(backgroundImage);
@@ -117,7 +123,7 @@ public class PackOpenScreenFernan implements Screen {
             cardDisplayTable.add(errorLabel).colspan(cardsPerRow);
             System.err.println("PackOpenScreenFernan: allCardsFromSystem is empty.");
         } else {
-            List<CardSystem.Card> openedCards = generateCardsForPack();
+            List<CardSystem.Card> openedCards = generateCardsForPack(game.random.split());
 
             for (int i = 0; i < openedCards.size(); i++) {
                 CardSystem.Card newCard = openedCards.get(i);
@@ -141,7 +147,7 @@ public class PackOpenScreenFernan implements Screen {
         root.add(cardDisplayTable).center().row();
 
         TextButton.TextButtonStyle backButtonStyle = new TextButton.TextButtonStyle();
-        Drawable transparentDrawable = new TextureRegionDrawable(new TextureRegion(new Texture(Gdx.files.internal("ui/transparent.png"))));
+        Drawable transparentDrawable = textures.drawable("ui/transparent.png");
         backButtonStyle.up = transparentDrawable;
         backButtonStyle.down = transparentDrawable;
         backButtonStyle.over = transparentDrawable;
@@ -166,7 +172,7 @@ public class PackOpenScreenFernan implements Screen {
                 } else {
                     // Fallback if previousScreen is somehow null, go to a safe default like Store or GameMenu
                     Gdx.app.log("PackOpenScreenFernan", "Previous screen was null, returning to StoreScreenFernan as default.");
-                    game.setScreen(new StoreScreenFernan(game, profile));
+                    game.screens.show(StoreScreenFernan.class, profile, () -> new StoreScreenFernan(game, profile));
                 }
             }
         });
@@ -178,87 +184,11 @@ public class PackOpenScreenFernan implements Screen {
         stage.addActor(topTable);
     }
 
-    private List<CardSystem.Card> generateCardsForPack() {
+    private List<CardSystem.Card> generateCardsForPack(GameRandom random) {
         List<CardSystem.Card> cardsInPack = new ArrayList<>();
-        if (allCardsFromSystem.isEmpty()) return cardsInPack;
-
+        PackSampler sampler = PackSampler.get();
         for (int i = 0; i < numberOfCardsToDisplay; i++) {
-            CardSystem.Card chosenCard = null;
-            List<CardSystem.Card> potentialCards;
-
-            switch (packTypeToOpen) {
-                case GOD_DIVINE:
-                    boolean isGod = MathUtils.random() < 0.15f;
-                    if (isGod) {
-                        potentialCards = allCardsFromSystem.stream()
-                            .filter(c -> c.getType() == CardSystem.CardType.GOD)
-                            .collect(Collectors.toList());
-                        if (potentialCards.isEmpty()) {
-                            potentialCards = allCardsFromSystem.stream()
-                                .filter(c -> c.getType() == CardSystem.CardType.DIVINE)
-                                .collect(Collectors.toList());
-                        }
-                    } else {
-                        potentialCards = allCardsFromSystem.stream()
-                            .filter(c -> c.getType() == CardSystem.CardType.DIVINE)
-                            .collect(Collectors.toList());
-                    }
-                    if (potentialCards.isEmpty() && !allCardsFromSystem.isEmpty()) {
-                        potentialCards = new ArrayList<>(allCardsFromSystem);
-                        Gdx.app.log("PackOpenScreen", "Warning: Could not find enough GOD/DIVINE cards, using random from all cards for God/Divine pack.");
-                    }
-                    break;
-
-                case DIVINE:
-                    potentialCards = allCardsFromSystem.stream()
-                        .filter(c -> c.getType() == CardSystem.CardType.DIVINE)
-                        .collect(Collectors.toList());
-                    if (potentialCards.isEmpty() && !allCardsFromSystem.isEmpty()) {
-                        potentialCards = new ArrayList<>(allCardsFromSystem);
-                        Gdx.app.log("PackOpenScreen", "Warning: Could not find any DIVINE cards, using random from all cards for Divine pack.");
-                    }
-                    break;
-
-                case ARTIFACT_ITEM:
-                    boolean isArtifact = MathUtils.random() < 0.50f;
-                    if (isArtifact) {
-                        potentialCards = allCardsFromSystem.stream()
-                            .filter(c -> c.getType() == CardSystem.CardType.ARTIFACT)
-                            .collect(Collectors.toList());
-                        if (potentialCards.isEmpty()) {
-                            potentialCards = allCardsFromSystem.stream()
-                                .filter(c -> c.getType() == CardSystem.CardType.ITEM)
-                                .collect(Collectors.toList());
-                        }
-                    } else {
-                        potentialCards = allCardsFromSystem.stream()
-                            .filter(c -> c.getType() == CardSystem.CardType.ITEM)
-                            .collect(Collectors.toList());
-                    }
-                    if (potentialCards.isEmpty() && !allCardsFromSystem.isEmpty()) {
-                        potentialCards = new ArrayList<>(allCardsFromSystem);
-                        Gdx.app.log("PackOpenScreen", "Warning: Could not find enough ARTIFACT/ITEM cards, using random from all cards for Artifact/Item pack.");
-                    }
-                    break;
-                case GENERIC: // Fallthrough for generic or unspecified packs
-                default:
-                    potentialCards = new ArrayList<>(allCardsFromSystem); // Use all cards
-                    Gdx.app.log("PackOpenScreen", "Opening GENERIC pack type. Using all available cards.");
-                    break;
-            }
-
-            if (potentialCards != null && !potentialCards.isEmpty()) {
-                Collections.shuffle(potentialCards); // Shuffle the filtered list before picking
-                chosenCard = potentialCards.get(0); // Get the first one after shuffle
-            } else if (!allCardsFromSystem.isEmpty()) {
-                Gdx.app.log("PackOpenScreen", "Fallback - No specific cards for pack type " + packTypeToOpen + " or pool was empty. Picking random card from all available.");
-                List<CardSystem.Card> fallbackPool = new ArrayList<>(allCardsFromSystem);
-                Collections.shuffle(fallbackPool);
-                if(!fallbackPool.isEmpty()){
-                    chosenCard = fallbackPool.get(0);
-                }
-            }
-
+            CardSystem.Card chosenCard = sampler.draw(packTypeToOpen, random);
             if (chosenCard != null) {
                 cardsInPack.add(new CardSystem.Card(chosenCard)); // Add a copy
             }
@@ -268,27 +198,23 @@ public class PackOpenScreenFernan implements Screen {
 
 
     private void addCardToTable(CardSystem.Card card, Table table) {
-        Texture cardTexture = null;
         String imagePath = card.getImagePath();
         if (imagePath == null || imagePath.trim().isEmpty()) {
             Gdx.app.error("PackOpenScreen", "Card " + card.getName() + " has null or empty imagePath. Using placeholder.");
             imagePath = "ui/card_slot_empty.png"; // Fallback to a default placeholder
         }
 
+        Drawable cardDrawable;
         try {
-            cardTexture = new Texture(Gdx.files.internal(imagePath));
+            // Falls back to the placeholder itself if the card's art is missing.
+            cardDrawable = textures.drawable(imagePath, TextureCache.Tier.FULL);
         } catch (Exception e) {
-            Gdx.app.error("PackOpenScreen", "Error loading texture for card: " + card.getName() + " at path " + imagePath + " - " + e.getMessage());
-            try {
-                cardTexture = new Texture(Gdx.files.internal("ui/card_slot_empty.png")); // Ensure this placeholder exists
-            } catch (Exception e2) {
-                Gdx.app.error("PackOpenScreen", "CRITICAL: Failed to load even the placeholder card texture: " + e2.getMessage());
-                // Cannot create an image if texture is null, so we might skip adding this card image
-                return;
-            }
+            Gdx.app.error("PackOpenScreen", "CRITICAL: Failed to load even the placeholder card texture: " + e.getMessage());
+            // Cannot create an image without a texture, so we skip adding this card image
+            return;
         }
 
-        Image cardImage = new Image(cardTexture);
+        Image cardImage = new Image(cardDrawable);
         cardImage.setScaling(Scaling.fit);
         float cardWidth = 150f;
         float cardHeight = cardWidth * 1.4f;
@@ -314,10 +240,6 @@ public class PackOpenScreenFernan implements Screen {
 
     @Override public void dispose() {
         stage.dispose();
-        if (skin != null) skin.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (yellowFont != null) yellowFont.dispose();
-        if (whiteFont != null) whiteFont.dispose();
-        if (clickSound != null) clickSound.dispose();
+        textures.dispose();
     }
 }
@@ -0,0 +1,85 @@
+package io.github.grace.ni.fernan;
+
+import java.util.BitSet;
+
+/**
+ * Opens any number of a profile's packs in one go: the packs are taken, every card is rolled with the
+ * {@link PackSampler} and added to the collection, and the outcome is summed up in a {@link Result}.
+ * Nothing here saves; the caller saves the profile once afterwards.
+ */
+public final class PackOpening {
+    /** Every pack holds one card, as in the single-pack reveal. */
+    public static final int CARDS_PER_PACK = 1;
+
+    private PackOpening() {}
+
+    /**
+     * @return what was opened, or null (and the profile untouched) if it has fewer than {@code packs} packs of
+     * {@code type} or there are no cards to draw
+     */
+    public static Result open(SaveProfile profile, PackOpenScreenFernan.PackType type, int packs, PackSampler sampler, GameRandom random) {
+        if (packs <= 0 || sampler.getTable(type) == null || !profile.usePacks(type, packs)) return null;
+        CardCatalog catalog = sampler.getCatalog();
+        PlayerCollection collection = profile.getCollection();
+        int[] drawn = new int[packs * CARDS_PER_PACK];
+        BitSet firstCopies = new BitSet(drawn.length);
+        int[] perType = new int[CardSystem.CardType.values().length];
+        int newCards = 0;
+        for (int i = 0; i < drawn.length; i++) {
+            int ordinal = sampler.drawOrdinal(type, random);
+            drawn[i] = ordinal;
+            if (!collection.isOwned(ordinal)) {
+                firstCopies.set(i);
+                newCards++;
+            }
+            collection.add(ordinal, 1);
+            CardSystem.CardType cardType = catalog.byOrdinal(ordinal).getType();
+            if (cardType != null) perType[cardType.ordinal()]++;
+        }
+        return new Result(catalog, type, packs, drawn, firstCopies, newCards, perType);
+    }
+
+    /** The cards of one bulk opening, in the order they were drawn. */
+    public static final class Result {
+        private final CardCatalog catalog;
+        private final PackOpenScreenFernan.PackType packType;
+        private final int packs;
+        private final int[] drawn;
+        private final BitSet firstCopies;
+        private final int newCards;
+        private final int[] perType;
+
+        Result(CardCatalog catalog, PackOpenScreenFernan.PackType packType, int packs, int[] drawn, BitSet firstCopies, int newCards, int[] perType) {
+            this.catalog = catalog;
+            this.packType = packType;
+            this.packs = packs;
+            this.drawn = drawn;
+            this.firstCopies = firstCopies;
+            this.newCards = newCards;
+            this.perType = perType;
+        }
+
+        public PackOpenScreenFernan.PackType getPackType() { return packType; }
+        public int getPacks() { return packs; }
+        /** The number of cards drawn. */
+        public int size() { return drawn.length; }
+
+        /** The {@code i}th card drawn; a catalog card, so copy it before changing it. */
+        public CardSystem.Card getCard(int i) {
+            return catalog.byOrdinal(drawn[i]);
+        }
+
+        /** Whether the {@code i}th card was the first copy the player ever owned. */
+        public boolean isNew(int i) {
+            return firstCopies.get(i);
+        }
+
+        /** Cards the player didn't own before. */
+        public int getNewCards() { return newCards; }
+        public int getDuplicates() { return drawn.length - newCards; }
+
+        public int getCount(CardSystem.CardType type) {
+            return perType[type.ordinal()];
+        }
+    }
+}
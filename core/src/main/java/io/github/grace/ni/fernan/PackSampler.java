@@ -0,0 +1,153 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Draws pack cards from the drop tables in {@value #DROP_TABLES}, compiled once into an {@link AliasTable} over
+ * catalog ordinals per {@link PackOpenScreenFernan.PackType}. A draw is O(1) and allocates nothing.
+ * <p>
+ * A drop table lists tiers, each with a card {@code type} (every card if omitted) and a {@code weight} relative to
+ * the other tiers of the pack. A card is drawn by picking a tier by weight, then a card of the tier uniformly. A tier
+ * with no cards uses its {@code fallback} type instead, and failing that every card; so does a pack with no table.
+ * <pre>
+ * "ARTIFACT_ITEM": [
+ *   { "type": "ARTIFACT", "weight": 50, "fallback": "ITEM" },
+ *   { "type": "ITEM", "weight": 50 }
+ * ]
+ * </pre>
+ */
+public final class PackSampler {
+    public static final String DROP_TABLES = "droptables.json";
+
+    private static volatile PackSampler instance;
+
+    private final CardCatalog catalog;
+    private final Map<PackOpenScreenFernan.PackType, AliasTable> tables = new EnumMap<>(PackOpenScreenFernan.PackType.class);
+    private final Set<PackOpenScreenFernan.PackType> fallbacks = EnumSet.noneOf(PackOpenScreenFernan.PackType.class);
+
+    /** The sampler over {@link CardCatalog#get()} and {@value #DROP_TABLES}, compiled on first use. */
+    public static PackSampler get() {
+        PackSampler result = instance;
+        if (result == null) {
+            synchronized (PackSampler.class) {
+                result = instance;
+                if (result == null) {
+                    FileHandle file = Gdx.files.internal(DROP_TABLES);
+                    JsonValue dropTables = null;
+                    if (file.exists()) {
+                        dropTables = new JsonReader().parse(file);
+                    } else {
+                        Gdx.app.error("PackSampler", DROP_TABLES + " not found; every pack draws from all cards.");
+                    }
+                    result = new PackSampler(CardCatalog.get(), dropTables);
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** @param dropTables pack type name to its tiers, or null to draw every pack from all cards */
+    public PackSampler(CardCatalog catalog, JsonValue dropTables) {
+        this.catalog = catalog;
+        if (catalog.isEmpty()) return;
+        for (PackOpenScreenFernan.PackType type : PackOpenScreenFernan.PackType.values()) {
+            JsonValue tiers = dropTables != null ? dropTables.get(type.name()) : null;
+            if (tiers == null && dropTables != null) {
+                Gdx.app.error("PackSampler", "No drop table for " + type + "; it draws from all cards.");
+            }
+            tables.put(type, compile(type, tiers));
+        }
+    }
+
+    private AliasTable compile(PackOpenScreenFernan.PackType packType, JsonValue tiers) {
+        double[] weights = new double[catalog.size()];
+        if (tiers == null) {
+            fallbacks.add(packType);
+            spread(catalog.getAll(), 1, weights);
+            return new AliasTable(weights);
+        }
+        boolean weighted = false;
+        for (JsonValue tier = tiers.child; tier != null; tier = tier.next) {
+            double weight = tier.getDouble("weight", 0);
+            if (weight <= 0) continue;
+            List<CardSystem.Card> pool = pool(tier.getString("type", null));
+            if (pool.isEmpty()) {
+                fallbacks.add(packType);
+                String fallback = tier.getString("fallback", null);
+                pool = fallback != null ? pool(fallback) : Collections.<CardSystem.Card>emptyList();
+            }
+            if (pool.isEmpty()) {
+                Gdx.app.log("PackSampler", packType + ": no cards for tier " + tier.getString("type", null) + "; it draws from all cards.");
+                pool = catalog.getAll();
+            }
+            spread(pool, weight, weights);
+            weighted = true;
+        }
+        if (!weighted) {
+            fallbacks.add(packType);
+            Gdx.app.error("PackSampler", "Drop table for " + packType + " has no positive weights; it draws from all cards.");
+            spread(catalog.getAll(), 1, weights);
+        }
+        return new AliasTable(weights);
+    }
+
+    /** Every card for a null type, none for an unknown one. */
+    private List<CardSystem.Card> pool(String type) {
+        if (type == null) return catalog.getAll();
+        try {
+            return catalog.ofType(CardSystem.CardType.valueOf(type.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            Gdx.app.error("PackSampler", "Invalid CardType in " + DROP_TABLES + ": " + type);
+            return Collections.emptyList();
+        }
+    }
+
+    /** Splits {@code weight} evenly over the cards of {@code pool}. */
+    private void spread(List<CardSystem.Card> pool, double weight, double[] weights) {
+        for (CardSystem.Card card : pool) {
+            weights[catalog.ordinalOf(card)] += weight / pool.size();
+        }
+    }
+
+    /**
+     * @return a catalog card (take a copy before changing it), or null if the catalog is empty
+     */
+    public CardSystem.Card draw(PackOpenScreenFernan.PackType type, GameRandom random) {
+        int ordinal = drawOrdinal(type, random);
+        return ordinal >= 0 ? catalog.byOrdinal(ordinal) : null;
+    }
+
+    /** @return the {@link CardCatalog#ordinalOf ordinal} of a drawn card, or -1 if the catalog is empty */
+    public int drawOrdinal(PackOpenScreenFernan.PackType type, GameRandom random) {
+        AliasTable table = tables.get(type);
+        return table != null ? table.draw(random) : -1;
+    }
+
+    /** The compiled table of a pack type, for checking its odds; null if the catalog is empty. */
+    public AliasTable getTable(PackOpenScreenFernan.PackType type) {
+        return tables.get(type);
+    }
+
+    /**
+     * Pack types whose odds aren't the ones in {@value #DROP_TABLES}: a tier had no cards and drew from its fallback
+     * or from every card, or the pack had no usable table.
+     */
+    public Set<PackOpenScreenFernan.PackType> getFallbacks() {
+        return Collections.unmodifiableSet(fallbacks);
+    }
+
+    public CardCatalog getCatalog() {
+        return catalog;
+    }
+}
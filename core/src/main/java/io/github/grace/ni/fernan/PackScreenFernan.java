@@ -57,13 +57,11 @@ public class PackScreenFernan implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        this.skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
-        this.clickSound = Gdx.audio.newSound(Gdx.files.internal("Click.mp3"));
+        this.skin = game.assets.skin();
+        this.clickSound = game.assets.sound(SharedAssets.CLICK);
 
-        yellowFont = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        yellowFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        whiteFont = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
-        whiteFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        yellowFont = game.assets.font("ui/smalligator_yellow.fnt");
+        whiteFont = game.assets.font("ui/smalligator_gradient2.fnt");
 
         Image background = new Image(new Texture("Bg2B.PNG"));
         background.setFillParent(true);
@@ -167,11 +165,13 @@ public class PackScreenFernan implements Screen {
 
         TextButton open1 = new TextButton("Open 1", style);
         TextButton open10 = new TextButton("Open 10", style);
+        TextButton openAll = new TextButton("Open all", style);
         TextButton buy1 = new TextButton("Buy 1 pack", style);
         TextButton buy10 = new TextButton("Buy 10 packs", style);
 
         open1.addListener(createHoverListener(open1));
         open10.addListener(createHoverListener(open10));
+        openAll.addListener(createHoverListener(openAll));
         buy1.addListener(createHoverListener(buy1));
         buy10.addListener(createHoverListener(buy10));
 
@@ -189,7 +189,7 @@ public class PackScreenFernan implements Screen {
                     if (canOpen) {
                         SaveManager.saveProfile(profile);
                         updateOwnedLabelAndCurrency();
-                        game.setScreen(new PackOpenScreenFernan(game, profile, 1, itemDetails.packType, PackScreenFernan.this));
+                        game.screens.showChild(PackScreenFernan.this, new PackOpenScreenFernan(game, profile, 1, itemDetails.packType, PackScreenFernan.this));
                     } else {
                         showDialog("No Packs", "You do not have any " + itemDetails.name + " to open.");
                     }
@@ -202,24 +202,12 @@ public class PackScreenFernan implements Screen {
             public void clicked(InputEvent event, float x, float y) {
                 clickSound.play();
                 if (profile != null) {
-                    int packsAvailable = 0;
-                    switch (itemDetails.packType) {
-                        case GOD_DIVINE:    packsAvailable = profile.godDivinePacks; break;
-                        case DIVINE:        packsAvailable = profile.divinePacks;    break;
-                        case ARTIFACT_ITEM: packsAvailable = profile.artifactItemPacks; break;
-                    }
-                    int packsToOpen = Math.min(packsAvailable, 10);
+                    int packsToOpen = Math.min(profile.getPacks(itemDetails.packType), 10);
                     if (packsToOpen > 0) {
-                        for(int i=0; i<packsToOpen; i++){ // Decrement for each pack opened
-                            switch (itemDetails.packType) {
-                                case GOD_DIVINE:    profile.useGodDivinePack(); break;
-                                case DIVINE:        profile.useDivinePack();    break;
-                                case ARTIFACT_ITEM: profile.useArtifactItemPack(); break;
-                            }
-                        }
+                        profile.usePacks(itemDetails.packType, packsToOpen);
                         SaveManager.saveProfile(profile);
                         updateOwnedLabelAndCurrency();
-                        game.setScreen(new PackOpenScreenFernan(game, profile, packsToOpen, itemDetails.packType, PackScreenFernan.this));
+                        game.screens.showChild(PackScreenFernan.this, new PackOpenScreenFernan(game, profile, packsToOpen, itemDetails.packType, PackScreenFernan.this));
                     } else {
                         showDialog("No Packs", "You do not have enough " + itemDetails.name + " to open.");
                     }
@@ -227,6 +215,24 @@ public class PackScreenFernan implements Screen {
             }
         });
 
+        openAll.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                clickSound.play();
+                if (profile == null) return;
+                // Every card is rolled and collected here, and saved once; the reveal only shows the result.
+                PackOpening.Result result = PackOpening.open(profile, itemDetails.packType,
+                    profile.getPacks(itemDetails.packType), PackSampler.get(), game.random.split());
+                if (result != null) {
+                    SaveManager.saveProfile(profile);
+                    updateOwnedLabelAndCurrency();
+                    game.screens.showChild(PackScreenFernan.this, new BulkPackOpenScreen(game, profile, result, PackScreenFernan.this));
+                } else {
+                    showDialog("No Packs", "You do not have any " + itemDetails.name + " to open.");
+                }
+            }
+        });
+
         buy1.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
@@ -276,6 +282,7 @@ public class PackScreenFernan implements Screen {
 
         buttonTable.add(open1).width(100).height(50).padBottom(15).padRight(10);
         buttonTable.add(open10).width(100).height(50).padBottom(15).row();
+        buttonTable.add(openAll).colspan(2).width(100).height(50).padBottom(15).row();
         buttonTable.add(buy1).width(150).height(30).padBottom(5).padRight(25);
         buttonTable.add(buy10).width(150).height(30).padBottom(5).row();
         buttonTable.add(coinLabel1).padTop(0).padRight(15);
@@ -309,7 +316,7 @@ public class PackScreenFernan implements Screen {
                     game.setScreen(previousScreen);
                 } else {
                     // Fallback if previousScreen is null for some reason
-                    game.setScreen(new StoreScreenFernan(game, profile));
+                    game.screens.show(StoreScreenFernan.class, profile, () -> new StoreScreenFernan(game, profile));
                 }
             }
         });
@@ -338,6 +345,7 @@ public class PackScreenFernan implements Screen {
     @Override public void show() {
         Gdx.input.setInputProcessor(stage);
         updateOwnedLabelAndCurrency(); // Refresh counts when screen is shown
+        game.textures.preload(PackOpenScreenFernan.MANIFEST, FernansGrace.PRELOAD_LIKELY);
     }
     @Override public void render(float delta) {
         Gdx.gl.glClearColor(0, 0, 0, 1);
@@ -355,9 +363,5 @@ public class PackScreenFernan implements Screen {
         stage.dispose();
         // itemDetails.texture is passed in, assume its lifecycle is managed elsewhere (e.g., StoreScreenFernan)
         // Do not dispose itemDetails.texture here unless PackScreenFernan uniquely owns it.
-        if (yellowFont != null) yellowFont.dispose();
-        if (whiteFont != null) whiteFont.dispose();
-        if (skin != null) skin.dispose();
-        if (clickSound != null) clickSound.dispose();
     }
 }
@@ -1,54 +1,90 @@
 package io.github.grace.ni.fernan;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
+/**
+ * The cards a player owns and how many copies of each, indexed by {@link CardCatalog#ordinalOf catalog ordinal}:
+ * a bit per card for ownership and a count per card. Checking a card is O(1), and listing the owned ones only
+ * visits the set bits.
+ */
 public class PlayerCollection {
-    private final List<PlayerCardInstance> allCardInstances = new ArrayList<>();
+    private final CardCatalog catalog;
+    private final BitSet owned;
+    private final int[] copies;
 
-    public PlayerCollection(List<CardSystem.Card> allGameCards) {
-        for (CardSystem.Card card : allGameCards) {
-            allCardInstances.add(new PlayerCardInstance(card, 0)); // Start with 0 copies
-        }
+    public PlayerCollection(CardCatalog catalog) {
+        this.catalog = catalog;
+        this.owned = new BitSet(catalog.size());
+        this.copies = new int[catalog.size()];
     }
 
-    // Add a copy of a card to player's owned collection
-    public void addCard(CardSystem.Card card) {
-        for (PlayerCardInstance pci : allCardInstances) {
-            if (pci.getCard().getName().equals(card.getName())) {
-                pci.addCopy();
-                return;
-            }
-        }
+    /**
+     * Adds {@code count} copies of a card.
+     * @return false if the card is not in the catalog
+     */
+    public boolean add(CardSystem.Card card, int count) {
+        int ordinal = catalog.ordinalOf(card);
+        if (ordinal < 0) return false;
+        add(ordinal, count);
+        return true;
+    }
+
+    public void add(int ordinal, int count) {
+        if (count <= 0) return;
+        copies[ordinal] += count;
+        owned.set(ordinal);
+    }
+
+    public boolean isOwned(CardSystem.Card card) {
+        int ordinal = catalog.ordinalOf(card);
+        return ordinal >= 0 && owned.get(ordinal);
+    }
 
-        // If card isn't in the list (shouldn't happen unless card wasn't loaded), add it
-        allCardInstances.add(new PlayerCardInstance(card, 1));
+    public boolean isOwned(int ordinal) {
+        return owned.get(ordinal);
     }
 
-    // Get only owned cards
-    public List<PlayerCardInstance> getOwnedCards() {
-        List<PlayerCardInstance> owned = new ArrayList<>();
-        for (PlayerCardInstance pci : allCardInstances) {
-            if (pci.isOwned()) {
-                owned.add(pci);
-            }
+    public int getCopies(CardSystem.Card card) {
+        int ordinal = catalog.ordinalOf(card);
+        return ordinal >= 0 ? copies[ordinal] : 0;
+    }
+
+    public int getCopies(int ordinal) {
+        return copies[ordinal];
+    }
+
+    /** The number of distinct cards owned. */
+    public int size() {
+        return owned.cardinality();
+    }
+
+    /** Owned catalog cards, in catalog order. */
+    public List<CardSystem.Card> getOwnedCards() {
+        List<CardSystem.Card> cards = new ArrayList<>(owned.cardinality());
+        for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+            cards.add(catalog.byOrdinal(i));
         }
-        return owned;
+        return cards;
     }
 
-    // Get unowned cards (could be used for shops or discovery tracking)
-    public List<PlayerCardInstance> getUnownedCards() {
-        List<PlayerCardInstance> unowned = new ArrayList<>();
-        for (PlayerCardInstance pci : allCardInstances) {
-            if (!pci.isOwned()) {
-                unowned.add(pci);
-            }
+    /** Owned cards with their copy counts, in catalog order. */
+    public List<PlayerCardInstance> getOwnedCardInstances() {
+        List<PlayerCardInstance> instances = new ArrayList<>(owned.cardinality());
+        for (int i = owned.nextSetBit(0); i >= 0; i = owned.nextSetBit(i + 1)) {
+            instances.add(new PlayerCardInstance(catalog.byOrdinal(i), copies[i]));
         }
-        return unowned;
+        return instances;
     }
 
-    // Optional: Get full list of cards and owned copy counts
-    public List<PlayerCardInstance> getAllCardInstances() {
-        return allCardInstances;
+    /** Catalog cards not owned yet (for shops or discovery tracking). */
+    public List<CardSystem.Card> getUnownedCards() {
+        List<CardSystem.Card> cards = new ArrayList<>(catalog.size() - owned.cardinality());
+        for (int i = owned.nextClearBit(0); i < catalog.size(); i = owned.nextClearBit(i + 1)) {
+            // A card repeated in cards.json is owned under its first entry's ordinal.
+            if (catalog.ordinalOf(catalog.byOrdinal(i)) == i) cards.add(catalog.byOrdinal(i));
+        }
+        return cards;
     }
 }
@@ -37,7 +37,7 @@ public class RewardDetailScreen implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        skin  = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        skin  = game.assets.skin();
         table = new Table();
         table.setFillParent(true);
         stage.addActor(table);
@@ -85,6 +85,5 @@ public class RewardDetailScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        skin.dispose();
     }
 }
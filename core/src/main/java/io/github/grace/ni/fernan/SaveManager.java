@@ -2,36 +2,247 @@ package io.github.grace.ni.fernan;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Reads and writes profiles under {@code saves/}.
+ * <p>
+ * {@link #saveProfile} only serializes the profile, which snapshots it, and hands the JSON to a background writer.
+ * Saves of the same profile that arrive within {@link #COALESCE_MILLIS} of each other are written once, as the
+ * latest one. Each write goes to a temp file that is then renamed over the save, so a crash mid-write never leaves
+ * a truncated profile. Reads {@link #flush()} first, and the app flushes when it is paused or closed.
+ * <p>
+ * Every write also updates {@value #INDEX}, a list of {@link SaveSlot}s, so the load menu can {@link #listSlots list}
+ * saves without parsing them. Full profiles are only read by {@link #loadProfile}.
+ */
 public class SaveManager {
     private static final String SAVE_DIR = "saves";
     private static final String EXT = ".json";
+    private static final String TMP_EXT = ".tmp";
+    /** Not {@value #EXT}, so it is never mistaken for a save. */
+    static final String INDEX = "slots.idx";
+    static final long COALESCE_MILLIS = 250;
 
-    public static List<SaveProfile> listProfiles() {
+    /** The latest unwritten snapshot per save file, in the order they were first queued. Guarded by itself. */
+    private static final Map<File, Pending> pending = new LinkedHashMap<>();
+    private static ScheduledExecutorService writer;
+
+    /** Save name to slot, loaded from {@value #INDEX} on first use. Guarded by {@link #indexLock}. */
+    private static Map<String, SaveSlot> index;
+    private static final Object indexLock = new Object();
+
+    /**
+     * Every save, from the index. Only saves whose timestamp differs from their entry (or that have none, e.g. copied
+     * in by hand) are read, and only their header fields; the index is rewritten if any were.
+     */
+    public static List<SaveSlot> listSlots() {
+        flush();
         FileHandle dir = Gdx.files.local(SAVE_DIR);
         dir.mkdirs();
-        FileHandle[] files = dir.list();
-        List<SaveProfile> profiles = new ArrayList<>();
-        for (FileHandle f : files) {
-            if (f.extension().equals("json")) {
-                profiles.add(SaveProfile.fromJson(f.readString()));
+        synchronized (indexLock) {
+            Map<String, SaveSlot> slots = index();
+            Set<String> present = new HashSet<>();
+            boolean changed = false;
+            for (FileHandle f : dir.list()) {
+                if (!f.extension().equals("json")) continue;
+                String name = f.nameWithoutExtension();
+                present.add(name);
+                SaveSlot slot = slots.get(name);
+                long modified = f.lastModified();
+                if (slot == null || slot.lastModified != modified) {
+                    slot = readSlot(f, name, modified);
+                    if (slot != null) slots.put(name, slot);
+                    changed = true;
+                }
             }
+            changed |= slots.keySet().retainAll(present);
+            if (changed) writeIndex(slots);
+            return new ArrayList<>(slots.values());
+        }
+    }
+
+    private static SaveSlot readSlot(FileHandle f, String name, long modified) {
+        try {
+            SaveSlot slot = SaveSlot.read(new JsonReader().parse(f.readString("UTF-8")), modified);
+            // The load menu finds the file by this name.
+            slot.saveName = name;
+            return slot;
+        } catch (RuntimeException e) {
+            Gdx.app.error("SaveManager", "Skipping unreadable save " + f.name(), e);
+            return null;
         }
-        return profiles;
     }
 
+    /** Queues a write of {@code profile} as it is now; later changes to it need another call. */
     public static void saveProfile(SaveProfile profile) {
         FileHandle dir = Gdx.files.local(SAVE_DIR);
         dir.mkdirs();
-        FileHandle file = dir.child(profile.saveName + EXT);
-        file.writeString(profile.toJson(), false);
+        File file = dir.child(profile.saveName + EXT).file();
+        Pending save = new Pending(profile.toJson(), SaveSlot.of(profile));
+        synchronized (pending) {
+            // A write already scheduled for this file will pick up the newer snapshot.
+            boolean scheduled = pending.containsKey(file);
+            pending.put(file, save);
+            if (!scheduled) {
+                writer().schedule(() -> write(file), COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
     }
 
     public static SaveProfile loadProfile(String saveName) {
+        flush();
         FileHandle file = Gdx.files.local(SAVE_DIR + "/" + saveName + EXT);
-        return file.exists() ? SaveProfile.fromJson(file.readString()) : null;
+        return file.exists() ? SaveProfile.fromJson(file.readString("UTF-8")) : null;
+    }
+
+    /** Blocks until every queued save is on disk. */
+    public static void flush() {
+        ScheduledExecutorService w;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            w = writer();
+        }
+        // On the writer thread, so it never races a scheduled write to the same temp file.
+        try {
+            w.submit(SaveManager::writeAll).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Gdx.app.error("SaveManager", "Flushing saves failed", e.getCause());
+        }
+    }
+
+    /** Flushes and stops the writer thread; the next save starts a new one. */
+    public static void shutdown() {
+        flush();
+        synchronized (pending) {
+            if (writer != null) {
+                writer.shutdown();
+                writer = null;
+            }
+        }
+    }
+
+    private static ScheduledExecutorService writer() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "save-writer");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return writer;
+    }
+
+    private static void write(File file) {
+        Pending save;
+        synchronized (pending) {
+            save = pending.remove(file);
+        }
+        // Null if a flush wrote it already.
+        if (save == null) return;
+        writeSave(file, save);
+        synchronized (indexLock) {
+            writeIndex(index());
+        }
+    }
+
+    private static void writeAll() {
+        List<Map.Entry<File, Pending>> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.entrySet());
+            pending.clear();
+        }
+        if (batch.isEmpty()) return;
+        for (Map.Entry<File, Pending> e : batch) {
+            writeSave(e.getKey(), e.getValue());
+        }
+        synchronized (indexLock) {
+            writeIndex(index());
+        }
+    }
+
+    private static void writeSave(File file, Pending save) {
+        if (!writeAtomically(file, save.json)) return;
+        save.slot.lastModified = file.lastModified();
+        synchronized (indexLock) {
+            index().put(save.slot.saveName, save.slot);
+        }
+    }
+
+    private static Map<String, SaveSlot> index() {
+        if (index == null) {
+            index = new LinkedHashMap<>();
+            FileHandle file = Gdx.files.local(SAVE_DIR).child(INDEX);
+            if (file.exists()) {
+                try {
+                    @SuppressWarnings("unchecked")
+                    List<SaveSlot> slots = indexJson().fromJson(ArrayList.class, SaveSlot.class, file.readString("UTF-8"));
+                    for (SaveSlot slot : slots) {
+                        index.put(slot.saveName, slot);
+                    }
+                } catch (RuntimeException e) {
+                    // listSlots re-reads every save that has no entry.
+                    Gdx.app.error("SaveManager", "Rebuilding unreadable " + INDEX, e);
+                    index.clear();
+                }
+            }
+        }
+        return index;
+    }
+
+    private static void writeIndex(Map<String, SaveSlot> slots) {
+        File file = Gdx.files.local(SAVE_DIR).child(INDEX).file();
+        writeAtomically(file, indexJson().toJson(new ArrayList<>(slots.values()), ArrayList.class, SaveSlot.class));
+    }
+
+    private static Json indexJson() {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        return json;
+    }
+
+    private static boolean writeAtomically(File file, String json) {
+        File tmp = new File(file.getParentFile(), file.getName() + TMP_EXT);
+        try {
+            Files.write(tmp.toPath(), json.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            Gdx.app.error("SaveManager", "Could not write " + file, e);
+            return false;
+        }
+    }
+
+    private static final class Pending {
+        final String json;
+        final SaveSlot slot;
+
+        Pending(String json, SaveSlot slot) {
+            this.json = json;
+            this.slot = slot;
+        }
     }
 }
@@ -2,15 +2,22 @@ package io.github.grace.ni.fernan;
 
 import com.badlogic.gdx.Gdx; // Added for potential logging
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
-import com.badlogic.gdx.math.MathUtils; // For random selection
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class SaveProfile {
+    /**
+     * 2: decks store catalog ids instead of whole cards. Version 1 files (no "version" field) still load; their
+     * embedded cards are matched back to the catalog.
+     * 3: the collection is an object of card id to copies, replacing the "ownedCardIds" list, which still loads as
+     * one copy each.
+     */
+    static final int FORMAT_VERSION = 3;
+
     public String saveName;
     public String currentMapId;
     public int gachaCurrency;
@@ -21,11 +28,17 @@ public class SaveProfile {
     public int artifactItemPacks;
 
     public List<DeckSelectionScreen.Deck> decks = new ArrayList<>();
-    public List<String> ownedCardIds = new ArrayList<>(); // Will store unique IDs
+    /** Built on first use, so profiles that are only listed never load the catalog. */
+    private PlayerCollection collection;
 
     public SaveProfile() {}
 
     public SaveProfile(String saveName) {
+        this(saveName, new GameRandom());
+    }
+
+    /** A fresh profile whose starter card is rolled with the given generator. */
+    public SaveProfile(String saveName, GameRandom random) {
         this.saveName = saveName;
         this.currentMapId = "n0";
         this.gachaCurrency = 100; // Starting coins
@@ -34,25 +47,22 @@ public class SaveProfile {
         this.divinePacks = 0;
         this.artifactItemPacks = 0;
 
-        List<CardSystem.Card> allCardsMasterList = CardSystem.loadCardsFromJson();
-        List<CardSystem.Card> godCards = allCardsMasterList.stream()
-            .filter(c -> c.getType() == CardSystem.CardType.GOD)
-            .collect(Collectors.toList());
+        CardCatalog catalog = CardCatalog.get();
+        List<CardSystem.Card> allCardsMasterList = catalog.getAll();
+        List<CardSystem.Card> godCards = catalog.ofType(CardSystem.CardType.GOD);
 
         CardSystem.Card starterCard = null;
         if (!godCards.isEmpty()) {
-            starterCard = godCards.get(MathUtils.random(godCards.size() - 1));
+            starterCard = random.pick(godCards);
         } else {
             // Fallback: if no GOD cards, pick a random DIVINE or any card
             Gdx.app.log("SaveProfile", "Warning: No GOD type cards found for starter deck. Trying DIVINE.");
-            List<CardSystem.Card> divineCards = allCardsMasterList.stream()
-                .filter(c -> c.getType() == CardSystem.CardType.DIVINE)
-                .collect(Collectors.toList());
+            List<CardSystem.Card> divineCards = catalog.ofType(CardSystem.CardType.DIVINE);
             if (!divineCards.isEmpty()) {
-                starterCard = divineCards.get(MathUtils.random(divineCards.size() - 1));
+                starterCard = random.pick(divineCards);
             } else if (!allCardsMasterList.isEmpty()) {
                 Gdx.app.log("SaveProfile", "Warning: No DIVINE type cards found. Picking a random card for starter deck.");
-                starterCard = allCardsMasterList.get(MathUtils.random(allCardsMasterList.size() - 1));
+                starterCard = random.pick(allCardsMasterList);
             } else {
                 Gdx.app.error("SaveProfile", "CRITICAL: No cards available in cards.json to create a starter deck.");
                 // Handle this critical error, maybe by creating a dummy card or throwing an exception
@@ -62,7 +72,7 @@ public class SaveProfile {
         if (starterCard != null) {
             DeckSelectionScreen.Deck starterDeck = new DeckSelectionScreen.Deck(
                 "Starter Deck",
-                new ArrayList<>(Collections.singletonList(starterCard)) // Deck with one card
+                new ArrayList<>(Collections.singletonList(new CardSystem.Card(starterCard))) // Deck with one card
             );
             this.decks.add(starterDeck);
             this.addToCollection(starterCard); // Add its unique ID to owned cards
@@ -74,27 +84,37 @@ public class SaveProfile {
     }
 
     public String toJson() {
+        return json().toJson(this, SaveProfile.class);
+    }
+
+    public static SaveProfile fromJson(String jsonString) {
+        return json().fromJson(SaveProfile.class, jsonString);
+    }
+
+    private static Json json() {
         Json json = new Json();
         json.setOutputType(JsonWriter.OutputType.json);
-        return json.toJson(this);
+        json.setSerializer(SaveProfile.class, new ProfileSerializer());
+        json.setSerializer(DeckSelectionScreen.Deck.class, new DeckSerializer());
+        return json;
     }
 
-    public static SaveProfile fromJson(String jsonString) {
-        return new Json().fromJson(SaveProfile.class, jsonString);
+    public PlayerCollection getCollection() {
+        if (collection == null) {
+            collection = new PlayerCollection(CardCatalog.get());
+        }
+        return collection;
     }
 
     public List<CardSystem.Card> getOwnedCards() {
-        List<CardSystem.Card> master = CardSystem.loadCardsFromJson();
-        return master.stream()
-            .filter(c -> ownedCardIds.contains(c.getUniqueId())) // Filter by unique ID
-            .collect(Collectors.toList());
+        return getCollection().getOwnedCards();
     }
 
+    /** Adds a copy of {@code card}; cards that aren't in the catalog are logged and ignored. */
     public void addToCollection(CardSystem.Card card) {
         if (card == null) return;
-        String uniqueId = card.getUniqueId(); // Use the new unique ID method
-        if (!ownedCardIds.contains(uniqueId)) {
-            ownedCardIds.add(uniqueId);
+        if (!getCollection().add(card, 1)) {
+            Gdx.app.error("SaveProfile", "Not in the catalog, not collected: " + card.getUniqueId());
         }
     }
 
@@ -130,4 +150,140 @@ public class SaveProfile {
         }
         return false;
     }
+
+    /** Packs of {@code type} in stock; GENERIC packs are never stocked. */
+    public int getPacks(PackOpenScreenFernan.PackType type) {
+        switch (type) {
+            case GOD_DIVINE:    return godDivinePacks;
+            case DIVINE:        return divinePacks;
+            case ARTIFACT_ITEM: return artifactItemPacks;
+            default:            return 0;
+        }
+    }
+
+    /** Takes {@code count} packs of {@code type}, or none if there are fewer. */
+    public boolean usePacks(PackOpenScreenFernan.PackType type, int count) {
+        if (count < 0 || getPacks(type) < count) return false;
+        switch (type) {
+            case GOD_DIVINE:    godDivinePacks -= count; break;
+            case DIVINE:        divinePacks -= count; break;
+            case ARTIFACT_ITEM: artifactItemPacks -= count; break;
+            default:            return count == 0;
+        }
+        return true;
+    }
+
+    /** Writes the fields explicitly, so a save only ever contains what is listed here. */
+    static final class ProfileSerializer implements Json.Serializer<SaveProfile> {
+        @Override
+        public void write(Json json, SaveProfile p, Class knownType) {
+            json.writeObjectStart();
+            json.writeValue("version", FORMAT_VERSION);
+            json.writeValue("saveName", p.saveName);
+            json.writeValue("currentMapId", p.currentMapId);
+            json.writeValue("gachaCurrency", p.gachaCurrency);
+            json.writeValue("godDivinePacks", p.godDivinePacks);
+            json.writeValue("divinePacks", p.divinePacks);
+            json.writeValue("artifactItemPacks", p.artifactItemPacks);
+            json.writeArrayStart("decks");
+            for (DeckSelectionScreen.Deck deck : p.decks) {
+                json.writeValue(deck, DeckSelectionScreen.Deck.class);
+            }
+            json.writeArrayEnd();
+            // By id rather than ordinal: a new cards.json may reorder the catalog.
+            json.writeObjectStart("collection");
+            PlayerCollection collection = p.getCollection();
+            CardCatalog catalog = CardCatalog.get();
+            for (CardSystem.Card card : collection.getOwnedCards()) {
+                json.writeValue(card.getUniqueId(), collection.getCopies(catalog.ordinalOf(card)));
+            }
+            json.writeObjectEnd();
+            json.writeObjectEnd();
+        }
+
+        @Override
+        public SaveProfile read(Json json, JsonValue v, Class type) {
+            SaveProfile p = new SaveProfile();
+            p.saveName = v.getString("saveName", null);
+            p.currentMapId = v.getString("currentMapId", null);
+            p.gachaCurrency = v.getInt("gachaCurrency", 0);
+            p.godDivinePacks = v.getInt("godDivinePacks", 0);
+            p.divinePacks = v.getInt("divinePacks", 0);
+            p.artifactItemPacks = v.getInt("artifactItemPacks", 0);
+            JsonValue decks = v.get("decks");
+            if (decks != null) {
+                for (JsonValue d = decks.child; d != null; d = d.next) {
+                    p.decks.add(json.readValue(DeckSelectionScreen.Deck.class, d));
+                }
+            }
+            JsonValue collection = v.get("collection");
+            if (collection != null) {
+                for (JsonValue e = collection.child; e != null; e = e.next) {
+                    collect(p, e.name, e.asInt());
+                }
+            }
+            JsonValue legacyOwned = v.get("ownedCardIds");
+            if (legacyOwned != null) {
+                for (JsonValue id = legacyOwned.child; id != null; id = id.next) {
+                    collect(p, id.asString(), 1);
+                }
+            }
+            return p;
+        }
+
+        private static void collect(SaveProfile p, String id, int copies) {
+            int ordinal = CardCatalog.get().ordinalOf(id);
+            if (ordinal >= 0) {
+                p.getCollection().add(ordinal, copies);
+            } else {
+                Gdx.app.error("SaveProfile", "Collection has unknown card " + id + "; dropped.");
+            }
+        }
+    }
+
+    /**
+     * A deck is its name and the {@link CardSystem.Card#getUniqueId() ids} of its cards. Reading resolves them to the
+     * shared {@link CardCatalog} cards, which is what the deck builder puts in decks too; battles copy them.
+     */
+    static final class DeckSerializer implements Json.Serializer<DeckSelectionScreen.Deck> {
+        @Override
+        public void write(Json json, DeckSelectionScreen.Deck deck, Class knownType) {
+            json.writeObjectStart();
+            json.writeValue("name", deck.getName());
+            if (deck.isActive()) json.writeValue("active", true);
+            json.writeArrayStart("cards");
+            for (CardSystem.Card card : deck.getCards()) {
+                json.writeValue(card.getUniqueId());
+            }
+            json.writeArrayEnd();
+            json.writeObjectEnd();
+        }
+
+        @Override
+        public DeckSelectionScreen.Deck read(Json json, JsonValue v, Class type) {
+            DeckSelectionScreen.Deck deck = new DeckSelectionScreen.Deck();
+            deck.setName(v.getString("name", ""));
+            deck.setActive(v.getBoolean("active", false));
+            JsonValue cards = v.get("cards");
+            if (cards != null) {
+                CardCatalog catalog = CardCatalog.get();
+                for (JsonValue c = cards.child; c != null; c = c.next) {
+                    String id = c.isString() ? c.asString() : legacyId(c);
+                    CardSystem.Card card = catalog.byUniqueId(id);
+                    if (card == null) card = catalog.byName(id);
+                    if (card != null) {
+                        deck.getCards().add(card);
+                    } else {
+                        Gdx.app.error("SaveProfile", "Deck '" + deck.getName() + "' has unknown card " + id + "; dropped.");
+                    }
+                }
+            }
+            return deck;
+        }
+
+        /** The id of a card written out whole by version 1. */
+        private static String legacyId(JsonValue card) {
+            return card.getString("name", "") + "_" + card.getString("pantheon", "NONE") + "_" + card.getString("type", "UNKNOWN");
+        }
+    }
 }
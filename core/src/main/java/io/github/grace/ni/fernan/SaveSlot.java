@@ -0,0 +1,39 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * What the load menu shows about a save, kept in the saves index so listing saves never parses a profile.
+ * {@link #lastModified} is the save file's timestamp when the entry was made; a file with a different one has
+ * changed behind the index's back and is re-read.
+ */
+public class SaveSlot {
+    public String saveName;
+    public long lastModified;
+    public String currentMapId;
+    public int gachaCurrency;
+    public int deckCount;
+
+    public SaveSlot() {}
+
+    static SaveSlot of(SaveProfile profile) {
+        SaveSlot slot = new SaveSlot();
+        slot.saveName = profile.saveName;
+        slot.currentMapId = profile.currentMapId;
+        slot.gachaCurrency = profile.gachaCurrency;
+        slot.deckCount = profile.decks != null ? profile.decks.size() : 0;
+        return slot;
+    }
+
+    /** Reads the summary straight from a profile's JSON, without resolving its decks. */
+    static SaveSlot read(JsonValue profile, long lastModified) {
+        SaveSlot slot = new SaveSlot();
+        slot.saveName = profile.getString("saveName", null);
+        slot.lastModified = lastModified;
+        slot.currentMapId = profile.getString("currentMapId", null);
+        slot.gachaCurrency = profile.getInt("gachaCurrency", 0);
+        JsonValue decks = profile.get("decks");
+        slot.deckCount = decks != null ? decks.size : 0;
+        return slot;
+    }
+}
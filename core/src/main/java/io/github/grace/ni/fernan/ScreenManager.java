@@ -0,0 +1,162 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Owns every screen {@link FernansGrace#setScreen shown}: the most recently used ones stay alive and the rest are
+ * disposed. Menus that players go back and forth between are fetched with {@link #show}, which reuses the cached
+ * screen and only builds a new one on a miss.
+ * <p>
+ * A screen that keeps a reference to its parent to return to it (the map from a battle, a deck list from the
+ * editor) must be shown with {@link #showChild}: the parents of the current screen, and theirs, are never evicted,
+ * however many screens are opened from them. Showing a screen this manager already disposed is a bug and throws.
+ * Reused screens must re-register their input processor in {@link Screen#show()}.
+ */
+public class ScreenManager implements Disposable {
+    public static final int DEFAULT_CAPACITY = 6;
+
+    private final FernansGrace game;
+    private final int capacity;
+    /** Access-ordered, so the eldest entry is the least recently shown screen. */
+    private final LinkedHashMap<Object, Screen> screens = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Screen, Object> keys = new IdentityHashMap<>();
+    /** Each child screen to the parent it returns to. */
+    private final Map<Screen, Screen> parents = new IdentityHashMap<>();
+    /** Screens don't override equals, so this is by identity; weak, as nothing else needs them. */
+    private final Set<Screen> disposed = Collections.newSetFromMap(new WeakHashMap<Screen, Boolean>());
+    private int hits;
+    private int misses;
+    private int evictions;
+
+    public ScreenManager(FernansGrace game) {
+        this(game, DEFAULT_CAPACITY);
+    }
+
+    public ScreenManager(FernansGrace game, int capacity) {
+        if (capacity < 2) throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+        this.game = game;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Shows the {@code type} screen cached for {@code owner} (e.g. the profile it shows, or null), building it with
+     * {@code factory} if there is none.
+     */
+    public <S extends Screen> S show(Class<S> type, Object owner, Supplier<S> factory) {
+        Key key = new Key(type, owner);
+        Screen screen = screens.get(key);
+        if (screen != null) {
+            hits++;
+        } else {
+            misses++;
+            screen = factory.get();
+            screens.put(key, screen);
+            keys.put(screen, key);
+        }
+        game.setScreen(screen);
+        return type.cast(screen);
+    }
+
+    /**
+     * Shows {@code child}, which holds {@code parent} to go back to. The parent stays alive as long as the child,
+     * or any screen shown from it with this method, is the current screen.
+     */
+    public <S extends Screen> S showChild(Screen parent, S child) {
+        parents.put(child, parent);
+        game.setScreen(child);
+        return child;
+    }
+
+    /** Called by {@link FernansGrace#setScreen} before {@code screen} is shown. */
+    void showing(Screen screen) {
+        if (screen != null && disposed.contains(screen)) {
+            throw new IllegalStateException(screen.getClass().getSimpleName()
+                + " was disposed by the screen manager; show it with showChild from its child, or rebuild it with show");
+        }
+    }
+
+    /** Called by {@link FernansGrace#setScreen} for every screen shown, cached or not. */
+    void shown(Screen screen) {
+        Object key = keys.get(screen);
+        if (key == null) {
+            // A one-off screen: tracked by identity so it is disposed once enough others have been shown.
+            keys.put(screen, screen);
+            screens.put(screen, screen);
+        } else {
+            screens.get(key);
+        }
+        evict(screen);
+    }
+
+    private void evict(Screen current) {
+        // The current screen and every screen it can go back to.
+        Set<Screen> kept = Collections.newSetFromMap(new IdentityHashMap<Screen, Boolean>());
+        Screen s = current;
+        while (s != null && kept.add(s)) s = parents.get(s);
+        Iterator<Map.Entry<Object, Screen>> it = screens.entrySet().iterator();
+        while (screens.size() > capacity && it.hasNext()) {
+            Screen eldest = it.next().getValue();
+            if (kept.contains(eldest)) continue;
+            it.remove();
+            keys.remove(eldest);
+            parents.remove(eldest);
+            disposed.add(eldest);
+            evictions++;
+            eldest.dispose();
+        }
+    }
+
+    public int size() { return screens.size(); }
+    public int getCapacity() { return capacity; }
+    /** {@link #show} calls that reused a cached screen. */
+    public int getHits() { return hits; }
+    /** {@link #show} calls that had to build the screen. */
+    public int getMisses() { return misses; }
+    public int getEvictions() { return evictions; }
+
+    /** Disposes every screen still alive, the current one included; {@link com.badlogic.gdx.Game} only hides it. */
+    @Override
+    public void dispose() {
+        Gdx.app.log("ScreenManager", "hits=" + hits + " misses=" + misses + " evictions=" + evictions);
+        for (Screen screen : screens.values()) {
+            screen.dispose();
+        }
+        screens.clear();
+        keys.clear();
+        parents.clear();
+    }
+
+    private static final class Key {
+        final Class<?> type;
+        final Object owner;
+
+        Key(Class<?> type, Object owner) {
+            this.type = type;
+            this.owner = owner;
+        }
+
+        // Owners compare by identity: a profile edited since the screen was built is still the same profile.
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return type == k.type && owner == k.owner;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + System.identityHashCode(owner);
+        }
+    }
+}
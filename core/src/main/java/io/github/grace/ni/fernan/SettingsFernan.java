@@ -32,17 +32,14 @@ public class SettingsFernan implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
-        font = new BitmapFont(Gdx.files.internal("ui/Aligator2.fnt"));
-        font.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        skin = game.assets.skin();
+        font = game.assets.font("ui/Aligator2.fnt");
 
-        whiteFont = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
-        whiteFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        whiteFont = game.assets.font("ui/smalligator_gradient2.fnt");
 
-        yellowFont = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        yellowFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        yellowFont = game.assets.font("ui/smalligator_yellow.fnt");
 
-        clickSound = Gdx.audio.newSound(Gdx.files.internal("Click.mp3"));
+        clickSound = game.assets.sound(SharedAssets.CLICK);
 
 
         Texture transparentTexture = new Texture(Gdx.files.internal("ui/transparent.png"));
@@ -71,9 +68,9 @@ public class SettingsFernan implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) { clickSound.play();
                 if (!game.isInGame){
-                    game.setScreen(new MainFernan(game));
+                    game.screens.show(MainFernan.class, null, () -> new MainFernan(game));
                 } else {
-                    game.setScreen(new GameMenuFernan(game));
+                    game.screens.show(GameMenuFernan.class, null, () -> new GameMenuFernan(game));
                 }
             }
         });
@@ -94,7 +91,9 @@ public class SettingsFernan implements Screen {
     }
 
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     @Override
     public void render(float delta) {
@@ -128,7 +127,5 @@ public class SettingsFernan implements Screen {
     public void dispose() {
         background.dispose();
         stage.dispose();
-        skin.dispose();
-        font.dispose();
     }
     }
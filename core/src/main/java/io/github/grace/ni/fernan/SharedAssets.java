@@ -0,0 +1,93 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The skin, fonts and sounds every screen uses, loaded once for the whole app and disposed on exit.
+ * Screens must not dispose what they get here.
+ * <p>
+ * Fonts are shared, so don't change their scale or colour. Ask for a {@link #font(String, float) scaled} copy, or use
+ * {@link com.badlogic.gdx.scenes.scene2d.ui.Label#setFontScale}, which restores the font after each layout.
+ */
+public class SharedAssets implements Disposable {
+    public static final String SKIN = "ui/uiskin.json";
+    public static final String CLICK = "Click.mp3";
+
+    private Skin skin;
+    private final Map<String, BitmapFont> fonts = new HashMap<>();
+    /** Scaled copies, keyed by font file and scale. They borrow the pages of the font they copy. */
+    private final Map<String, BitmapFont> scaledFonts = new HashMap<>();
+    private final Map<String, Sound> sounds = new HashMap<>();
+
+    public Skin skin() {
+        if (skin == null) {
+            skin = new Skin(Gdx.files.internal(SKIN));
+        }
+        return skin;
+    }
+
+    /** A font at its natural size, with linear filtering so it stays smooth when labels scale it. */
+    public BitmapFont font(String path) {
+        BitmapFont font = fonts.get(path);
+        if (font == null) {
+            font = new BitmapFont(Gdx.files.internal(path));
+            for (TextureRegion page : font.getRegions()) {
+                page.getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            }
+            fonts.put(path, font);
+        }
+        return font;
+    }
+
+    public BitmapFont font(String path, float scale) {
+        return scaled(font(path), scale);
+    }
+
+    /**
+     * A copy of {@code base} drawn at {@code scale}, e.g. for a skin font a widget style has no scale for.
+     * The copy reads the {@code .fnt} file once per scale and shares {@code base}'s textures.
+     */
+    public BitmapFont scaled(BitmapFont base, float scale) {
+        if (scale == 1f) return base;
+        String key = base.getData().fontFile.path() + "@" + scale;
+        BitmapFont font = scaledFonts.get(key);
+        if (font == null) {
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(base.getData().fontFile, base.getData().flipped);
+            font = new BitmapFont(data, base.getRegions(), base.usesIntegerPositions());
+            font.getData().setScale(scale);
+            scaledFonts.put(key, font);
+        }
+        return font;
+    }
+
+    public Sound sound(String path) {
+        Sound sound = sounds.get(path);
+        if (sound == null) {
+            sound = Gdx.audio.newSound(Gdx.files.internal(path));
+            sounds.put(path, sound);
+        }
+        return sound;
+    }
+
+    @Override
+    public void dispose() {
+        // Copies don't own their pages; the fonts they copy do.
+        for (BitmapFont font : scaledFonts.values()) font.dispose();
+        for (BitmapFont font : fonts.values()) font.dispose();
+        for (Sound sound : sounds.values()) sound.dispose();
+        if (skin != null) skin.dispose();
+        scaledFonts.clear();
+        fonts.clear();
+        sounds.clear();
+        skin = null;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan;
 
 public interface SkillEffect {
-    void apply(CardSystem.Card user, CardSystem.Card target);
+    /** Called during battles; effects that roll dice use the battle's generator, so replays stay deterministic. */
+    void apply(CardSystem.Card user, CardSystem.Card target, GameRandom random);
 }
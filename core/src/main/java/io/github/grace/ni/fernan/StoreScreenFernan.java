@@ -55,15 +55,13 @@ public class StoreScreenFernan implements Screen {
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        this.skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        this.skin = game.assets.skin();
 
-        yellowFont = new BitmapFont(Gdx.files.internal("ui/smalligator_yellow.fnt"));
-        yellowFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        yellowFont = game.assets.font("ui/smalligator_yellow.fnt");
 
-        whiteFont = new BitmapFont(Gdx.files.internal("ui/smalligator_gradient2.fnt"));
-        whiteFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        whiteFont = game.assets.font("ui/smalligator_gradient2.fnt");
 
-        clickSound = Gdx.audio.newSound(Gdx.files.internal("Click.mp3"));
+        clickSound = game.assets.sound(SharedAssets.CLICK);
 
         background = new Image(new Texture("Bg2B.PNG"));
         background.setFillParent(true);
@@ -123,7 +121,7 @@ public class StoreScreenFernan implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 clickSound.play();
-                game.setScreen(new GameMenuFernan(game, profile));
+                game.screens.show(GameMenuFernan.class, profile, () -> new GameMenuFernan(game, profile));
             }
         });
         Table topTable = new Table();
@@ -184,7 +182,7 @@ public class StoreScreenFernan implements Screen {
                     }
                 }
 
-                game.setScreen(new PackScreenFernan(game, profile,
+                game.screens.showChild(StoreScreenFernan.this, new PackScreenFernan(game, profile,
                     new PackScreenFernan.PackScreenItemDetails( // Use a dedicated class for details
                         itemDisplay.name,
                         itemDisplay.description,
@@ -260,9 +258,5 @@ public class StoreScreenFernan implements Screen {
                 // item.texture.dispose(); // Dispose only if uniquely owned by this screen
             }
         }
-        if (yellowFont != null) yellowFont.dispose();
-        if (whiteFont != null) whiteFont.dispose();
-        if (clickSound != null) clickSound.dispose();
-        if (skin != null) skin.dispose();
     }
 }
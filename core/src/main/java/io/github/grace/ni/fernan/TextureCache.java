@@ -0,0 +1,281 @@
+package io.github.grace.ni.fernan;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Card art and UI textures, loaded once per path through an {@link AssetManager}, which counts references.
+ * A texture stays in memory while any screen holds it and is disposed when the last one lets go.
+ * Screens don't call {@link #acquire}/{@link #release} directly but hold a {@link Lease}.
+ * <p>
+ * Card art under {@value #CARD_ART_DIR} is drawn from the atlases the {@code packCardAtlases} build task makes,
+ * one per {@link Tier}. Without them (e.g. when run from an IDE that skipped the task) the full-size PNGs are used.
+ * <p>
+ * A screen can {@link #preload} the {@link AssetManifest} of the screen likely to follow it. The AssetManager decodes
+ * those files on its worker thread and {@link #update} uploads them to the GPU a few milliseconds per frame, so
+ * building the next screen finds them loaded instead of stalling the render thread.
+ */
+public class TextureCache implements Disposable {
+    public static final String PLACEHOLDER = "ui/card_slot_empty.png";
+    public static final String CARD_ART_DIR = "cards/";
+
+    /** A pre-scaled copy of all the card art, packed into as few pages as possible. */
+    public enum Tier {
+        /** Hand, bench, graveyard and deck grids. */
+        THUMB("atlas/cards_thumb.atlas"),
+        /** Active slots and the pack reveal. */
+        FULL("atlas/cards_full.atlas");
+
+        final String atlasPath;
+
+        Tier(String atlasPath) {
+            this.atlasPath = atlasPath;
+        }
+    }
+
+    /**
+     * How many preloads the AssetManager works on at once; the rest wait in {@link #pending} by priority. Keeping it
+     * small lets a later, more urgent preload overtake, and bounds what a synchronous {@link #acquire} waits behind.
+     */
+    private static final int MAX_IN_FLIGHT = 2;
+
+    private final AssetManager assets = new AssetManager();
+    /** Preloads not yet handed to the AssetManager, highest priority first, then oldest first. */
+    private final PriorityQueue<Preload> pending = new PriorityQueue<>();
+    /** Preloads handed to the AssetManager; each holds one reference until {@link #releasePreloads}. */
+    private final Map<String, Class<?>> preloaded = new HashMap<>();
+    private long preloadSequence;
+
+    /**
+     * Loads {@code path} on first use and adds a reference to it. Pair with {@link #release}.
+     * @throws GdxRuntimeException if there is no such file
+     */
+    public Texture acquire(String path) {
+        if (path == null || !Gdx.files.internal(path).exists()) {
+            throw new GdxRuntimeException("Texture not found: " + path);
+        }
+        cancelPending(path);
+        // load() on a loaded asset only bumps its reference count; nothing is decoded twice.
+        assets.load(path, Texture.class);
+        return assets.finishLoadingAsset(path);
+    }
+
+    public void release(String path) {
+        if (assets.isLoaded(path)) assets.unload(path);
+    }
+
+    /** Loads the tier's atlas and adds a reference to it, or returns null if it wasn't built. */
+    public TextureAtlas acquireAtlas(Tier tier) {
+        if (!Gdx.files.internal(tier.atlasPath).exists()) return null;
+        cancelPending(tier.atlasPath);
+        assets.load(tier.atlasPath, TextureAtlas.class);
+        return assets.finishLoadingAsset(tier.atlasPath);
+    }
+
+    public void releaseAtlas(Tier tier) {
+        release(tier.atlasPath);
+    }
+
+    /**
+     * Queues everything in {@code manifest} that isn't loaded yet. Higher priorities load first; use them for the
+     * screen the player is most likely to open next. Missing files are skipped here and reported on use.
+     */
+    public void preload(AssetManifest manifest, int priority) {
+        for (String path : manifest.getTextures()) {
+            preload(path, Texture.class, priority);
+        }
+        for (Tier tier : manifest.getAtlases()) {
+            preload(tier.atlasPath, TextureAtlas.class, priority);
+        }
+    }
+
+    private void preload(String path, Class<?> type, int priority) {
+        if (preloaded.containsKey(path) || assets.isLoaded(path) || !Gdx.files.internal(path).exists()) return;
+        for (Iterator<Preload> it = pending.iterator(); it.hasNext(); ) {
+            Preload p = it.next();
+            if (p.path.equals(path)) {
+                if (p.priority >= priority) return;
+                it.remove();
+                break;
+            }
+        }
+        pending.add(new Preload(path, type, priority, preloadSequence++));
+    }
+
+    private void cancelPending(String path) {
+        if (pending.isEmpty()) return;
+        for (Iterator<Preload> it = pending.iterator(); it.hasNext(); ) {
+            if (it.next().path.equals(path)) {
+                it.remove();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Call once per frame. Feeds queued preloads to the AssetManager and lets it finish loads for up to
+     * {@code budgetMillis}; decoding happens off this thread, so the budget is mostly spent on GPU uploads.
+     */
+    public void update(int budgetMillis) {
+        while (!pending.isEmpty() && assets.getQueuedAssets() < MAX_IN_FLIGHT) {
+            Preload next = pending.poll();
+            preloaded.put(next.path, next.type);
+            load(next);
+        }
+        if (assets.getQueuedAssets() > 0) {
+            assets.update(budgetMillis);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(Preload preload) {
+        assets.load(preload.path, (Class<Object>) preload.type);
+    }
+
+    /**
+     * Drops the references preloads hold and forgets what is still queued. Call after the next screen has been
+     * built: whatever it took a lease on stays loaded, and warm-ups it didn't use are unloaded.
+     */
+    public void releasePreloads() {
+        pending.clear();
+        for (String path : preloaded.keySet()) {
+            // Also cancels a load the AssetManager hasn't finished.
+            if (assets.contains(path)) assets.unload(path);
+        }
+        preloaded.clear();
+    }
+
+    /** How many textures are in memory right now. */
+    public int size() {
+        return assets.getLoadedAssets();
+    }
+
+    public Lease lease() {
+        return new Lease();
+    }
+
+    @Override
+    public void dispose() {
+        pending.clear();
+        preloaded.clear();
+        assets.dispose();
+    }
+
+    private static final class Preload implements Comparable<Preload> {
+        final String path;
+        final Class<?> type;
+        final int priority;
+        final long sequence;
+
+        Preload(String path, Class<?> type, int priority, long sequence) {
+            this.path = path;
+            this.type = type;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Preload o) {
+            if (priority != o.priority) return Integer.compare(o.priority, priority);
+            return Long.compare(sequence, o.sequence);
+        }
+    }
+
+    /**
+     * The textures one screen uses. Each path is acquired once, however often the screen rebuilds its widgets,
+     * and all of them are released together in {@link #dispose()}.
+     */
+    public class Lease implements Disposable {
+        private final Map<String, Texture> textures = new HashMap<>();
+        private final Map<String, TextureRegionDrawable> drawables = new HashMap<>();
+        private final Map<Tier, TextureAtlas> atlases = new EnumMap<>(Tier.class);
+        private final Map<Tier, Map<String, TextureRegionDrawable>> cardDrawables = new EnumMap<>(Tier.class);
+
+        /** @throws GdxRuntimeException if there is no such file */
+        public Texture get(String path) {
+            Texture texture = textures.get(path);
+            if (texture == null) {
+                texture = acquire(path);
+                textures.put(path, texture);
+            }
+            return texture;
+        }
+
+        /** Like {@link #get}, but falls back to {@link #PLACEHOLDER} and logs instead of throwing. */
+        public Texture getOrPlaceholder(String path) {
+            try {
+                return get(path);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("TextureCache", "Error loading texture: " + path + ". Using placeholder.");
+                return get(PLACEHOLDER);
+            }
+        }
+
+        /** A shared drawable for {@link #getOrPlaceholder}; drawables hold no per-widget state. */
+        public TextureRegionDrawable drawable(String path) {
+            TextureRegionDrawable drawable = drawables.get(path);
+            if (drawable == null) {
+                drawable = new TextureRegionDrawable(new TextureRegion(getOrPlaceholder(path)));
+                drawables.put(path, drawable);
+            }
+            return drawable;
+        }
+
+        /**
+         * Like {@link #drawable(String)}, but card art comes from the tier's atlas, so a row of cards shares one
+         * texture and is drawn in one batch. Other paths, and art missing from the atlas, load as loose textures.
+         */
+        public TextureRegionDrawable drawable(String path, Tier tier) {
+            Map<String, TextureRegionDrawable> tierDrawables = cardDrawables.get(tier);
+            if (tierDrawables == null) {
+                tierDrawables = new HashMap<>();
+                cardDrawables.put(tier, tierDrawables);
+            }
+            TextureRegionDrawable drawable = tierDrawables.get(path);
+            if (drawable == null) {
+                TextureRegion region = atlasRegion(path, tier);
+                drawable = region != null ? new TextureRegionDrawable(region) : drawable(path);
+                tierDrawables.put(path, drawable);
+            }
+            return drawable;
+        }
+
+        private TextureRegion atlasRegion(String path, Tier tier) {
+            if (path == null || !path.startsWith(CARD_ART_DIR) || !path.endsWith(".png")) return null;
+            if (!atlases.containsKey(tier)) {
+                // A missing atlas is remembered as null so it is looked for once per lease.
+                atlases.put(tier, acquireAtlas(tier));
+            }
+            TextureAtlas atlas = atlases.get(tier);
+            if (atlas == null) return null;
+            // The packer names regions after the file, without directory or extension.
+            return atlas.findRegion(path.substring(CARD_ART_DIR.length(), path.length() - ".png".length()));
+        }
+
+        @Override
+        public void dispose() {
+            for (String path : textures.keySet()) {
+                release(path);
+            }
+            for (Map.Entry<Tier, TextureAtlas> e : atlases.entrySet()) {
+                if (e.getValue() != null) releaseAtlas(e.getKey());
+            }
+            textures.clear();
+            atlases.clear();
+            drawables.clear();
+            cardDrawables.clear();
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package io.github.grace.ni.fernan.battle;
+
+import io.github.grace.ni.fernan.CardSystem;
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.Skill;
+import io.github.grace.ni.fernan.GameRandom;
+
+import java.util.List;
+
+/**
+ * The battle rules: drawing, faith, skills, the enemy turn, status ticking and the
+ * win/lose checks. It only works on a {@link BattleState} and reports through a
+ * {@link BattleListener}, so it runs the same with or without a screen attached.
+ */
+public class BattleEngine {
+    public static final int STARTING_HAND = 5;
+    public static final int MAX_ACTIVE_DEATHS = 5;
+    public static final int MAX_FAITH = 10;
+    public static final int MAX_BENCH_SLOTS = 3;
+
+    private final BattleState state;
+    private final BattleListener listener;
+    private EnemyPolicy enemyPolicy = EnemyPolicy.RANDOM;
+    /** Reseeded for each enemy choice made in {@link #endTurn()}. */
+    private final GameRandom policyRandom = new GameRandom(0);
+    // Skip building log strings and events nobody will read (headless runs).
+    private final boolean listening;
+
+    public BattleEngine(BattleState state, BattleListener listener) {
+        this.state = state;
+        this.listener = listener != null ? listener : BattleListener.NONE;
+        this.listening = this.listener != BattleListener.NONE;
+    }
+
+    public BattleEngine(BattleState state, BattleListener listener, EnemyPolicy enemyPolicy) {
+        this(state, listener);
+        setEnemyPolicy(enemyPolicy);
+    }
+
+    public BattleState getState() {
+        return state;
+    }
+
+    public EnemyPolicy getEnemyPolicy() {
+        return enemyPolicy;
+    }
+
+    public void setEnemyPolicy(EnemyPolicy enemyPolicy) {
+        this.enemyPolicy = enemyPolicy != null ? enemyPolicy : EnemyPolicy.RANDOM;
+    }
+
+    /** Shuffles the deck and deals the opening hand. */
+    public void start() {
+        state.random.shuffle(state.deck);
+        drawCards(STARTING_HAND);
+    }
+
+    /**
+     * Lets a policy play the player's side until the battle is decided.
+     * Stops early after {@code maxRounds} rounds, or if the policy cannot end its turn
+     * (e.g. an empty hand and bench with cards still in the deck).
+     * @return the outcome, IN_PROGRESS if the battle was cut short
+     */
+    public BattleState.Outcome playOut(PlayerPolicy policy, int maxRounds) {
+        while (!state.isEnded() && state.roundNumber <= maxRounds) {
+            if (!policy.playTurn(this) && !state.isEnded()) break;
+        }
+        return state.outcome;
+    }
+
+    // ---------------------------------------------------------------- player actions
+
+    public boolean isBenchFull() {
+        return state.bench.size() >= MAX_BENCH_SLOTS;
+    }
+
+    /**
+     * Moves a hand card into the empty active slot.
+     * @return false if the active slot is already occupied
+     */
+    public boolean setActiveFromHand(Card c) {
+        if (state.isEnded() || !state.playerTurn) return false;
+        if (state.playerActive != null) {
+            log("Active slot is already occupied.");
+            return false;
+        }
+        state.playerActive = c;
+        state.hand.remove(c);
+        moved(c, BattleState.Zone.HAND, BattleState.Zone.ACTIVE);
+        if (listening) log("Player set active to " + c.getName());
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    /** Benches the current active card and makes a hand card active in its place. */
+    public boolean replaceActiveFromHand(Card c) {
+        if (state.isEnded() || !state.playerTurn || isBenchFull()) return false;
+        Card previous = state.playerActive;
+        state.bench.add(previous);
+        state.playerActive = c;
+        state.hand.remove(c);
+        moved(previous, BattleState.Zone.ACTIVE, BattleState.Zone.BENCH);
+        moved(c, BattleState.Zone.HAND, BattleState.Zone.ACTIVE);
+        if (listening) log(c.getName() + " is now active. Previous active (" + state.bench.get(state.bench.size() - 1).getName() + ") moved to bench.");
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    public boolean benchFromHand(Card c) {
+        if (state.isEnded() || !state.playerTurn) return false;
+        if (isBenchFull()) {
+            if (listening) log("Bench is full. Cannot move " + c.getName() + " to bench.");
+            return false;
+        }
+        state.bench.add(c);
+        state.hand.remove(c);
+        moved(c, BattleState.Zone.HAND, BattleState.Zone.BENCH);
+        if (listening) log("Player benched " + c.getName());
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    /** Moves a bench card into the empty active slot. */
+    public boolean activateFromBench(Card c) {
+        if (state.isEnded() || !state.playerTurn || state.playerActive != null) return false;
+        state.playerActive = c;
+        state.bench.remove(c);
+        moved(c, BattleState.Zone.BENCH, BattleState.Zone.ACTIVE);
+        if (listening) log(c.getName() + " moved from bench to active slot.");
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    /** Swaps a bench card with the current active card. */
+    public boolean swapActiveWithBench(Card c) {
+        if (state.isEnded() || !state.playerTurn || state.playerActive == null) return false;
+        Card temp = state.playerActive;
+        state.playerActive = c;
+        state.bench.remove(c);
+        state.bench.add(temp);
+        moved(c, BattleState.Zone.BENCH, BattleState.Zone.ACTIVE);
+        moved(temp, BattleState.Zone.ACTIVE, BattleState.Zone.BENCH);
+        if (listening) log(c.getName() + " swapped with " + temp.getName() + " from bench.");
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    /** The "Retreat" skill: swap the active card with the bench card at the given index. */
+    public boolean retreat(int benchIndex) {
+        if (state.isEnded() || !state.playerTurn) return false;
+        if (state.playerActive == null) {
+            log("No active card to retreat.");
+            return false;
+        }
+        if (benchIndex < 0 || benchIndex >= state.bench.size()) {
+            log("Error: Invalid selection from bench for retreat.");
+            return false;
+        }
+        Card cardToMakeActive = state.bench.remove(benchIndex);
+        Card previous = state.playerActive;
+        state.bench.add(previous);
+        state.playerActive = cardToMakeActive;
+        moved(cardToMakeActive, BattleState.Zone.BENCH, BattleState.Zone.ACTIVE);
+        moved(previous, BattleState.Zone.ACTIVE, BattleState.Zone.BENCH);
+        if (listening) log(state.playerActive.getName() + " is now active (retreated). " + state.bench.get(state.bench.size() - 1).getName() + " moved to bench.");
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    public boolean canUseSkill(Skill skill) {
+        return !state.isEnded() && state.playerTurn && state.playerActive != null
+            && state.faith >= skill.getCost() && state.playerActive.canUse();
+    }
+
+    /** Uses one of the active card's skills against the enemy (not Retreat, see {@link #retreat}). */
+    public boolean useSkill(Skill skill) {
+        if (!canUseSkill(skill)) return false;
+        Card active = state.playerActive;
+        Card enemy = state.enemyActive;
+
+        if (listening) log("Player uses " + skill.getName() + " from " + active.getName());
+        active.markUsed();
+        int oldEnemyHp = enemy != null ? enemy.getHealth() : 0;
+        int oldPlayerHp = active.getHealth();
+        int oldEnemyStatuses = enemy != null ? enemy.getStatusVersion() : 0;
+        int oldPlayerStatuses = active.getStatusVersion();
+        int oldFaith = state.faith;
+
+        skill.apply(active, enemy, state.random);
+        state.faith -= skill.getCost();
+        state.faithSpent += skill.getCost();
+
+        if (listening) {
+            changed(enemy, oldEnemyHp, oldEnemyStatuses);
+            changed(active, oldPlayerHp, oldPlayerStatuses);
+            if (state.faith != oldFaith) listener.onFaithChanged(oldFaith, state.faith);
+            listener.onSkillUsed(active, skill);
+        }
+
+        if (listening && enemy != null && enemy.getHealth() != oldEnemyHp) {
+            log(enemy.getName() + " HP: " + oldEnemyHp + " -> " + enemy.getHealth());
+        }
+        if (listening && active.getHealth() != oldPlayerHp) {
+            log(active.getName() + " HP: " + oldPlayerHp + " -> " + active.getHealth());
+        }
+        // Items whose own effect drops them to 0 HP are used up.
+        if (active.getType() == CardSystem.CardType.ITEM && active.getHealth() <= 0) {
+            active.consume();
+            if (listening) log(active.getName() + " was consumed.");
+            state.graveyard.add(active);
+            moved(active, BattleState.Zone.ACTIVE, BattleState.Zone.GRAVEYARD);
+        }
+
+        if (checkEnemyDefeated()) return true;
+        checkPlayerDefeated();
+        return true;
+    }
+
+    /**
+     * The "End Turn" button. Refuses (with a log line) while the player could still set an
+     * active card; otherwise runs end-of-turn statuses and the whole enemy turn, asking the
+     * {@link EnemyPolicy} for the enemy's move on this thread.
+     * @return true if the turn actually ended
+     */
+    public boolean endTurn() {
+        if (!endPlayerTurn()) return false;
+        if (isEnemyMoveDue()) {
+            playEnemyTurn(isEnemyChoiceNeeded() ? chooseEnemySkill() : -1);
+        }
+        return true;
+    }
+
+    /**
+     * Asks the policy on this thread. It rolls on a split of the battle's generator, as the snapshot
+     * {@link EnemyTurnPlanner} hands it does: the battle advances by one step either way, and the
+     * enemy's choice isn't the battle's next roll.
+     */
+    private int chooseEnemySkill() {
+        GameRandom live = state.random;
+        live.splitInto(policyRandom);
+        state.random = policyRandom;
+        try {
+            return enemyPolicy.chooseSkill(state);
+        } finally {
+            state.random = live;
+        }
+    }
+
+    /**
+     * First half of {@link #endTurn()}: validates and runs the player's end-of-turn statuses.
+     * If {@link #isEnemyMoveDue()} afterwards, finish with {@link #playEnemyTurn(int)}; this lets
+     * a screen pick the enemy's move off the render thread.
+     * @return true if the player's turn actually ended
+     */
+    public boolean endPlayerTurn() {
+        if (state.isEnded() || !state.playerTurn) return false;
+        List<Card> hand = state.hand;
+        List<Card> bench = state.bench;
+
+        if (state.playerActive == null && !hand.isEmpty() && !bench.isEmpty()) {
+            if (hasPossibleActive(hand) || hasPossibleActive(bench)) {
+                log("Please set an active card before ending the turn.");
+                return false;
+            }
+            log("No playable active card. Player ends turn.");
+        } else if (state.playerActive == null && hand.isEmpty() && state.deck.isEmpty() && bench.isEmpty()) {
+            log("No cards left to play or in deck/bench. Player ends turn.");
+        } else if (state.playerActive == null) {
+            log("Cannot end turn: no active card. Please play a card from your hand or bench.");
+            return false;
+        } else {
+            log("Player ends turn.");
+        }
+        state.playerTurn = false;
+        if (listening) listener.onTurnChanged(false, state.roundNumber);
+        if (state.playerActive != null) endOfTurnStatuses(state.playerActive);
+        for (int i = 0; i < state.bench.size(); i++) {
+            endOfTurnStatuses(state.bench.get(i));
+        }
+        // End-of-turn effects (like poison) can finish the player off before the enemy moves.
+        checkPlayerDefeated();
+        return true;
+    }
+
+    /** @return true between {@link #endPlayerTurn()} and {@link #playEnemyTurn(int)} */
+    public boolean isEnemyMoveDue() {
+        return !state.isEnded() && !state.playerTurn;
+    }
+
+    /** @return true if the coming enemy turn will actually use a skill, so a policy should be asked */
+    public boolean isEnemyChoiceNeeded() {
+        if (!isEnemyMoveDue()) return false;
+        Card enemy = state.enemyActive;
+        Card active = state.playerActive;
+        return enemy != null && enemy.getHealth() > 0 && active != null && active.getHealth() > 0
+            && enemy.getSkills() != null && !enemy.getSkills().isEmpty();
+    }
+
+    private static boolean hasPossibleActive(List<Card> cards) {
+        for (Card card : cards) {
+            if (card.getType() == CardSystem.CardType.GOD || card.getType() == CardSystem.CardType.DIVINE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ---------------------------------------------------------------- turn flow
+
+    /**
+     * Plays the enemy's turn with the given skill, then starts the next player turn.
+     * @param skillIndex index into the enemy's skills, ignored if it has none
+     */
+    public void playEnemyTurn(int skillIndex) {
+        if (!isEnemyMoveDue()) return;
+        Card enemy = state.enemyActive;
+        Card active = state.playerActive;
+
+        if (listening) log("-- Enemy turn (Round " + state.roundNumber + ") --");
+        if (enemy != null && enemy.getHealth() > 0) {
+            if (active != null && active.getHealth() > 0) {
+                List<Skill> skills = enemy.getSkills();
+                if (skills != null && !skills.isEmpty()) {
+                    Skill sk = skills.get(Math.max(0, Math.min(skillIndex, skills.size() - 1)));
+                    if (listening) log("Enemy " + enemy.getName() + " uses " + sk.getName());
+                    int oldHp = active.getHealth();
+                    int oldEnemyHp = enemy.getHealth();
+                    int oldStatuses = active.getStatusVersion();
+                    int oldEnemyStatuses = enemy.getStatusVersion();
+                    sk.apply(enemy, active, state.random);
+                    if (listening) {
+                        log(active.getName() + " HP: " + oldHp + " -> " + active.getHealth());
+                        changed(active, oldHp, oldStatuses);
+                        changed(enemy, oldEnemyHp, oldEnemyStatuses);
+                    }
+                    if (checkPlayerDefeated()) return;
+                } else {
+                    if (listening) log(enemy.getName() + " has no skills to use.");
+                }
+            } else {
+                log("Player has no active card to target or active card is already defeated.");
+            }
+        } else {
+            log("Enemy was already defeated before its turn.");
+        }
+
+        if (enemy != null) {
+            int oldHp = enemy.getHealth();
+            int oldStatuses = enemy.getStatusVersion();
+            enemy.applyStartOfTurnStatuses();
+            enemy.resetTurnUsage();
+            enemy.applyEndOfTurnStatuses();
+            if (listening) changed(enemy, oldHp, oldStatuses);
+            // Statuses such as poison can defeat the enemy on its own turn.
+            if (checkEnemyDefeated()) return;
+        }
+
+        state.playerTurn = true;
+        if (listening) log("-- Player turn (Round " + (state.roundNumber + 1) + ") --");
+
+        if (state.faith < MAX_FAITH) {
+            state.faith++;
+            if (listening) listener.onFaithChanged(state.faith - 1, state.faith);
+        }
+
+        if (state.playerActive != null) startOfTurnStatuses(state.playerActive);
+        for (int i = 0; i < state.bench.size(); i++) {
+            startOfTurnStatuses(state.bench.get(i));
+        }
+        if (checkPlayerDefeated()) return;
+
+        drawCards(1);
+        state.roundNumber++;
+        resetPlayerTurnUsage();
+        if (listening) listener.onTurnChanged(true, state.roundNumber);
+    }
+
+    private void startOfTurnStatuses(Card card) {
+        int oldHp = card.getHealth();
+        int oldStatuses = card.getStatusVersion();
+        card.applyStartOfTurnStatuses();
+        if (listening) changed(card, oldHp, oldStatuses);
+    }
+
+    private void endOfTurnStatuses(Card card) {
+        int oldHp = card.getHealth();
+        int oldStatuses = card.getStatusVersion();
+        card.applyEndOfTurnStatuses();
+        if (listening) changed(card, oldHp, oldStatuses);
+    }
+
+    /** @return true if the battle is over because the enemy is down */
+    private boolean checkEnemyDefeated() {
+        if (state.isEnded()) return true;
+        Card enemy = state.enemyActive;
+        if (enemy != null && enemy.getHealth() <= 0) {
+            if (listening) log("Enemy " + enemy.getName() + " defeated!");
+            state.outcome = BattleState.Outcome.VICTORY;
+            listener.onVictory(enemy);
+            return true;
+        }
+        return false;
+    }
+
+    /** @return true if the battle is over because the player lost */
+    private boolean checkPlayerDefeated() {
+        if (state.isEnded()) return true;
+
+        boolean activeCardWasJustDefeated = false;
+        Card active = state.playerActive;
+        if (active != null && active.getHealth() <= 0) {
+            if (listening) log("Active card " + active.getName() + " was defeated.");
+            state.graveyard.add(active);
+            state.activeDeathCount++;
+            state.playerActive = null;
+            moved(active, BattleState.Zone.ACTIVE, BattleState.Zone.GRAVEYARD);
+            activeCardWasJustDefeated = true;
+        }
+
+        boolean noCardsLeftToPlay = state.playerActive == null && state.hand.isEmpty()
+            && state.deck.isEmpty() && state.bench.isEmpty();
+
+        if (state.activeDeathCount >= MAX_ACTIVE_DEATHS || noCardsLeftToPlay) {
+            state.outcome = BattleState.Outcome.DEFEAT;
+            String defeatReason = noCardsLeftToPlay && state.activeDeathCount < MAX_ACTIVE_DEATHS
+                ? "You have no more cards to play!"
+                : "You have run out of lives!";
+            if (listening) log(defeatReason + " Game Over.");
+            listener.onDefeat(defeatReason);
+            return true;
+        } else if (activeCardWasJustDefeated) {
+            if (!state.bench.isEmpty()) {
+                log("Your active card was defeated. Select a card from your bench to make active.");
+            } else if (!state.hand.isEmpty()) {
+                log("Your active card was defeated. Play a card from your hand.");
+            }
+        }
+        return false;
+    }
+
+    private void drawCards(int n) {
+        if (state.isEnded()) return;
+        for (int i = 0; i < n; i++) {
+            if (state.deck.isEmpty()) {
+                log("Deck is empty. Cannot draw more cards.");
+                break;
+            }
+            Card drawnCard = state.deck.remove(0);
+            state.hand.add(drawnCard);
+            moved(drawnCard, BattleState.Zone.DECK, BattleState.Zone.HAND);
+            if (listening) log("Drew " + drawnCard.getName());
+        }
+    }
+
+    /** Artifacts get their once-per-turn use back whenever the player's board changes. */
+    private void resetPlayerTurnUsage() {
+        if (state.playerActive != null) state.playerActive.resetTurnUsage();
+        for (int i = 0; i < state.bench.size(); i++) {
+            state.bench.get(i).resetTurnUsage();
+        }
+    }
+
+    private void log(String message) {
+        listener.onLog(message);
+    }
+
+    private void moved(Card card, BattleState.Zone from, BattleState.Zone to) {
+        if (listening && card != null) listener.onCardMoved(card, from, to);
+    }
+
+    /** Fires the HP and status events for whatever changed on {@code card} since the given snapshot. */
+    private void changed(Card card, int oldHealth, int oldStatusVersion) {
+        if (card == null) return;
+        if (card.getHealth() != oldHealth) listener.onHealthChanged(card, oldHealth, card.getHealth());
+        if (card.getStatusVersion() != oldStatusVersion) listener.onStatusesChanged(card);
+    }
+}
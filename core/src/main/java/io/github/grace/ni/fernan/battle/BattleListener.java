@@ -0,0 +1,41 @@
+package io.github.grace.ni.fernan.battle;
+
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.Skill;
+
+/**
+ * Receives what happens inside a {@link BattleEngine}.
+ * The engine never touches scene2d; a screen implements this to render, a simulator ignores it.
+ */
+public interface BattleListener {
+    /** A listener that ignores everything. Used for headless runs. */
+    BattleListener NONE = new BattleListener() {};
+
+    /** A human readable battle log line. */
+    default void onLog(String message) {}
+
+    /** The enemy's HP reached zero. Fired once, after which the battle is over. */
+    default void onVictory(Card enemy) {}
+
+    /** The player ran out of lives or cards. Fired once, after which the battle is over. */
+    default void onDefeat(String reason) {}
+
+    // The events below say exactly what changed, so a screen can patch just the widgets showing it.
+
+    /** A player's card changed zone. The state already reflects the move. */
+    default void onCardMoved(Card card, BattleState.Zone from, BattleState.Zone to) {}
+
+    /** A card's HP changed, from a skill or a status tick. */
+    default void onHealthChanged(Card card, int oldHealth, int newHealth) {}
+
+    /** A status was added to, merged into or removed from the card. */
+    default void onStatusesChanged(Card card) {}
+
+    default void onFaithChanged(int oldFaith, int newFaith) {}
+
+    /** The player's active card used a skill; which skills are usable may have changed. */
+    default void onSkillUsed(Card user, Skill skill) {}
+
+    /** The turn passed to the enemy, or back to the player for {@code roundNumber}. */
+    default void onTurnChanged(boolean playerTurn, int roundNumber) {}
+}
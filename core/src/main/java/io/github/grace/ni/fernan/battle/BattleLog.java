@@ -0,0 +1,68 @@
+package io.github.grace.ni.fernan.battle;
+
+import java.util.Arrays;
+
+/**
+ * The most recent lines of a battle log in a fixed-capacity ring buffer.
+ * Adding a line is O(1) and, once full, drops the oldest one, so a long battle costs no more than a short one.
+ * Each line carries a caller-defined kind, e.g. to pick its colour.
+ */
+public final class BattleLog {
+    private final String[] lines;
+    private final int[] kinds;
+    private int head;
+    private int size;
+    private long added;
+
+    public BattleLog(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        lines = new String[capacity];
+        kinds = new int[capacity];
+    }
+
+    public void add(String line, int kind) {
+        int slot = (head + size) % lines.length;
+        lines[slot] = line;
+        kinds[slot] = kind;
+        if (size < lines.length) {
+            size++;
+        } else {
+            head = (head + 1) % lines.length;
+        }
+        added++;
+    }
+
+    /** Line {@code index}, 0 being the oldest one still kept. */
+    public String getLine(int index) {
+        return lines[slot(index)];
+    }
+
+    public int getKind(int index) {
+        return kinds[slot(index)];
+    }
+
+    /** How many lines were added before line {@code index}; unlike the index it doesn't change as old lines drop. */
+    public long getSequence(int index) {
+        slot(index);
+        return added - size + index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return lines.length;
+    }
+
+    public void clear() {
+        Arrays.fill(lines, null);
+        head = 0;
+        size = 0;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("line " + index + " of " + size);
+        return (head + index) % lines.length;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.grace.ni.fernan.battle;
+
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.GameRandom;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a battle needs to know, with no UI attached.
+ * Only {@link BattleEngine} mutates it; screens and simulators read it through the getters.
+ */
+public class BattleState {
+
+    public enum Outcome {
+        IN_PROGRESS, VICTORY, DEFEAT
+    }
+
+    /** Where a player's card is. */
+    public enum Zone {
+        DECK, HAND, BENCH, ACTIVE, GRAVEYARD
+    }
+
+    /** Only {@link BattleEngine} swaps it, while the enemy policy rolls on a split of it. */
+    GameRandom random;
+    final List<Card> deck;
+    final List<Card> hand = new ArrayList<>();
+    final List<Card> bench = new ArrayList<>();
+    final List<Card> graveyard = new ArrayList<>();
+    Card playerActive;
+    Card enemyActive;
+
+    int faith = 1;
+    int activeDeathCount = 0;
+    int roundNumber = 1;
+    int faithSpent = 0;
+    boolean playerTurn = true;
+    Outcome outcome = Outcome.IN_PROGRESS;
+
+    public BattleState(List<Card> deck, Card enemy) {
+        this(deck, enemy, new GameRandom());
+    }
+
+    /**
+     * @param deck   the player's battle copies, drawn from index 0
+     * @param enemy  the enemy's battle copy
+     * @param random drives every roll in this battle; the same seed and moves replay the same battle
+     */
+    public BattleState(List<Card> deck, Card enemy, GameRandom random) {
+        this.deck = deck != null ? deck : new ArrayList<Card>();
+        this.enemyActive = enemy;
+        this.random = random;
+    }
+
+    /**
+     * A fully independent copy for search and rollouts: every card is {@link Card#snapshot() snapshotted}
+     * once (the same card in two zones stays one card) and the generator continues from the same point.
+     */
+    public BattleState copy() {
+        return copy(random.copy());
+    }
+
+    /** Like {@link #copy()}, but the copy rolls with {@code random}, e.g. to sample a different future. */
+    public BattleState copy(GameRandom random) {
+        Map<Card, Card> copies = new IdentityHashMap<>();
+        BattleState copy = new BattleState(copyAll(deck, copies), copyOf(enemyActive, copies), random);
+        copy.hand.addAll(copyAll(hand, copies));
+        copy.bench.addAll(copyAll(bench, copies));
+        copy.graveyard.addAll(copyAll(graveyard, copies));
+        copy.playerActive = copyOf(playerActive, copies);
+        copy.faith = faith;
+        copy.activeDeathCount = activeDeathCount;
+        copy.roundNumber = roundNumber;
+        copy.faithSpent = faithSpent;
+        copy.playerTurn = playerTurn;
+        copy.outcome = outcome;
+        return copy;
+    }
+
+    private static List<Card> copyAll(List<Card> cards, Map<Card, Card> copies) {
+        List<Card> result = new ArrayList<>(cards.size());
+        for (Card c : cards) {
+            result.add(copyOf(c, copies));
+        }
+        return result;
+    }
+
+    private static Card copyOf(Card card, Map<Card, Card> copies) {
+        if (card == null) return null;
+        Card copy = copies.get(card);
+        if (copy == null) {
+            copy = card.snapshot();
+            copies.put(card, copy);
+        }
+        return copy;
+    }
+
+    public GameRandom getRandom() { return random; }
+
+    public List<Card> getDeck() { return deck; }
+    public List<Card> getHand() { return hand; }
+    public List<Card> getBench() { return bench; }
+    public List<Card> getGraveyard() { return graveyard; }
+    public Card getPlayerActive() { return playerActive; }
+    public Card getEnemyActive() { return enemyActive; }
+
+    public int getFaith() { return faith; }
+    public int getActiveDeathCount() { return activeDeathCount; }
+    public int getLivesLeft() { return BattleEngine.MAX_ACTIVE_DEATHS - activeDeathCount; }
+    public int getRoundNumber() { return roundNumber; }
+    public int getFaithSpent() { return faithSpent; }
+    public boolean isPlayerTurn() { return playerTurn; }
+
+    public Outcome getOutcome() { return outcome; }
+    public boolean isEnded() { return outcome != Outcome.IN_PROGRESS; }
+}
@@ -0,0 +1,756 @@
+package io.github.grace.ni.fernan.battle;
+
+import io.github.grace.ni.fernan.CardSystem;
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.Skill;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.SkillEffect;
+import io.github.grace.ni.fernan.effects.*;
+import io.github.grace.ni.fernan.status.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A struct-of-arrays copy of a {@link BattleState} for AI search and rollouts.
+ *
+ * Cards become indices (0 is the enemy, the rest are the player's), zones are int arrays,
+ * HP and use flags are primitive arrays and every status is one row of a flat status table.
+ * Skills are compiled once into opcodes held by a shared, immutable {@link Layout}.
+ * {@link #copyFrom} and {@link #checkpoint()}/{@link #rollback(int)} are a handful of
+ * {@code System.arraycopy} calls and allocate nothing once the buffers exist.
+ *
+ * The rules mirror {@link BattleEngine} move for move, including the order in which the
+ * generator is used, so a compact battle and an engine fed the same seed and moves stay in step.
+ * Effects that only touch a card's own bench/hand/graveyard lists have no effect on a battle
+ * today and compile to nothing.
+ */
+public final class CompactBattle {
+    public static final int ENEMY = 0;
+    public static final int NONE = -1;
+
+    static final int TYPE_GOD = 0, TYPE_DIVINE = 1, TYPE_ARTIFACT = 2, TYPE_ITEM = 3, TYPE_OTHER = 4;
+
+    // Skill opcodes, each followed by two int operands (floats as raw bits).
+    static final int OP_DAMAGE = 0, OP_HEAL = 1, OP_POISON = 2, OP_BURN = 3, OP_STUN = 4,
+        OP_CONFUSE = 5, OP_DODGE = 6, OP_DAMAGE_MOD = 7, OP_FLAT_BUFF = 8, OP_COLLATERAL = 9,
+        OP_AOE = 10, OP_CLEANSE = 11;
+
+    // Status kinds in the status table.
+    static final int ST_POISON = 0, ST_BURN = 1, ST_STUN = 2, ST_CONFUSE = 3, ST_DODGE = 4,
+        ST_DAMAGE_MOD = 5, ST_FLAT_BUFF = 6;
+
+    static final int OUTCOME_IN_PROGRESS = 0, OUTCOME_VICTORY = 1, OUTCOME_DEFEAT = 2;
+
+    /** Everything about a battle that never changes: card types, skills and costs. Shared by all copies. */
+    public static final class Layout {
+        final int size;
+        final int[] type;
+        /** skillCost[card][skill] */
+        final int[][] skillCost;
+        /** skillOps[card][skill] = op, a, b, op, a, b, ... */
+        final int[][][] skillOps;
+        /** Skills the greedy player model never picks ("Retreat"). */
+        final boolean[][] skillSkipped;
+
+        Layout(Card[] cards) {
+            int n = cards.length;
+            this.size = n;
+            type = new int[n];
+            skillCost = new int[n][];
+            skillOps = new int[n][][];
+            skillSkipped = new boolean[n][];
+            for (int c = 0; c < n; c++) {
+                type[c] = typeOf(cards[c].getType());
+                List<Skill> skills = cards[c].getSkills();
+                int count = skills != null ? skills.size() : 0;
+                skillCost[c] = new int[count];
+                skillOps[c] = new int[count][];
+                skillSkipped[c] = new boolean[count];
+                for (int s = 0; s < count; s++) {
+                    Skill skill = skills.get(s);
+                    skillCost[c][s] = skill.getCost();
+                    skillOps[c][s] = compile(skill);
+                    skillSkipped[c][s] = "Retreat".equals(skill.getName());
+                }
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int skillCount(int card) {
+            return skillCost[card].length;
+        }
+
+        private static int typeOf(CardSystem.CardType t) {
+            if (t == null) return TYPE_OTHER;
+            switch (t) {
+                case GOD: return TYPE_GOD;
+                case DIVINE: return TYPE_DIVINE;
+                case ARTIFACT: return TYPE_ARTIFACT;
+                case ITEM: return TYPE_ITEM;
+                default: return TYPE_OTHER;
+            }
+        }
+
+        private static int[] compile(Skill skill) {
+            List<SkillEffect> effects = skill.getEffects();
+            if (effects == null) return new int[0];
+            int[] ops = new int[effects.size() * 3];
+            int n = 0;
+            for (SkillEffect e : effects) {
+                if (e == null) continue;
+                int op, a = 0, b = 0;
+                if (e instanceof DamageEffect) {
+                    op = OP_DAMAGE; a = ((DamageEffect) e).getBaseAmount();
+                } else if (e instanceof HealEffect) {
+                    op = OP_HEAL; a = ((HealEffect) e).getAmount();
+                } else if (e instanceof PoisonEffect) {
+                    op = OP_POISON; a = ((PoisonEffect) e).getDmg(); b = ((PoisonEffect) e).getDuration();
+                } else if (e instanceof BurnEffect) {
+                    op = OP_BURN; a = ((BurnEffect) e).getDmg(); b = ((BurnEffect) e).getDuration();
+                } else if (e instanceof StunEffect) {
+                    op = OP_STUN; b = ((StunEffect) e).getDuration();
+                } else if (e instanceof ConfuseEffect) {
+                    op = OP_CONFUSE; a = Float.floatToIntBits(((ConfuseEffect) e).getChance()); b = ((ConfuseEffect) e).getDuration();
+                } else if (e instanceof DodgeBuffEffect) {
+                    op = OP_DODGE; a = Float.floatToIntBits(((DodgeBuffEffect) e).getChance()); b = ((DodgeBuffEffect) e).getDuration();
+                } else if (e instanceof DamageModifierEffect) {
+                    op = OP_DAMAGE_MOD; a = Float.floatToIntBits(((DamageModifierEffect) e).getPct()); b = ((DamageModifierEffect) e).getDuration();
+                } else if (e instanceof FlatDamageBuffEffect) {
+                    op = OP_FLAT_BUFF; a = ((FlatDamageBuffEffect) e).getBonus(); b = ((FlatDamageBuffEffect) e).getDuration();
+                } else if (e instanceof CollateralDamageEffect) {
+                    op = OP_COLLATERAL; a = ((CollateralDamageEffect) e).getAmount();
+                } else if (e instanceof AoEDamageEffect) {
+                    op = OP_AOE; a = ((AoEDamageEffect) e).getAmt();
+                } else if (e instanceof CleanseEffect) {
+                    op = OP_CLEANSE;
+                } else if (e instanceof RetreatEffect || e instanceof DrawFromGraveEffect) {
+                    // Only touch the card's own (always empty) bench and graveyard lists.
+                    continue;
+                } else {
+                    throw new IllegalArgumentException("No compact form for effect " + e.getClass().getSimpleName());
+                }
+                ops[n++] = op;
+                ops[n++] = a;
+                ops[n++] = b;
+            }
+            return n == ops.length ? ops : Arrays.copyOf(ops, n);
+        }
+    }
+
+    final Layout layout;
+    final GameRandom random;
+
+    final int[] hp;
+    final boolean[] usedOnceThisBattle;
+    final boolean[] usedThisTurn;
+
+    /** Deck cards live in deck[deckHead .. deckEnd). */
+    final int[] deck;
+    int deckHead, deckEnd;
+    final int[] hand;
+    int handSize;
+    final int[] bench;
+    int benchSize;
+    int active = NONE;
+
+    int faith, activeDeathCount, roundNumber, faithSpent, outcome;
+    boolean playerTurn;
+
+    // Status table, one row per status, in the order they were added; at most one row per card and kind.
+    int[] statusOwner, statusKind, statusAmount, statusTurns, statusStacks;
+    int statusCount;
+    // Per-card totals over the status table, updated as rows come and go, so an attack reads them directly.
+    final int[] attackCount;
+    final int[] flatBonus;
+    final float[] damageModifier;
+    final float[] dodgeChance;
+    final float[] missChance;
+
+    private final List<CompactBattle> checkpoints = new ArrayList<>();
+    private int checkpointDepth;
+
+    private CompactBattle(Layout layout) {
+        int n = layout.size();
+        this.layout = layout;
+        this.random = new GameRandom(0);
+        hp = new int[n];
+        usedOnceThisBattle = new boolean[n];
+        usedThisTurn = new boolean[n];
+        attackCount = new int[n];
+        flatBonus = new int[n];
+        damageModifier = new float[n];
+        dodgeChance = new float[n];
+        missChance = new float[n];
+        deck = new int[n];
+        hand = new int[n];
+        bench = new int[n];
+        int capacity = 16;
+        statusOwner = new int[capacity];
+        statusKind = new int[capacity];
+        statusAmount = new int[capacity];
+        statusTurns = new int[capacity];
+        statusStacks = new int[capacity];
+    }
+
+    /** Converts a live battle. Throws IllegalArgumentException if a skill uses an effect with no compact form. */
+    public static CompactBattle of(BattleState state) {
+        Map<Card, Integer> index = new IdentityHashMap<>();
+        List<Card> cards = new ArrayList<>();
+        register(state.enemyActive, index, cards);
+        if (state.playerActive != null) register(state.playerActive, index, cards);
+        for (Card c : state.deck) register(c, index, cards);
+        for (Card c : state.hand) register(c, index, cards);
+        for (Card c : state.bench) register(c, index, cards);
+
+        CompactBattle b = new CompactBattle(new Layout(cards.toArray(new Card[0])));
+        for (int i = 0; i < cards.size(); i++) {
+            Card c = cards.get(i);
+            b.hp[i] = c.getHealth();
+            b.usedOnceThisBattle[i] = c.getType() == CardSystem.CardType.ITEM && !c.canUse();
+            b.usedThisTurn[i] = c.getType() == CardSystem.CardType.ARTIFACT && !c.canUse();
+            for (Status st : c.getStatuses()) {
+                b.addStatusRow(i, st);
+            }
+        }
+        for (Card c : state.deck) b.deck[b.deckEnd++] = index.get(c);
+        for (Card c : state.hand) b.hand[b.handSize++] = index.get(c);
+        for (Card c : state.bench) b.bench[b.benchSize++] = index.get(c);
+        b.active = state.playerActive != null ? index.get(state.playerActive) : NONE;
+        b.faith = state.faith;
+        b.activeDeathCount = state.activeDeathCount;
+        b.roundNumber = state.roundNumber;
+        b.faithSpent = state.faithSpent;
+        b.playerTurn = state.playerTurn;
+        b.outcome = state.outcome == BattleState.Outcome.VICTORY ? OUTCOME_VICTORY
+            : state.outcome == BattleState.Outcome.DEFEAT ? OUTCOME_DEFEAT : OUTCOME_IN_PROGRESS;
+        b.random.copyStateFrom(state.random);
+        return b;
+    }
+
+    /** A fresh battle (deck not yet shuffled) with a fixed deck and enemy; call {@link #start()} next. */
+    public static CompactBattle newBattle(List<Card> deck, Card enemy, long seed) {
+        return of(new BattleState(new ArrayList<>(deck), enemy, new GameRandom(seed)));
+    }
+
+    private static void register(Card c, Map<Card, Integer> index, List<Card> cards) {
+        if (c == null) throw new IllegalArgumentException("A compact battle needs an enemy");
+        if (!index.containsKey(c)) {
+            index.put(c, cards.size());
+            cards.add(c);
+        }
+    }
+
+    private void addStatusRow(int owner, Status st) {
+        if (st instanceof PoisonStatus) {
+            PoisonStatus p = (PoisonStatus) st;
+            addStatus(owner, ST_POISON, p.getDamagePerTurn(), p.getRemainingTurns(), p.getStacks());
+        } else if (st instanceof BurnStatus) {
+            BurnStatus p = (BurnStatus) st;
+            addStatus(owner, ST_BURN, p.getDamagePerTurn(), p.getRemainingTurns());
+        } else if (st instanceof StunStatus) {
+            addStatus(owner, ST_STUN, 0, ((StunStatus) st).getRemainingTurns());
+        } else if (st instanceof ConfuseStatus) {
+            ConfuseStatus p = (ConfuseStatus) st;
+            addStatus(owner, ST_CONFUSE, Float.floatToIntBits(p.getMissChance()), p.getRemainingTurns());
+        } else if (st instanceof DodgeBuffStatus) {
+            DodgeBuffStatus p = (DodgeBuffStatus) st;
+            addStatus(owner, ST_DODGE, Float.floatToIntBits(p.getDodgeChance()), p.getRemainingTurns());
+        } else if (st instanceof DamageModifierStatus) {
+            DamageModifierStatus p = (DamageModifierStatus) st;
+            addStatus(owner, ST_DAMAGE_MOD, Float.floatToIntBits(p.getPercent()), p.getRemainingTurns(), p.getStacks());
+        } else if (st instanceof FlatDamageBuffStatus) {
+            FlatDamageBuffStatus p = (FlatDamageBuffStatus) st;
+            addStatus(owner, ST_FLAT_BUFF, p.getBonus(), p.getRemainingUses());
+        } else {
+            throw new IllegalArgumentException("No compact form for status " + st.getClass().getSimpleName());
+        }
+    }
+
+    /** A new, independent battle in the same state. Shares only the immutable layout. */
+    public CompactBattle copy() {
+        CompactBattle b = new CompactBattle(layout);
+        b.copyFrom(this);
+        return b;
+    }
+
+    /** Overwrites this battle with {@code other}'s state. Both must come from the same {@link #of} call. */
+    public void copyFrom(CompactBattle other) {
+        if (other.layout != layout) throw new IllegalArgumentException("Battles have different layouts");
+        int n = hp.length;
+        System.arraycopy(other.hp, 0, hp, 0, n);
+        System.arraycopy(other.usedOnceThisBattle, 0, usedOnceThisBattle, 0, n);
+        System.arraycopy(other.usedThisTurn, 0, usedThisTurn, 0, n);
+        System.arraycopy(other.attackCount, 0, attackCount, 0, n);
+        System.arraycopy(other.flatBonus, 0, flatBonus, 0, n);
+        System.arraycopy(other.damageModifier, 0, damageModifier, 0, n);
+        System.arraycopy(other.dodgeChance, 0, dodgeChance, 0, n);
+        System.arraycopy(other.missChance, 0, missChance, 0, n);
+        System.arraycopy(other.deck, 0, deck, 0, n);
+        System.arraycopy(other.hand, 0, hand, 0, other.handSize);
+        System.arraycopy(other.bench, 0, bench, 0, other.benchSize);
+        deckHead = other.deckHead;
+        deckEnd = other.deckEnd;
+        handSize = other.handSize;
+        benchSize = other.benchSize;
+        active = other.active;
+        faith = other.faith;
+        activeDeathCount = other.activeDeathCount;
+        roundNumber = other.roundNumber;
+        faithSpent = other.faithSpent;
+        outcome = other.outcome;
+        playerTurn = other.playerTurn;
+        ensureStatusCapacity(other.statusCount);
+        System.arraycopy(other.statusOwner, 0, statusOwner, 0, other.statusCount);
+        System.arraycopy(other.statusKind, 0, statusKind, 0, other.statusCount);
+        System.arraycopy(other.statusAmount, 0, statusAmount, 0, other.statusCount);
+        System.arraycopy(other.statusTurns, 0, statusTurns, 0, other.statusCount);
+        System.arraycopy(other.statusStacks, 0, statusStacks, 0, other.statusCount);
+        statusCount = other.statusCount;
+        random.copyStateFrom(other.random);
+    }
+
+    /**
+     * Saves the current state; pair with {@link #rollback(int)} to undo everything since.
+     * Checkpoints nest like a stack and their buffers are reused.
+     * @return the checkpoint to roll back to
+     */
+    public int checkpoint() {
+        if (checkpointDepth == checkpoints.size()) checkpoints.add(new CompactBattle(layout));
+        checkpoints.get(checkpointDepth).copyFrom(this);
+        return checkpointDepth++;
+    }
+
+    /** Restores the state saved by {@code checkpoint} and drops it and any later checkpoints. */
+    public void rollback(int checkpoint) {
+        if (checkpoint < 0 || checkpoint >= checkpointDepth) throw new IllegalArgumentException("No checkpoint " + checkpoint);
+        copyFrom(checkpoints.get(checkpoint));
+        checkpointDepth = checkpoint;
+    }
+
+    public Layout getLayout() { return layout; }
+    public GameRandom getRandom() { return random; }
+    public int getHealth(int card) { return hp[card]; }
+    public int getActive() { return active; }
+    public int getFaith() { return faith; }
+    public int getActiveDeathCount() { return activeDeathCount; }
+    public int getRoundNumber() { return roundNumber; }
+    public int getFaithSpent() { return faithSpent; }
+    public boolean isPlayerTurn() { return playerTurn; }
+    public boolean isEnded() { return outcome != OUTCOME_IN_PROGRESS; }
+    public boolean isVictory() { return outcome == OUTCOME_VICTORY; }
+    public boolean isDefeat() { return outcome == OUTCOME_DEFEAT; }
+
+    public BattleState.Outcome getOutcome() {
+        switch (outcome) {
+            case OUTCOME_VICTORY: return BattleState.Outcome.VICTORY;
+            case OUTCOME_DEFEAT: return BattleState.Outcome.DEFEAT;
+            default: return BattleState.Outcome.IN_PROGRESS;
+        }
+    }
+
+    /** HP the player still has in play or in reserve. */
+    public int getPlayerHealth() {
+        int total = active != NONE ? hp[active] : 0;
+        for (int i = 0; i < benchSize; i++) total += hp[bench[i]];
+        for (int i = 0; i < handSize; i++) total += hp[hand[i]];
+        for (int i = deckHead; i < deckEnd; i++) total += hp[deck[i]];
+        return total;
+    }
+
+    // ---------------------------------------------------------------- turn flow (see BattleEngine)
+
+    public void start() {
+        for (int i = deckEnd - 1; i > deckHead; i--) {
+            int j = deckHead + random.nextInt(i - deckHead + 1);
+            int t = deck[i];
+            deck[i] = deck[j];
+            deck[j] = t;
+        }
+        drawCards(BattleEngine.STARTING_HAND);
+    }
+
+    public boolean canUseSkill(int skill) {
+        return outcome == OUTCOME_IN_PROGRESS && playerTurn && active != NONE
+            && faith >= layout.skillCost[active][skill] && canUse(active);
+    }
+
+    public boolean useSkill(int skill) {
+        if (!canUseSkill(skill)) return false;
+        int user = active;
+        markUsed(user);
+        apply(layout.skillOps[user][skill], user, ENEMY);
+        int cost = layout.skillCost[user][skill];
+        faith -= cost;
+        faithSpent += cost;
+        // A consumed item stays active until the defeat check moves it, as in BattleEngine.
+        if (checkEnemyDefeated()) return true;
+        checkPlayerDefeated();
+        return true;
+    }
+
+    public boolean setActiveFromHand(int handIndex) {
+        if (outcome != OUTCOME_IN_PROGRESS || !playerTurn || active != NONE) return false;
+        active = removeAt(hand, handSize--, handIndex);
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    public boolean benchFromHand(int handIndex) {
+        if (outcome != OUTCOME_IN_PROGRESS || !playerTurn || benchSize >= BattleEngine.MAX_BENCH_SLOTS) return false;
+        bench[benchSize++] = removeAt(hand, handSize--, handIndex);
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    public boolean activateFromBench(int benchIndex) {
+        if (outcome != OUTCOME_IN_PROGRESS || !playerTurn || active != NONE) return false;
+        active = removeAt(bench, benchSize--, benchIndex);
+        resetPlayerTurnUsage();
+        return true;
+    }
+
+    /** Same checks and order as {@link BattleEngine#endPlayerTurn()}. */
+    public boolean endPlayerTurn() {
+        if (outcome != OUTCOME_IN_PROGRESS || !playerTurn) return false;
+        if (active == NONE && handSize > 0 && benchSize > 0) {
+            if (hasPossibleActive(hand, 0, handSize) || hasPossibleActive(bench, 0, benchSize)) return false;
+        } else if (active == NONE && !(handSize == 0 && deckHead == deckEnd && benchSize == 0)) {
+            return false;
+        }
+        playerTurn = false;
+        if (active != NONE) endOfTurnStatuses(active);
+        for (int i = 0; i < benchSize; i++) endOfTurnStatuses(bench[i]);
+        checkPlayerDefeated();
+        return true;
+    }
+
+    public boolean isEnemyMoveDue() {
+        return outcome == OUTCOME_IN_PROGRESS && !playerTurn;
+    }
+
+    public boolean isEnemyChoiceNeeded() {
+        return isEnemyMoveDue() && hp[ENEMY] > 0 && active != NONE && hp[active] > 0
+            && layout.skillCount(ENEMY) > 0;
+    }
+
+    /** Same as {@link BattleEngine#playEnemyTurn(int)}. */
+    public void playEnemyTurn(int skillIndex) {
+        if (!isEnemyMoveDue()) return;
+        if (hp[ENEMY] > 0 && active != NONE && hp[active] > 0 && layout.skillCount(ENEMY) > 0) {
+            int s = Math.max(0, Math.min(skillIndex, layout.skillCount(ENEMY) - 1));
+            apply(layout.skillOps[ENEMY][s], ENEMY, active);
+            if (checkPlayerDefeated()) return;
+        }
+
+        startOfTurnStatuses(ENEMY);
+        usedThisTurn[ENEMY] = false;
+        endOfTurnStatuses(ENEMY);
+        if (checkEnemyDefeated()) return;
+
+        playerTurn = true;
+        if (faith < BattleEngine.MAX_FAITH) faith++;
+        if (active != NONE) startOfTurnStatuses(active);
+        for (int i = 0; i < benchSize; i++) startOfTurnStatuses(bench[i]);
+        if (checkPlayerDefeated()) return;
+
+        drawCards(1);
+        roundNumber++;
+        resetPlayerTurnUsage();
+    }
+
+    /**
+     * {@link GreedyPlayerPolicy} on compact state: the same choices in the same order.
+     * Ends with {@link #endPlayerTurn()} but leaves the enemy's move to the caller.
+     * @return false if the turn could not be ended
+     */
+    public boolean playGreedyTurn(int maxSkillsPerTurn) {
+        greedyEnsureActive();
+        while (benchSize < BattleEngine.MAX_BENCH_SLOTS && handSize > 0) {
+            if (!benchFromHand(bestIndex(hand, handSize))) break;
+        }
+        for (int used = 0; used < maxSkillsPerTurn && outcome == OUTCOME_IN_PROGRESS; used++) {
+            if (active == NONE && !greedyEnsureActive()) break;
+            int skill = greedySkill();
+            if (skill < 0) break;
+            useSkill(skill);
+        }
+        if (outcome != OUTCOME_IN_PROGRESS) return true;
+        greedyEnsureActive();
+        return endPlayerTurn();
+    }
+
+    private boolean greedyEnsureActive() {
+        if (active != NONE) return true;
+        if (benchSize > 0) return activateFromBench(bestIndex(bench, benchSize));
+        return handSize > 0 && setActiveFromHand(bestIndex(hand, handSize));
+    }
+
+    private int bestIndex(int[] zone, int size) {
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (greedyScore(zone[i]) > greedyScore(zone[best])) best = i;
+        }
+        return best;
+    }
+
+    private int greedyScore(int card) {
+        int t = layout.type[card];
+        return (t == TYPE_GOD || t == TYPE_DIVINE ? 100000 : 0) + hp[card];
+    }
+
+    private int greedySkill() {
+        int best = -1;
+        int[] costs = layout.skillCost[active];
+        for (int s = 0; s < costs.length; s++) {
+            if (layout.skillSkipped[active][s] || !canUseSkill(s)) continue;
+            if (best < 0 || costs[s] > costs[best]) best = s;
+        }
+        return best;
+    }
+
+    // ---------------------------------------------------------------- rules
+
+    private boolean checkEnemyDefeated() {
+        if (outcome != OUTCOME_IN_PROGRESS) return true;
+        if (hp[ENEMY] <= 0) {
+            outcome = OUTCOME_VICTORY;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean checkPlayerDefeated() {
+        if (outcome != OUTCOME_IN_PROGRESS) return true;
+        if (active != NONE && hp[active] <= 0) {
+            activeDeathCount++;
+            active = NONE;
+        }
+        boolean noCardsLeftToPlay = active == NONE && handSize == 0 && deckHead == deckEnd && benchSize == 0;
+        if (activeDeathCount >= BattleEngine.MAX_ACTIVE_DEATHS || noCardsLeftToPlay) {
+            outcome = OUTCOME_DEFEAT;
+            return true;
+        }
+        return false;
+    }
+
+    private void drawCards(int n) {
+        for (int i = 0; i < n && deckHead < deckEnd; i++) {
+            hand[handSize++] = deck[deckHead++];
+        }
+    }
+
+    private void resetPlayerTurnUsage() {
+        if (active != NONE) usedThisTurn[active] = false;
+        for (int i = 0; i < benchSize; i++) usedThisTurn[bench[i]] = false;
+    }
+
+    private boolean canUse(int card) {
+        switch (layout.type[card]) {
+            case TYPE_ITEM: return !usedOnceThisBattle[card];
+            case TYPE_ARTIFACT: return !usedThisTurn[card];
+            default: return true;
+        }
+    }
+
+    private void markUsed(int card) {
+        switch (layout.type[card]) {
+            case TYPE_ITEM: usedOnceThisBattle[card] = true; break;
+            case TYPE_ARTIFACT: usedThisTurn[card] = true; break;
+            default: break;
+        }
+    }
+
+    private boolean hasPossibleActive(int[] zone, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int t = layout.type[zone[i]];
+            if (t == TYPE_GOD || t == TYPE_DIVINE) return true;
+        }
+        return false;
+    }
+
+    /** Removes zone[index], keeping order. {@code size} is the size before removal. */
+    private static int removeAt(int[] zone, int size, int index) {
+        int card = zone[index];
+        System.arraycopy(zone, index + 1, zone, index, size - index - 1);
+        return card;
+    }
+
+    private void apply(int[] ops, int user, int target) {
+        for (int i = 0; i < ops.length; i += 3) {
+            int a = ops[i + 1], b = ops[i + 2];
+            switch (ops[i]) {
+                case OP_DAMAGE: takeDamage(target, damage(user, target, a)); break;
+                case OP_HEAL: hp[target] += a; break;
+                case OP_POISON: addStatus(target, ST_POISON, a, b); break;
+                case OP_BURN: addStatus(target, ST_BURN, a, b); break;
+                case OP_STUN: addStatus(target, ST_STUN, 0, b); break;
+                case OP_CONFUSE: addStatus(target, ST_CONFUSE, a, b); break;
+                case OP_DODGE: addStatus(user, ST_DODGE, a, b); break;
+                case OP_DAMAGE_MOD: addStatus(target, ST_DAMAGE_MOD, a, b); break;
+                case OP_FLAT_BUFF: addStatus(user, ST_FLAT_BUFF, a, b); break;
+                case OP_COLLATERAL: takeDamage(user, a); break;
+                case OP_AOE: takeDamage(target, a); break;
+                case OP_CLEANSE: removeStatuses(target, true); break;
+                default: throw new IllegalStateException("Unknown opcode " + ops[i]);
+            }
+        }
+    }
+
+    /** Same rolls and arithmetic as {@link DamageEffect}: miss, dodge, the per-card totals, one more attack counted. */
+    private int damage(int user, int target, int base) {
+        float miss = Math.min(1f, missChance[user]);
+        float dodge = Math.min(1f, dodgeChance[target]);
+        if ((miss > 0f && random.chance(miss)) || (dodge > 0f && random.chance(dodge))) {
+            attackCount[user]++;
+            return 0;
+        }
+        int amount = Math.round((base + flatBonus[user]) * (1 + damageModifier[user]));
+        attackCount[user]++;
+        return amount;
+    }
+
+    private void takeDamage(int card, int amount) {
+        hp[card] = Math.max(0, hp[card] - amount);
+    }
+
+    private void addStatus(int owner, int kind, int amount, int turns) {
+        addStatus(owner, kind, amount, turns, 1);
+    }
+
+    /** Merges into the card's row of the same kind if there is one, else appends a row. */
+    private void addStatus(int owner, int kind, int amount, int turns, int stacks) {
+        for (int i = 0; i < statusCount; i++) {
+            if (statusOwner[i] == owner && statusKind[i] == kind) {
+                mergeStatus(i, amount, turns);
+                return;
+            }
+        }
+        ensureStatusCapacity(statusCount + 1);
+        statusOwner[statusCount] = owner;
+        statusKind[statusCount] = kind;
+        statusAmount[statusCount] = amount;
+        // A flat buff row holds the attack count at which it runs out instead of turns left.
+        statusTurns[statusCount] = kind == ST_FLAT_BUFF ? attackCount[owner] + turns : turns;
+        statusStacks[statusCount] = stacks;
+        statusCount++;
+        if (kind == ST_FLAT_BUFF) flatBonus[owner] += amount;
+        else if (kind == ST_DAMAGE_MOD) damageModifier[owner] += Float.intBitsToFloat(amount);
+        else if (kind == ST_DODGE) dodgeChance[owner] += Float.intBitsToFloat(amount);
+        else if (kind == ST_CONFUSE) missChance[owner] += Float.intBitsToFloat(amount);
+    }
+
+    /** The stacking rules of the matching {@link Status#mergeWith} implementations. */
+    private void mergeStatus(int row, int amount, int turns) {
+        int owner = statusOwner[row];
+        switch (statusKind[row]) {
+            case ST_POISON:
+                if (statusStacks[row] < PoisonStatus.MAX_STACKS) {
+                    statusAmount[row] += amount;
+                    statusStacks[row]++;
+                }
+                break;
+            case ST_DAMAGE_MOD:
+                if (statusStacks[row] < DamageModifierStatus.MAX_STACKS) {
+                    float percent = Float.intBitsToFloat(statusAmount[row]) + Float.intBitsToFloat(amount);
+                    statusAmount[row] = Float.floatToIntBits(percent);
+                    damageModifier[owner] = percent;
+                    statusStacks[row]++;
+                }
+                break;
+            case ST_BURN:
+                statusAmount[row] = Math.max(statusAmount[row], amount);
+                break;
+            case ST_CONFUSE:
+                if (Float.intBitsToFloat(amount) > Float.intBitsToFloat(statusAmount[row])) statusAmount[row] = amount;
+                missChance[owner] = Float.intBitsToFloat(statusAmount[row]);
+                break;
+            case ST_DODGE:
+                if (Float.intBitsToFloat(amount) > Float.intBitsToFloat(statusAmount[row])) statusAmount[row] = amount;
+                dodgeChance[owner] = Float.intBitsToFloat(statusAmount[row]);
+                break;
+            case ST_FLAT_BUFF:
+                int bonus = Math.max(statusAmount[row], amount);
+                flatBonus[owner] += bonus - statusAmount[row];
+                statusAmount[row] = bonus;
+                statusTurns[row] = attackCount[owner] + Math.max(statusTurns[row] - attackCount[owner], turns);
+                return;
+            default:
+                break;
+        }
+        statusTurns[row] = Math.max(statusTurns[row], turns);
+    }
+
+    private void startOfTurnStatuses(int card) {
+        for (int i = 0; i < statusCount; i++) {
+            if (statusOwner[i] != card) continue;
+            switch (statusKind[i]) {
+                case ST_POISON:
+                case ST_BURN:
+                    takeDamage(card, statusAmount[i]);
+                    statusTurns[i]--;
+                    break;
+                case ST_FLAT_BUFF:
+                    break;
+                default:
+                    statusTurns[i]--;
+                    break;
+            }
+        }
+        removeStatuses(card, false);
+    }
+
+    private void endOfTurnStatuses(int card) {
+        removeStatuses(card, false);
+    }
+
+    /** Drops the card's expired statuses, or with {@code negative} its negative ones (Cleanse). */
+    private void removeStatuses(int card, boolean negative) {
+        int kept = 0;
+        for (int i = 0; i < statusCount; i++) {
+            boolean remove = statusOwner[i] == card && (negative ? isNegative(statusKind[i]) : isExpired(i));
+            if (remove) {
+                if (statusKind[i] == ST_FLAT_BUFF) flatBonus[card] -= statusAmount[i];
+                else if (statusKind[i] == ST_DAMAGE_MOD) damageModifier[card] = 0f;
+                else if (statusKind[i] == ST_DODGE) dodgeChance[card] = 0f;
+                else if (statusKind[i] == ST_CONFUSE) missChance[card] = 0f;
+                continue;
+            }
+            if (kept != i) {
+                statusOwner[kept] = statusOwner[i];
+                statusKind[kept] = statusKind[i];
+                statusAmount[kept] = statusAmount[i];
+                statusTurns[kept] = statusTurns[i];
+                statusStacks[kept] = statusStacks[i];
+            }
+            kept++;
+        }
+        statusCount = kept;
+    }
+
+    private boolean isExpired(int row) {
+        if (statusKind[row] == ST_FLAT_BUFF) return attackCount[statusOwner[row]] >= statusTurns[row];
+        // StunStatus lasts one tick longer than the others.
+        return statusKind[row] == ST_STUN ? statusTurns[row] < 0 : statusTurns[row] <= 0;
+    }
+
+    private static boolean isNegative(int kind) {
+        return kind != ST_DAMAGE_MOD && kind != ST_FLAT_BUFF;
+    }
+
+    private void ensureStatusCapacity(int needed) {
+        if (needed <= statusOwner.length) return;
+        int capacity = Math.max(needed, statusOwner.length * 2);
+        statusOwner = Arrays.copyOf(statusOwner, capacity);
+        statusKind = Arrays.copyOf(statusKind, capacity);
+        statusAmount = Arrays.copyOf(statusAmount, capacity);
+        statusTurns = Arrays.copyOf(statusTurns, capacity);
+        statusStacks = Arrays.copyOf(statusStacks, capacity);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.grace.ni.fernan.battle;
+
+/**
+ * Decides which skill the enemy uses on its turn.
+ * Policies may be asked on a worker thread with a copy of the state (see {@link EnemyTurnPlanner}),
+ * so keep them free of per-battle fields.
+ */
+public interface EnemyPolicy {
+    /** The old behaviour: a uniformly random skill. */
+    EnemyPolicy RANDOM = new EnemyPolicy() {
+        @Override
+        public int chooseSkill(BattleState state) {
+            return state.random.nextInt(state.enemyActive.getSkills().size());
+        }
+    };
+
+    /**
+     * Only called when {@link BattleEngine#isEnemyChoiceNeeded()} holds for this state.
+     * @return an index into {@code state.getEnemyActive().getSkills()}
+     */
+    int chooseSkill(BattleState state);
+}
@@ -0,0 +1,58 @@
+package io.github.grace.ni.fernan.battle;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+
+/**
+ * Asks the engine's {@link EnemyPolicy} for a move on a background thread and hands the answer
+ * back on the render thread via {@code Gdx.app.postRunnable}, so a search with a large time
+ * budget never stalls a frame. The policy only ever sees a copy of the battle, rolling a
+ * {@link io.github.grace.ni.fernan.GameRandom#split() split} of its generator like
+ * {@link BattleEngine#endTurn()} does, so a seed replays the same here as headless.
+ */
+public class EnemyTurnPlanner implements Disposable {
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "enemy-ai");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean disposed;
+
+    /**
+     * Call after {@link BattleEngine#endPlayerTurn()} while {@link BattleEngine#isEnemyMoveDue()}.
+     * {@code onMove} runs on the render thread with the chosen skill index (or -1 if the enemy
+     * has nothing to choose), ready for {@link BattleEngine#playEnemyTurn(int)}.
+     */
+    public void plan(BattleEngine engine, IntConsumer onMove) {
+        if (!engine.isEnemyChoiceNeeded()) {
+            onMove.accept(-1);
+            return;
+        }
+        BattleState state = engine.getState();
+        final BattleState snapshot = state.copy(state.getRandom().split());
+        final EnemyPolicy policy = engine.getEnemyPolicy();
+        worker.execute(() -> {
+            int move;
+            try {
+                move = policy.chooseSkill(snapshot);
+            } catch (RuntimeException e) {
+                Gdx.app.error("EnemyTurnPlanner", "Enemy policy failed, using a random skill instead.", e);
+                move = EnemyPolicy.RANDOM.chooseSkill(snapshot);
+            }
+            final int chosen = move;
+            Gdx.app.postRunnable(() -> {
+                if (!disposed) onMove.accept(chosen);
+            });
+        });
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        worker.shutdownNow();
+    }
+}
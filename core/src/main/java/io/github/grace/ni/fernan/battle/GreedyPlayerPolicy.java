@@ -0,0 +1,85 @@
+package io.github.grace.ni.fernan.battle;
+
+import io.github.grace.ni.fernan.CardSystem;
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.CardSystem.Skill;
+
+import java.util.List;
+
+/**
+ * A simple baseline player: keep the sturdiest GOD/DIVINE card active, fill the bench,
+ * then spend faith on the most expensive skill it can afford.
+ *
+ * Skills that cost 0 faith could be used forever, so the number of skills per turn is capped.
+ */
+public class GreedyPlayerPolicy implements PlayerPolicy {
+    public static final int DEFAULT_SKILLS_PER_TURN = 3;
+
+    private final int maxSkillsPerTurn;
+
+    public GreedyPlayerPolicy() {
+        this(DEFAULT_SKILLS_PER_TURN);
+    }
+
+    public GreedyPlayerPolicy(int maxSkillsPerTurn) {
+        this.maxSkillsPerTurn = maxSkillsPerTurn;
+    }
+
+    @Override
+    public boolean playTurn(BattleEngine engine) {
+        BattleState state = engine.getState();
+        ensureActive(engine, state);
+        fillBench(engine, state);
+
+        for (int used = 0; used < maxSkillsPerTurn && !state.isEnded(); used++) {
+            if (state.playerActive == null && !ensureActive(engine, state)) break;
+            Skill skill = pickSkill(engine, state.playerActive);
+            if (skill == null) break;
+            engine.useSkill(skill);
+        }
+        if (state.isEnded()) return true;
+
+        ensureActive(engine, state);
+        return engine.endTurn();
+    }
+
+    /** Fills an empty active slot from the bench first, then from the hand. */
+    private boolean ensureActive(BattleEngine engine, BattleState state) {
+        if (state.playerActive != null) return true;
+        Card fromBench = best(state.bench);
+        if (fromBench != null) return engine.activateFromBench(fromBench);
+        Card fromHand = best(state.hand);
+        return fromHand != null && engine.setActiveFromHand(fromHand);
+    }
+
+    private void fillBench(BattleEngine engine, BattleState state) {
+        while (!engine.isBenchFull() && !state.hand.isEmpty()) {
+            if (!engine.benchFromHand(best(state.hand))) break;
+        }
+    }
+
+    /** Prefers GOD/DIVINE cards, then the most health. */
+    private static Card best(List<Card> cards) {
+        Card best = null;
+        for (Card c : cards) {
+            if (best == null || score(c) > score(best)) best = c;
+        }
+        return best;
+    }
+
+    private static int score(Card c) {
+        boolean fighter = c.getType() == CardSystem.CardType.GOD || c.getType() == CardSystem.CardType.DIVINE;
+        return (fighter ? 100000 : 0) + c.getHealth();
+    }
+
+    private static Skill pickSkill(BattleEngine engine, Card active) {
+        List<Skill> skills = active.getSkills();
+        if (skills == null) return null;
+        Skill best = null;
+        for (Skill s : skills) {
+            if ("Retreat".equals(s.getName()) || !engine.canUseSkill(s)) continue;
+            if (best == null || s.getCost() > best.getCost()) best = s;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.grace.ni.fernan.battle;
+
+import io.github.grace.ni.fernan.GameRandom;
+
+import java.util.Arrays;
+
+/**
+ * Anytime Monte Carlo Tree Search over the enemy's skill choices.
+ *
+ * The battle is converted once per move into a {@link CompactBattle}. Each iteration resets a
+ * scratch copy from it with a fresh generator, walks the tree with UCB1 for the enemy's moves,
+ * lets the greedy player model answer for the player, and finishes with a rollout of random
+ * enemy moves for up to {@code horizonRounds} rounds. Iterations allocate nothing except new tree nodes. The tree is open-loop (nodes
+ * are move sequences), which fits the dice rolls and card draws between enemy turns.
+ * Search stops at the time budget or the iteration cap, whichever comes first, and the most
+ * visited first move wins. A bigger budget means a stronger enemy.
+ */
+public class MctsEnemyPolicy implements EnemyPolicy {
+    public static final int DEFAULT_HORIZON_ROUNDS = 8;
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final int horizonRounds;
+    private final int playerSkillsPerTurn;
+
+    /** Time-limited search with the default horizon and player model. */
+    public MctsEnemyPolicy(long budgetMillis) {
+        this(budgetMillis, Integer.MAX_VALUE, DEFAULT_HORIZON_ROUNDS, GreedyPlayerPolicy.DEFAULT_SKILLS_PER_TURN);
+    }
+
+    /**
+     * @param budgetMillis  wall-clock budget per move; 0 or less searches by iteration count only,
+     *                      which makes results reproducible from the battle seed
+     * @param maxIterations iteration cap per move
+     * @param horizonRounds how many rounds past the current one a rollout may run
+     * @param playerSkillsPerTurn the player is modelled as a {@link GreedyPlayerPolicy} with this skill cap
+     */
+    public MctsEnemyPolicy(long budgetMillis, int maxIterations, int horizonRounds, int playerSkillsPerTurn) {
+        this.budgetNanos = budgetMillis > 0 ? budgetMillis * 1_000_000L : Long.MAX_VALUE;
+        this.maxIterations = Math.max(1, maxIterations);
+        this.horizonRounds = Math.max(1, horizonRounds);
+        this.playerSkillsPerTurn = playerSkillsPerTurn;
+    }
+
+    @Override
+    public int chooseSkill(BattleState state) {
+        int skillCount = state.enemyActive.getSkills().size();
+        if (skillCount == 1) return 0;
+
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+        GameRandom searchRandom = state.random.split();
+        CompactBattle root = CompactBattle.of(state);
+        CompactBattle sim = root.copy();
+        double enemyStartHp = Math.max(1, root.getHealth(CompactBattle.ENEMY));
+        double playerStartHp = Math.max(1, root.getPlayerHealth());
+
+        Node rootNode = new Node(skillCount);
+        TreeWalker walker = new TreeWalker(skillCount, searchRandom);
+        for (int i = 0; i < maxIterations; i++) {
+            sim.copyFrom(root);
+            sim.getRandom().setSeed(searchRandom.nextLong());
+            walker.begin(rootNode);
+
+            int horizon = sim.getRoundNumber() + horizonRounds;
+            sim.playEnemyTurn(walker.chooseSkill());
+            while (!sim.isEnded() && sim.getRoundNumber() <= horizon) {
+                if (!sim.playGreedyTurn(playerSkillsPerTurn)) break;
+                if (sim.isEnemyMoveDue()) sim.playEnemyTurn(sim.isEnemyChoiceNeeded() ? walker.chooseSkill() : -1);
+            }
+
+            double reward = evaluate(sim, enemyStartHp, playerStartHp);
+            rootNode.visits++;
+            for (int p = 0; p < walker.pathLength; p++) {
+                Node n = walker.path[p];
+                n.visits++;
+                n.value += reward;
+            }
+            if (System.nanoTime() >= deadline) break;
+        }
+
+        int best = 0;
+        for (int a = 1; a < skillCount; a++) {
+            if (visits(rootNode.children[a]) > visits(rootNode.children[best])) best = a;
+        }
+        return best;
+    }
+
+    /** Reward from the enemy's point of view, in [0, 1]. */
+    private static double evaluate(CompactBattle sim, double enemyStartHp, double playerStartHp) {
+        if (sim.isDefeat()) return 1;
+        if (sim.isVictory()) return 0;
+        double enemyLeft = Math.min(1, sim.getHealth(CompactBattle.ENEMY) / enemyStartHp);
+        double playerLost = Math.max(0, 1 - sim.getPlayerHealth() / playerStartHp);
+        return 0.5 * enemyLeft + 0.5 * playerLost;
+    }
+
+    private static int visits(Node node) {
+        return node != null ? node.visits : 0;
+    }
+
+    private static final class Node {
+        final Node[] children;
+        int visits;
+        double value;
+
+        Node(int skillCount) {
+            children = new Node[skillCount];
+        }
+    }
+
+    /**
+     * Plays the enemy inside one iteration: tree policy while inside the tree, one expansion,
+     * then uniformly random moves for the rest of the rollout.
+     */
+    private static final class TreeWalker {
+        Node[] path = new Node[16];
+        int pathLength;
+        private final int skillCount;
+        private final GameRandom random;
+        private Node current;
+
+        TreeWalker(int skillCount, GameRandom random) {
+            this.skillCount = skillCount;
+            this.random = random;
+        }
+
+        void begin(Node root) {
+            pathLength = 0;
+            current = root;
+        }
+
+        private void push(Node node) {
+            if (pathLength == path.length) path = Arrays.copyOf(path, pathLength * 2);
+            path[pathLength++] = node;
+        }
+
+        int chooseSkill() {
+            if (current == null) return random.nextInt(skillCount);
+
+            int start = random.nextInt(skillCount);
+            for (int i = 0; i < skillCount; i++) {
+                int a = (start + i) % skillCount;
+                if (current.children[a] == null) {
+                    Node child = new Node(skillCount);
+                    current.children[a] = child;
+                    push(child);
+                    current = null;
+                    return a;
+                }
+            }
+
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logParent = Math.log(Math.max(1, current.visits));
+            for (int a = 0; a < skillCount; a++) {
+                Node child = current.children[a];
+                double score = child.value / child.visits + EXPLORATION * Math.sqrt(logParent / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = a;
+                }
+            }
+            current = current.children[best];
+            push(current);
+            return best;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.grace.ni.fernan.battle;
+
+/**
+ * Plays the player's side of a battle without a human, for simulations and AI rollouts.
+ * The simulator shares one policy across all of its threads, so keep implementations stateless.
+ */
+public interface PlayerPolicy {
+    /**
+     * Makes every move for the current player turn and finishes with {@link BattleEngine#endTurn()}.
+     * @return false if the turn could not be ended
+     */
+    boolean playTurn(BattleEngine engine);
+}
@@ -1,8 +1,11 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
+import java.util.List;
+
 public class AoEDamageEffect implements SkillEffect {
     private int amt;  // removed final
 
@@ -20,12 +23,17 @@ public class AoEDamageEffect implements SkillEffect {
         this.amt = amt;
     }
 
+    public int getAmt() {
+        return amt;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
+    public void apply(Card user, Card target, GameRandom random) {
         // your original logic
         target.takeDamage(amt);
-        for (Card b : user.getBench()) {
-            b.takeDamage(amt);
+        List<Card> bench = user.getBench();
+        for (int i = 0; i < bench.size(); i++) {
+            bench.get(i).takeDamage(amt);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 import io.github.grace.ni.fernan.status.BurnStatus; // Import BurnStatus
@@ -26,8 +27,16 @@ public class BurnEffect implements SkillEffect {
         this.duration = duration;
     }
 
+    public int getDmg() {
+        return dmg;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
-        target.addStatus(new BurnStatus(dmg, duration)); // Apply BurnStatus
+    public void apply(Card user, Card target, GameRandom random) {
+        target.addStatus(BurnStatus.obtain(dmg, duration)); // Apply BurnStatus
     }
 }
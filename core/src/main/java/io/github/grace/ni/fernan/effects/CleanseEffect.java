@@ -1,6 +1,7 @@
 package io.github.grace.ni.fernan.effects;
 
 import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.status.Status;
 
@@ -10,9 +11,9 @@ public class CleanseEffect implements SkillEffect {
     }
 
     @Override
-    public void apply(Card user, Card target) {
+    public void apply(Card user, Card target, GameRandom random) {
         // Remove any status that your design marks as negative:
         // Here we assume each Status has an isNegative() helper.
-        target.getStatuses().removeIf(Status::isNegative);
+        target.removeStatusesIf(Status::isNegative);
     }
 }
@@ -1,8 +1,11 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
+import java.util.List;
+
 public class CollateralDamageEffect implements SkillEffect {
     private int amount;
 
@@ -19,11 +22,16 @@ public class CollateralDamageEffect implements SkillEffect {
         this.amount = amount;
     }
 
+    public int getAmount() {
+        return amount;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
+    public void apply(Card user, Card target, GameRandom random) {
         user.takeDamage(amount);
-        for (Card b : user.getBench()) {
-            b.takeDamage(amount);
+        List<Card> bench = user.getBench();
+        for (int i = 0; i < bench.size(); i++) {
+            bench.get(i).takeDamage(amount);
         }
     }
 }
@@ -1,10 +1,8 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
-import io.github.grace.ni.fernan.status.FlatDamageBuffStatus;
-import io.github.grace.ni.fernan.status.DamageModifierStatus;
-import io.github.grace.ni.fernan.status.Status;
 
 public class DamageEffect implements SkillEffect {
     private int baseAmount;
@@ -25,29 +23,32 @@ public class DamageEffect implements SkillEffect {
         this.baseAmount = baseAmount;
     }
 
+    public int getBaseAmount() {
+        return baseAmount;
+    }
+
+    /** A confused user may miss and a target with a dodge buff may dodge, both rolled on {@code random}. */
     @Override
-    public void apply(Card user, Card target) {
-        // 1) collect flat bonuses
-        int flatBonus = 0;
-        for (Status st : user.getStatuses()) {
-            if (st instanceof FlatDamageBuffStatus) {
-                flatBonus += ((FlatDamageBuffStatus) st).getBonusDamage();
-            }
+    public void apply(Card user, Card target, GameRandom random) {
+        // Roll only when there is a chance, so battles without these statuses draw the same numbers as before.
+        float missChance = user.getMissChance();
+        float dodgeChance = target.getDodgeChance();
+        if ((missChance > 0f && random.chance(missChance)) || (dodgeChance > 0f && random.chance(dodgeChance))) {
+            // The attack still counts against a flat buff's uses.
+            user.recordAttack();
+            return;
         }
 
-        // 2) collect percent modifiers
-        float percentMod = 0f;
-        for (Status st : user.getStatuses()) {
-            if (st instanceof DamageModifierStatus) {
-                percentMod += ((DamageModifierStatus) st).getPercent();
-            }
-        }
+        // 1) bonuses from statuses, kept up to date on the card as they come and go
+        int flatBonus = user.getFlatDamageBonus();
+        float percentMod = user.getDamageModifier();
+        user.recordAttack();
 
-        // 3) compute final damage
+        // 2) compute final damage
         float adjusted = (baseAmount + flatBonus) * (1 + percentMod);
         int finalDamage = Math.round(adjusted);
 
-        // 4) apply to target
+        // 3) apply to target
         target.takeDamage(finalDamage);
     }
 }
@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 import io.github.grace.ni.fernan.status.DamageModifierStatus;
@@ -24,8 +25,16 @@ public class DamageModifierEffect implements SkillEffect {
         this.duration = duration;
     }
 
+    public float getPct() {
+        return pct;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
-        target.addStatus(new DamageModifierStatus(pct, duration));
+    public void apply(Card user, Card target, GameRandom random) {
+        target.addStatus(DamageModifierStatus.obtain(pct, duration));
     }
 }
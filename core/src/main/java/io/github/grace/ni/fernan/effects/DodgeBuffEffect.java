@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 import io.github.grace.ni.fernan.status.DodgeBuffStatus;
@@ -24,8 +25,16 @@ public class DodgeBuffEffect implements SkillEffect {
         this.duration = duration;
     }
 
+    public float getChance() {
+        return chance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
-        user.addStatus(new DodgeBuffStatus(chance, duration));
+    public void apply(Card user, Card target, GameRandom random) {
+        user.addStatus(DodgeBuffStatus.obtain(chance, duration));
     }
 }
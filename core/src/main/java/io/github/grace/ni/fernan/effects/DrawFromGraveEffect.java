@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
@@ -19,10 +20,14 @@ public class DrawFromGraveEffect implements SkillEffect {
         this.count = count;
     }
 
+    public int getCount() {
+        return count;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
+    public void apply(Card user, Card target, GameRandom random) {
         for (int i = 0; i < count; i++) {
-            Card c = user.drawFromGraveyard();
+            Card c = user.drawFromGraveyard(random);
             if (c != null) user.addToHand(c);
         }
     }
@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 import io.github.grace.ni.fernan.status.FlatDamageBuffStatus;
@@ -26,8 +27,16 @@ public class FlatDamageBuffEffect implements SkillEffect {
         this.duration = duration;
     }
 
+    public int getBonus() {
+        return bonus;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
-        user.addStatus(new FlatDamageBuffStatus(bonus, duration));
+    public void apply(Card user, Card target, GameRandom random) {
+        user.addStatus(FlatDamageBuffStatus.obtain(bonus, duration));
     }
 }
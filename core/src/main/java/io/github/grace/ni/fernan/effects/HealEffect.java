@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
@@ -19,8 +20,12 @@ public class HealEffect implements SkillEffect {
         this.amount = amount;
     }
 
+    public int getAmount() {
+        return amount;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
+    public void apply(Card user, Card target, GameRandom random) {
         target.heal(amount);
     }
 }
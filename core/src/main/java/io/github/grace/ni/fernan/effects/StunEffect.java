@@ -1,5 +1,6 @@
 package io.github.grace.ni.fernan.effects;
 
+import io.github.grace.ni.fernan.GameRandom;
 import io.github.grace.ni.fernan.SkillEffect;
 import io.github.grace.ni.fernan.CardSystem.Card;
 import io.github.grace.ni.fernan.status.StunStatus;
@@ -23,8 +24,12 @@ public class StunEffect implements SkillEffect {
         this.duration = duration;
     }
 
+    public int getDuration() {
+        return duration;
+    }
+
     @Override
-    public void apply(Card user, Card target) {
-        target.addStatus(new StunStatus(duration));
+    public void apply(Card user, Card target, GameRandom random) {
+        target.addStatus(StunStatus.obtain(duration));
     }
 }
@@ -1,8 +1,9 @@
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
-public class BurnStatus implements Status {
+public class BurnStatus implements Status, Pool.Poolable {
     private int remainingTurns;
     private int damagePerTurn; // Made non-final
 
@@ -18,6 +19,19 @@ public class BurnStatus implements Status {
         this.remainingTurns  = duration;
     }
 
+    /** A pooled status, see {@link StatusPools}. */
+    public static BurnStatus obtain(int damagePerTurn, int duration) {
+        BurnStatus st = StatusPools.obtain(BurnStatus.class, BurnStatus::new);
+        st.damagePerTurn  = damagePerTurn;
+        st.remainingTurns = duration;
+        return st;
+    }
+
+    @Override
+    public void reset() {
+        damagePerTurn = remainingTurns = 0;
+    }
+
     // Getters (you likely have these or need them)
     public int getRemainingTurns() {
         return remainingTurns;
@@ -49,4 +63,18 @@ public class BurnStatus implements Status {
 
     @Override public void onTurnEnd(Card owner) { /* no-op */ }
     @Override public boolean isExpired() { return remainingTurns <= 0; }
+
+    /** Refreshes: the stronger burn and the longer duration win, they don't add up. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        BurnStatus other = (BurnStatus) incoming;
+        damagePerTurn = Math.max(damagePerTurn, other.damagePerTurn);
+        remainingTurns = Math.max(remainingTurns, other.remainingTurns);
+        return true;
+    }
+
+    @Override
+    public Status copy() {
+        return obtain(damagePerTurn, remainingTurns);
+    }
 }
@@ -1,19 +1,38 @@
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
 /**
  * Causes the owner to have a chance to miss their attacks.
  */
-public class ConfuseStatus implements Status {
+public class ConfuseStatus implements Status, Pool.Poolable {
     private int remainingTurns;
-    private final float missChance;
+    private float missChance;
+
+    /** For the pool; use {@link #obtain}. */
+    public ConfuseStatus() {
+    }
 
     public ConfuseStatus(float missChance, int duration) {
         this.missChance    = missChance;
         this.remainingTurns = duration;
     }
 
+    /** A pooled status, see {@link StatusPools}. */
+    public static ConfuseStatus obtain(float missChance, int duration) {
+        ConfuseStatus st = StatusPools.obtain(ConfuseStatus.class, ConfuseStatus::new);
+        st.missChance = missChance;
+        st.remainingTurns = duration;
+        return st;
+    }
+
+    @Override
+    public void reset() {
+        missChance = 0f;
+        remainingTurns = 0;
+    }
+
     @Override
     public void onTurnStart(Card owner) {
         // nothing to do on start; reduction happens here
@@ -35,10 +54,28 @@ public class ConfuseStatus implements Status {
         return remainingTurns <= 0;
     }
 
+    /** Refreshes: the higher chance and the longer duration win, they don't add up. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        ConfuseStatus other = (ConfuseStatus) incoming;
+        missChance = Math.max(missChance, other.missChance);
+        remainingTurns = Math.max(remainingTurns, other.remainingTurns);
+        return true;
+    }
+
     /**
      * Called by your attack resolution logic to see if this attack misses.
      */
     public float getMissChance() {
         return missChance;
     }
+
+    @Override
+    public Status copy() {
+        return obtain(missChance, remainingTurns);
+    }
+
+    public int getRemainingTurns() {
+        return remainingTurns;
+    }
 }
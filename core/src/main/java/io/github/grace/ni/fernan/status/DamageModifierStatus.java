@@ -1,18 +1,43 @@
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
 /**
  * Modifies damage dealt or taken by a percentage.
  * positive percent = buff (deal more); negative = debuff (deal less).
  */
-public class DamageModifierStatus implements Status {
+public class DamageModifierStatus implements Status, Pool.Poolable {
+    /** Modifiers from this many applications add up; later ones only refresh the duration. */
+    public static final int MAX_STACKS = 3;
+
     private int remainingTurns;
-    private final float percent;
+    private float percent;
+    private int stacks;
+
+    /** For the pool; use {@link #obtain}. */
+    public DamageModifierStatus() {
+    }
 
     public DamageModifierStatus(float percent, int duration) {
         this.percent        = percent;
         this.remainingTurns = duration;
+        this.stacks         = 1;
+    }
+
+    /** A pooled status, see {@link StatusPools}. */
+    public static DamageModifierStatus obtain(float percent, int duration) {
+        DamageModifierStatus st = StatusPools.obtain(DamageModifierStatus.class, DamageModifierStatus::new);
+        st.percent = percent;
+        st.remainingTurns = duration;
+        st.stacks = 1;
+        return st;
+    }
+
+    @Override
+    public void reset() {
+        percent = 0f;
+        remainingTurns = stacks = 0;
     }
 
     @Override
@@ -31,6 +56,18 @@ public class DamageModifierStatus implements Status {
         return remainingTurns <= 0;
     }
 
+    /** Stacks: percents add up to {@link #MAX_STACKS} applications, duration becomes the longer one. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        DamageModifierStatus other = (DamageModifierStatus) incoming;
+        if (stacks < MAX_STACKS) {
+            percent += other.percent;
+            stacks++;
+        }
+        remainingTurns = Math.max(remainingTurns, other.remainingTurns);
+        return true;
+    }
+
     /**
      * Called by your damage calculation logic to adjust the raw damage.
      * e.g. finalDamage = baseDamage * (1 + percent)
@@ -38,4 +75,19 @@ public class DamageModifierStatus implements Status {
     public float getPercent() {
         return percent;
     }
+
+    @Override
+    public Status copy() {
+        DamageModifierStatus copy = obtain(percent, remainingTurns);
+        copy.stacks = stacks;
+        return copy;
+    }
+
+    public int getRemainingTurns() {
+        return remainingTurns;
+    }
+
+    public int getStacks() {
+        return stacks;
+    }
 }
@@ -1,19 +1,38 @@
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
 /**
  * Gives the owner a chance to dodge incoming attacks.
  */
-public class DodgeBuffStatus implements Status {
+public class DodgeBuffStatus implements Status, Pool.Poolable {
     private int remainingTurns;
-    private final float dodgeChance;
+    private float dodgeChance;
+
+    /** For the pool; use {@link #obtain}. */
+    public DodgeBuffStatus() {
+    }
 
     public DodgeBuffStatus(float dodgeChance, int duration) {
         this.dodgeChance    = dodgeChance;
         this.remainingTurns = duration;
     }
 
+    /** A pooled status, see {@link StatusPools}. */
+    public static DodgeBuffStatus obtain(float dodgeChance, int duration) {
+        DodgeBuffStatus st = StatusPools.obtain(DodgeBuffStatus.class, DodgeBuffStatus::new);
+        st.dodgeChance = dodgeChance;
+        st.remainingTurns = duration;
+        return st;
+    }
+
+    @Override
+    public void reset() {
+        dodgeChance = 0f;
+        remainingTurns = 0;
+    }
+
     @Override
     public void onTurnStart(Card owner) {
         // expire at turn start
@@ -35,10 +54,28 @@ public class DodgeBuffStatus implements Status {
         return remainingTurns <= 0;
     }
 
+    /** Refreshes: the higher chance and the longer duration win, they don't add up. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        DodgeBuffStatus other = (DodgeBuffStatus) incoming;
+        dodgeChance = Math.max(dodgeChance, other.dodgeChance);
+        remainingTurns = Math.max(remainingTurns, other.remainingTurns);
+        return true;
+    }
+
     /**
      * Called by your incoming‐attack logic to roll a dodge.
      */
     public float getDodgeChance() {
         return dodgeChance;
     }
+
+    @Override
+    public Status copy() {
+        return obtain(dodgeChance, remainingTurns);
+    }
+
+    public int getRemainingTurns() {
+        return remainingTurns;
+    }
 }
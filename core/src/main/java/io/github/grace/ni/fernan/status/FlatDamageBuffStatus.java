@@ -1,17 +1,47 @@
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
 /**
  * Adds a fixed bonus to whichever attack the card makes for N uses.
+ * The bonus is summed into the owner's {@link Card#getFlatDamageBonus()} while attached, and
+ * uses are counted off the owner's {@link Card#getAttackCount()}, so an attack never has to
+ * visit this status. Like before, it is only removed at the next status tick.
  */
-public class FlatDamageBuffStatus implements Status {
-    private int remainingUses;
-    private final int bonusDamage;
+public class FlatDamageBuffStatus implements Status, Pool.Poolable {
+    private int uses;
+    private int bonusDamage;
+    private Card owner;
+    private int attacksWhenAttached;
+
+    /** For the pool; use {@link #obtain}. */
+    public FlatDamageBuffStatus() {
+    }
 
     public FlatDamageBuffStatus(int bonusDamage, int duration) {
         this.bonusDamage  = bonusDamage;
-        this.remainingUses = duration;
+        this.uses = duration;
+    }
+
+    /** A pooled status, see {@link StatusPools}. */
+    public static FlatDamageBuffStatus obtain(int bonusDamage, int duration) {
+        FlatDamageBuffStatus st = StatusPools.obtain(FlatDamageBuffStatus.class, FlatDamageBuffStatus::new);
+        st.bonusDamage = bonusDamage;
+        st.uses = duration;
+        return st;
+    }
+
+    @Override
+    public void reset() {
+        uses = bonusDamage = attacksWhenAttached = 0;
+        owner = null;
+    }
+
+    @Override
+    public void onAttach(Card owner) {
+        this.owner = owner;
+        this.attacksWhenAttached = owner.getAttackCount();
     }
 
     @Override
@@ -26,19 +56,29 @@ public class FlatDamageBuffStatus implements Status {
 
     @Override
     public boolean isExpired() {
-        return remainingUses <= 0;
-    }
-
-    /**
-     * Called from your damage resolution when this card attacks.
-     * You’ll need to hook this into your DamageEffect logic:
-     *
-     *   int base = …;
-     *   int total = base + any FlatDamageBuffStatus.bonusDamage;
-     *   apply that damage; then status.remainingUses--;
-     */
-    public int getBonusDamage() {
-        remainingUses--;
+        return getRemainingUses() <= 0;
+    }
+
+    /** Refreshes: the bigger bonus and the most uses left win, they don't add up. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        FlatDamageBuffStatus other = (FlatDamageBuffStatus) incoming;
+        bonusDamage = Math.max(bonusDamage, other.bonusDamage);
+        uses = Math.max(getRemainingUses(), other.getRemainingUses());
+        if (owner != null) attacksWhenAttached = owner.getAttackCount();
+        return true;
+    }
+
+    @Override
+    public Status copy() {
+        return obtain(bonusDamage, getRemainingUses());
+    }
+
+    public int getBonus() {
         return bonusDamage;
     }
+
+    public int getRemainingUses() {
+        return owner == null ? uses : uses - (owner.getAttackCount() - attacksWhenAttached);
+    }
 }
@@ -1,14 +1,35 @@
 // PoisonStatus.java
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
-public class PoisonStatus implements Status {
+public class PoisonStatus implements Status, Pool.Poolable {
+    /** Poison from this many applications adds up; later ones only refresh the duration. */
+    public static final int MAX_STACKS = 5;
+
     private int remainingTurns;
-    private final int damagePerTurn;
+    private int damagePerTurn;
+    private int stacks;
+    /** For the pool; use {@link #obtain}. */
+    public PoisonStatus() {
+    }
     public PoisonStatus(int damagePerTurn, int duration) {
         this.damagePerTurn   = damagePerTurn;
         this.remainingTurns  = duration;
+        this.stacks          = 1;
+    }
+    /** A pooled status, see {@link StatusPools}. */
+    public static PoisonStatus obtain(int damagePerTurn, int duration) {
+        PoisonStatus st = StatusPools.obtain(PoisonStatus.class, PoisonStatus::new);
+        st.damagePerTurn  = damagePerTurn;
+        st.remainingTurns = duration;
+        st.stacks         = 1;
+        return st;
+    }
+    @Override
+    public void reset() {
+        damagePerTurn = remainingTurns = stacks = 0;
     }
     @Override
     public void onTurnStart(Card owner) {
@@ -21,4 +42,35 @@ public class PoisonStatus implements Status {
     }
     @Override public void onTurnEnd(Card owner) { /* no-op */ }
     @Override public boolean isExpired() { return remainingTurns <= 0; }
+
+    /** Stacks: damage adds up to {@link #MAX_STACKS} applications, duration becomes the longer one. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        PoisonStatus other = (PoisonStatus) incoming;
+        if (stacks < MAX_STACKS) {
+            damagePerTurn += other.damagePerTurn;
+            stacks++;
+        }
+        remainingTurns = Math.max(remainingTurns, other.remainingTurns);
+        return true;
+    }
+
+    @Override
+    public Status copy() {
+        PoisonStatus copy = obtain(damagePerTurn, remainingTurns);
+        copy.stacks = stacks;
+        return copy;
+    }
+
+    public int getDamagePerTurn() {
+        return damagePerTurn;
+    }
+
+    public int getRemainingTurns() {
+        return remainingTurns;
+    }
+
+    public int getStacks() {
+        return stacks;
+    }
 }
@@ -10,6 +10,19 @@ public interface Status {
     void onTurnEnd(Card owner);
     /** Whether this status is done and should be removed. */
     boolean isExpired();
+    /** An independent copy in the same state, used when battle state is cloned for AI search. */
+    Status copy();
+    /** Called once when the status is added to a card. */
+    public default void onAttach(Card owner) {
+    }
+    /**
+     * Folds {@code incoming}, a newly applied status of the same class, into this one.
+     * Each status class declares its own stacking rule here; {@link Card#addStatus} keeps one entry per class
+     * when this returns true and appends {@code incoming} as its own entry when it returns false.
+     */
+    public default boolean mergeWith(Status incoming) {
+        return false;
+    }
 
     public default boolean isNegative() {
         return false;
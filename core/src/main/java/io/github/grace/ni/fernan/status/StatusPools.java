@@ -0,0 +1,56 @@
+package io.github.grace.ni.fernan.status;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * libGDX {@link Pool}s for statuses, one set per thread.
+ * {@link com.badlogic.gdx.utils.Pools} is a single unsynchronized map, but battles run on the render thread,
+ * the enemy AI thread and the simulator's workers at the same time.
+ * Statuses come from each class's {@code obtain(...)}; the card hands them back when they expire,
+ * are cleansed or are merged into another status.
+ */
+public final class StatusPools {
+    /** Free statuses kept per class and thread; a card holds at most one per class, so this is plenty. */
+    static final int MAX_FREE = 64;
+
+    private static final ThreadLocal<Map<Class<?>, Pool<?>>> POOLS = new ThreadLocal<Map<Class<?>, Pool<?>>>() {
+        @Override
+        protected Map<Class<?>, Pool<?>> initialValue() {
+            return new HashMap<>();
+        }
+    };
+
+    private StatusPools() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Status & Pool.Poolable> T obtain(Class<T> type, final Supplier<T> factory) {
+        Map<Class<?>, Pool<?>> pools = POOLS.get();
+        Pool<T> pool = (Pool<T>) pools.get(type);
+        if (pool == null) {
+            pool = new Pool<T>(4, MAX_FREE) {
+                @Override
+                protected T newObject() {
+                    return factory.get();
+                }
+            };
+            pools.put(type, pool);
+        }
+        return pool.obtain();
+    }
+
+    /**
+     * Returns a status that no card holds any more. The caller must not touch it afterwards.
+     * Statuses that aren't poolable, or whose class this thread never obtained, are left to the GC.
+     */
+    @SuppressWarnings("unchecked")
+    public static void free(Status status) {
+        if (!(status instanceof Pool.Poolable)) return;
+        Pool<Status> pool = (Pool<Status>) POOLS.get().get(status.getClass());
+        if (pool != null) pool.free(status);
+    }
+}
@@ -1,9 +1,10 @@
 // StunStatus.java
 package io.github.grace.ni.fernan.status;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.grace.ni.fernan.CardSystem.Card;
 
-public class StunStatus implements Status {
+public class StunStatus implements Status, Pool.Poolable {
     private int remainingTurns;
 
     /** No-argument constructor for JSON deserialization */
@@ -15,6 +16,18 @@ public class StunStatus implements Status {
         this.remainingTurns = duration;
     }
 
+    /** A pooled status, see {@link StatusPools}. */
+    public static StunStatus obtain(int duration) {
+        StunStatus st = StatusPools.obtain(StunStatus.class, StunStatus::new);
+        st.remainingTurns = duration;
+        return st;
+    }
+
+    @Override
+    public void reset() {
+        remainingTurns = 0;
+    }
+
     // Optional: Add a setter if remainingTurns needs to be set by JSON after default construction
     // public void setRemainingTurns(int remainingTurns) {
     //     this.remainingTurns = remainingTurns;
@@ -32,4 +45,20 @@ public class StunStatus implements Status {
     public boolean isNegative() {
         return true;
     }
+
+    /** Refreshes to the longer duration; stuns don't add up. */
+    @Override
+    public boolean mergeWith(Status incoming) {
+        remainingTurns = Math.max(remainingTurns, ((StunStatus) incoming).remainingTurns);
+        return true;
+    }
+
+    @Override
+    public Status copy() {
+        return obtain(remainingTurns);
+    }
+
+    public int getRemainingTurns() {
+        return remainingTurns;
+    }
 }
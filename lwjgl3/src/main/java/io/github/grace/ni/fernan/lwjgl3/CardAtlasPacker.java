@@ -0,0 +1,198 @@
+package io.github.grace.ni.fernan.lwjgl3;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * Build-time step behind the {@code packCardAtlases} Gradle task. Scales every PNG in {@code assets/cards} down to
+ * each tier's width and packs each tier into {@code assets/atlas/cards_<tier>.atlas}, which
+ * {@code TextureCache.Tier} reads at runtime.
+ * <p>
+ * Scaled copies and a content hash per source are kept in the cache directory, so a run only rescales art that
+ * changed and only repacks a tier when one of its images did.
+ */
+public class CardAtlasPacker {
+    /** Bump when the scaling or packing settings change, to force a full rebuild. */
+    private static final String SETTINGS_VERSION = "1";
+    private static final String SETTINGS_KEY = "@settings";
+
+    private enum Tier {
+        /** Hand, bench, graveyard and deck grids: at most ~220 px wide on a 1920 px screen. */
+        THUMB("cards_thumb", 256),
+        /** Active slots and the pack reveal. */
+        FULL("cards_full", 512);
+
+        final String packName;
+        final int width;
+
+        Tier(String packName, int width) {
+            this.packName = packName;
+            this.width = width;
+        }
+    }
+
+    private final File sourceDir;
+    private final File outputDir;
+    private final File cacheDir;
+
+    public CardAtlasPacker(File sourceDir, File outputDir, File cacheDir) {
+        this.sourceDir = sourceDir;
+        this.outputDir = outputDir;
+        this.cacheDir = cacheDir;
+    }
+
+    /** Arguments: the assets directory and the cache directory. */
+    public static void main(String[] args) throws IOException {
+        File assets = new File(args.length > 0 ? args[0] : "assets");
+        File cache = new File(args.length > 1 ? args[1] : "build/cardAtlas");
+        new CardAtlasPacker(new File(assets, "cards"), new File(assets, "atlas"), cache).run();
+    }
+
+    public void run() throws IOException {
+        File[] sources = sourceDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".png"));
+        if (sources == null) {
+            throw new IOException("No card art directory at " + sourceDir);
+        }
+        for (Tier tier : Tier.values()) {
+            pack(tier, sources);
+        }
+    }
+
+    private void pack(Tier tier, File[] sources) throws IOException {
+        File scaledDir = new File(cacheDir, tier.packName);
+        File manifestFile = new File(cacheDir, tier.packName + ".properties");
+        Properties manifest = load(manifestFile);
+        Properties current = new Properties();
+        String settings = SETTINGS_VERSION + ":" + tier.width;
+        current.setProperty(SETTINGS_KEY, settings);
+        boolean settingsChanged = !settings.equals(manifest.getProperty(SETTINGS_KEY));
+
+        if (!scaledDir.isDirectory() && !scaledDir.mkdirs()) {
+            throw new IOException("Could not create " + scaledDir);
+        }
+        int rescaled = 0;
+        for (File source : sources) {
+            String hash = hash(source);
+            current.setProperty(source.getName(), hash);
+            File scaled = new File(scaledDir, source.getName());
+            if (settingsChanged || !hash.equals(manifest.getProperty(source.getName())) || !scaled.isFile()) {
+                scale(source, scaled, tier.width);
+                rescaled++;
+            }
+        }
+        // Art removed from assets/cards must not linger in the atlas.
+        File[] stale = scaledDir.listFiles((dir, name) -> current.getProperty(name) == null);
+        if (stale != null) {
+            for (File f : stale) {
+                Files.delete(f.toPath());
+            }
+        }
+
+        boolean removed = stale != null && stale.length > 0;
+        File atlas = new File(outputDir, tier.packName + ".atlas");
+        if (rescaled == 0 && !removed && atlas.isFile()) {
+            System.out.println(tier.packName + ": up to date");
+            return;
+        }
+        TexturePacker.process(settings(), scaledDir.getPath(), outputDir.getPath(), tier.packName);
+        store(current, manifestFile);
+        System.out.println(tier.packName + ": packed " + sources.length + " images (" + rescaled + " rescaled)");
+    }
+
+    private static TexturePacker.Settings settings() {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 4096;
+        settings.maxHeight = 4096;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.filterMin = Texture.TextureFilter.Linear;
+        settings.filterMag = Texture.TextureFilter.Linear;
+        settings.silent = true;
+        return settings;
+    }
+
+    /** Halves with bilinear filtering until the last step, which keeps large reductions from aliasing. */
+    private static void scale(File source, File target, int width) throws IOException {
+        BufferedImage image = ImageIO.read(source);
+        if (image == null) {
+            throw new IOException("Not a readable image: " + source);
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        if (w <= width) {
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+        int targetHeight = Math.max(1, Math.round(h * (width / (float) w)));
+        while (w > width) {
+            int nextW = Math.max(width, w / 2);
+            int nextH = nextW == width ? targetHeight : Math.max(targetHeight, h / 2);
+            BufferedImage next = new BufferedImage(nextW, nextH, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, nextW, nextH, null);
+            g.dispose();
+            image = next;
+            w = nextW;
+            h = nextH;
+        }
+        ImageIO.write(image, "png", target);
+    }
+
+    private static String hash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = new FileInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static Properties load(File file) throws IOException {
+        Properties properties = new Properties();
+        if (file.isFile()) {
+            try (InputStream in = new FileInputStream(file)) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    private static void store(Properties properties, File file) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            properties.store(out, "Content hashes of the card art packed into this tier");
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.grace.ni.fernan.sim;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import io.github.grace.ni.fernan.CardCatalog;
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.battle.EnemyPolicy;
+import io.github.grace.ni.fernan.battle.GreedyPlayerPolicy;
+import io.github.grace.ni.fernan.battle.MctsEnemyPolicy;
+import io.github.grace.ni.fernan.battle.PlayerPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line Monte Carlo battle simulator.
+ *
+ * <pre>
+ * ./gradlew simulator:run --args="--deck Nyx,Hades,Eos --deck Nike,Tyche --enemy Minotaur --battles 1000000"
+ * </pre>
+ *
+ * Every {@code --deck} is played against the same enemy and gets its own report. Cards are
+ * given by unique id (e.g. {@code Hades_GREEK_DIVINE}) or by name, where the first match in
+ * cards.json wins. The player side is played by {@link GreedyPlayerPolicy}.
+ */
+public class BattleSimulator extends ApplicationAdapter {
+    private static final String USAGE =
+        "Usage: simulator --deck <card,card,...> [--deck ...] --enemy <card>\n"
+            + "                 [--battles N] [--threads N] [--max-rounds N] [--skills-per-turn N] [--seed N]\n"
+            + "                 [--mcts-iterations N]\n"
+            + "  Cards are unique ids (Hades_GREEK_DIVINE) or names (Hades).\n"
+            + "  Bosses: Cerberus, Medusa, Minotaur.\n"
+            + "  The same --seed gives the same results on any number of threads.\n"
+            + "  --mcts-iterations makes the enemy search N playouts per move instead of picking at random.";
+
+    private final List<String> deckSpecs = new ArrayList<>();
+    private String enemySpec = "Minotaur";
+    private long battles = 100_000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int maxRounds = 200;
+    private int skillsPerTurn = GreedyPlayerPolicy.DEFAULT_SKILLS_PER_TURN;
+    private long seed = new GameRandom().nextLong();
+    private int mctsIterations = 0;
+
+    public static void main(String[] args) {
+        BattleSimulator simulator = new BattleSimulator();
+        try {
+            simulator.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // Nothing renders; create() does all the work and then exits.
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(simulator, config);
+    }
+
+    void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + arg);
+            String value = args[++i];
+            switch (arg) {
+                case "--deck":
+                    deckSpecs.add(value);
+                    break;
+                case "--enemy":
+                    enemySpec = value;
+                    break;
+                case "--battles":
+                    battles = positive(arg, value);
+                    break;
+                case "--threads":
+                    threads = (int) positive(arg, value);
+                    break;
+                case "--max-rounds":
+                    maxRounds = (int) positive(arg, value);
+                    break;
+                case "--seed":
+                    try {
+                        seed = Long.parseLong(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("--seed needs a number, got " + value);
+                    }
+                    break;
+                case "--mcts-iterations":
+                    mctsIterations = (int) positive(arg, value);
+                    break;
+                case "--skills-per-turn":
+                    skillsPerTurn = (int) positive(arg, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (deckSpecs.isEmpty()) throw new IllegalArgumentException("At least one --deck is required.");
+    }
+
+    private static long positive(String option, String value) {
+        try {
+            long n = Long.parseLong(value.replace("_", ""));
+            if (n > 0) return n;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(option + " needs a positive number, got " + value);
+    }
+
+    @Override
+    public void create() {
+        try {
+            run();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        } finally {
+            Gdx.app.exit();
+        }
+    }
+
+    private void run() {
+        CardCatalog catalog = CardCatalog.get();
+        Card enemy = resolve(catalog, enemySpec);
+        PlayerPolicy policy = new GreedyPlayerPolicy(skillsPerTurn);
+        // Iteration-capped with no time budget, so results still depend only on the seed.
+        EnemyPolicy enemyPolicy = mctsIterations > 0
+            ? new MctsEnemyPolicy(0, mctsIterations, MctsEnemyPolicy.DEFAULT_HORIZON_ROUNDS, skillsPerTurn)
+            : EnemyPolicy.RANDOM;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.printf(Locale.ROOT, "%,d battles per deck vs %s (%s) on %d threads, seed %d%n",
+                battles, enemy.getUniqueId(), mctsIterations > 0 ? "MCTS " + mctsIterations : "random",
+                threads, seed);
+            for (String spec : deckSpecs) {
+                List<Card> deck = new ArrayList<>();
+                for (String id : spec.split(",")) {
+                    deck.add(resolve(catalog, id.trim()));
+                }
+                // One short untimed run so the JIT has compiled the battle loop before we measure.
+                long warmup = Math.min(battles, SimulationTask.LEAF_SIZE);
+                pool.invoke(new SimulationTask(deck, enemy, policy, enemyPolicy, maxRounds, ~seed, 0, warmup));
+
+                long start = System.nanoTime();
+                SimulationStats stats = pool.invoke(new SimulationTask(deck, enemy, policy, enemyPolicy, maxRounds, seed, 0, battles));
+                long elapsed = System.nanoTime() - start;
+                report(spec, stats, elapsed);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Card resolve(CardCatalog catalog, String spec) {
+        Card card = catalog.byUniqueId(spec);
+        if (card == null) card = catalog.byName(spec);
+        if (card == null) throw new IllegalArgumentException("Unknown card: " + spec);
+        return card;
+    }
+
+    private void report(String deck, SimulationStats stats, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        double perSecond = stats.getBattles() / seconds;
+        double[] win = stats.getWinRateInterval();
+        System.out.println();
+        System.out.println("Deck: " + deck);
+        System.out.printf(Locale.ROOT, "  wins %,d  losses %,d  unfinished %,d%n",
+            stats.getWins(), stats.getLosses(), stats.getStalls());
+        System.out.printf(Locale.ROOT, "  win rate     %.3f%%  (95%% CI %.3f%% .. %.3f%%)%n",
+            stats.getWinRate() * 100, win[0] * 100, win[1] * 100);
+        System.out.printf(Locale.ROOT, "  rounds       %.2f +/- %.2f%n",
+            stats.getMeanRounds(), stats.getRoundsMargin());
+        System.out.printf(Locale.ROOT, "  faith spent  %.2f +/- %.2f%n",
+            stats.getMeanFaithSpent(), stats.getFaithSpentMargin());
+        System.out.printf(Locale.ROOT, "  %.2f s, %,.0f battles/s, %,.0f battles/s/core%n",
+            seconds, perSecond, perSecond / threads);
+    }
+}
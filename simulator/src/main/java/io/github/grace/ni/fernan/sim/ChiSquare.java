@@ -0,0 +1,94 @@
+package io.github.grace.ni.fernan.sim;
+
+/**
+ * Pearson's chi-square goodness-of-fit test: how likely counts at least this far from the expected ones are if the
+ * expected probabilities are the true ones.
+ */
+final class ChiSquare {
+    private static final double EPSILON = 1e-15;
+    private static final double TINY = 1e-300;
+    private static final int MAX_ITERATIONS = 100_000;
+
+    private ChiSquare() {}
+
+    /**
+     * @param observed     counts per outcome
+     * @param probabilities expected probability per outcome; outcomes with probability 0 are left out
+     * @return the statistic, the sum of (observed - expected)^2 / expected
+     */
+    static double statistic(long[] observed, double[] probabilities) {
+        long total = 0;
+        for (long n : observed) total += n;
+        double statistic = 0;
+        for (int i = 0; i < observed.length; i++) {
+            if (probabilities[i] <= 0) continue;
+            double expected = probabilities[i] * total;
+            double diff = observed[i] - expected;
+            statistic += diff * diff / expected;
+        }
+        return statistic;
+    }
+
+    /** Outcomes with a positive probability, less one. */
+    static int degreesOfFreedom(double[] probabilities) {
+        int n = 0;
+        for (double p : probabilities) {
+            if (p > 0) n++;
+        }
+        return Math.max(0, n - 1);
+    }
+
+    /** The upper tail probability of the chi-square distribution, Q(df / 2, statistic / 2). */
+    static double pValue(double statistic, int degreesOfFreedom) {
+        if (degreesOfFreedom <= 0 || statistic <= 0) return 1;
+        double a = degreesOfFreedom / 2.0;
+        double x = statistic / 2.0;
+        // The series converges fast below a + 1, the continued fraction above (Numerical Recipes 6.2).
+        return x < a + 1 ? 1 - lowerSeries(a, x) : upperFraction(a, x);
+    }
+
+    private static double lowerSeries(double a, double x) {
+        double term = 1 / a;
+        double sum = term;
+        for (int n = 1; n < MAX_ITERATIONS; n++) {
+            term *= x / (a + n);
+            sum += term;
+            if (Math.abs(term) < Math.abs(sum) * EPSILON) break;
+        }
+        return sum * Math.exp(-x + a * Math.log(x) - logGamma(a));
+    }
+
+    private static double upperFraction(double a, double x) {
+        double b = x + 1 - a;
+        double c = 1 / TINY;
+        double d = 1 / b;
+        double h = d;
+        for (int i = 1; i < MAX_ITERATIONS; i++) {
+            double an = -i * (i - a);
+            b += 2;
+            d = an * d + b;
+            if (Math.abs(d) < TINY) d = TINY;
+            c = b + an / c;
+            if (Math.abs(c) < TINY) c = TINY;
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < EPSILON) break;
+        }
+        return Math.exp(-x + a * Math.log(x) - logGamma(a)) * h;
+    }
+
+    /** Lanczos approximation, good to about 1e-10 for x > 0. */
+    private static double logGamma(double x) {
+        double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double c : coefficients) {
+            series += c / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
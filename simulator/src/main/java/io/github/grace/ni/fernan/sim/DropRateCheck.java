@@ -0,0 +1,254 @@
+package io.github.grace.ni.fernan.sim;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import io.github.grace.ni.fernan.AliasTable;
+import io.github.grace.ni.fernan.CardCatalog;
+import io.github.grace.ni.fernan.CardSystem.CardType;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.PackOpenScreenFernan.PackType;
+import io.github.grace.ni.fernan.PackSampler;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks that {@link PackSampler} delivers the odds in droptables.json, by rolling each pack type many times across
+ * all cores and testing the counts with chi-square goodness of fit.
+ *
+ * <pre>
+ * ./gradlew simulator:checkDropRates --args="--rolls 2_000_000_000 --pack GOD_DIVINE"
+ * </pre>
+ *
+ * Each pack type is tested twice. The share of each card type is tested against the odds advertised in
+ * {@value PackSampler#DROP_TABLES} (e.g. 15% GOD), worked out from the file itself rather than from the sampler, so a
+ * bug compiling the tables fails too. Every card is tested against its probability in the compiled table, which
+ * checks the sampling. A pack type fails if either p-value is below {@code --alpha}, if a card with no chance was
+ * drawn, or if a tier had no cards and fell back to another pool, which changes the advertised odds.
+ * The process exits with status 1 if any pack type failed.
+ */
+public class DropRateCheck extends ApplicationAdapter {
+    private static final String USAGE =
+        "Usage: checkDropRates [--pack TYPE ...] [--rolls N] [--threads N] [--seed N] [--alpha P]\n"
+            + "  Pack types: GOD_DIVINE, DIVINE, ARTIFACT_ITEM, GENERIC (default: all).\n"
+            + "  --rolls is per pack type. The same --seed gives the same counts on any number of threads.";
+
+    private final Set<PackType> packs = EnumSet.noneOf(PackType.class);
+    private long rolls = 1_000_000_000L;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = new GameRandom().nextLong();
+    private double alpha = 0.001;
+    private boolean failed;
+    /** The raw drop tables, or null if the file is missing. */
+    private JsonValue dropTables;
+
+    public static void main(String[] args) {
+        DropRateCheck check = new DropRateCheck();
+        try {
+            check.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(check, config);
+    }
+
+    void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + arg);
+            String value = args[++i];
+            switch (arg) {
+                case "--pack":
+                    try {
+                        packs.add(PackType.valueOf(value.toUpperCase(Locale.ROOT)));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unknown pack type " + value);
+                    }
+                    break;
+                case "--rolls":
+                    rolls = positive(arg, value);
+                    break;
+                case "--threads":
+                    threads = (int) positive(arg, value);
+                    break;
+                case "--seed":
+                    try {
+                        seed = Long.parseLong(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("--seed needs a number, got " + value);
+                    }
+                    break;
+                case "--alpha":
+                    try {
+                        alpha = Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        alpha = -1;
+                    }
+                    if (!(alpha > 0 && alpha < 1)) throw new IllegalArgumentException("--alpha needs a number between 0 and 1, got " + value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (packs.isEmpty()) packs.addAll(EnumSet.allOf(PackType.class));
+    }
+
+    private static long positive(String option, String value) {
+        try {
+            long n = Long.parseLong(value.replace("_", ""));
+            if (n > 0) return n;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(option + " needs a positive number, got " + value);
+    }
+
+    @Override
+    public void create() {
+        try {
+            run();
+        } finally {
+            Gdx.app.exit();
+        }
+        // So a build step running the check fails with it.
+        if (failed) System.exit(1);
+    }
+
+    private void run() {
+        PackSampler sampler = PackSampler.get();
+        if (sampler.getCatalog().isEmpty()) {
+            System.err.println("No cards in cards.json; nothing to check.");
+            failed = true;
+            return;
+        }
+        FileHandle file = Gdx.files.internal(PackSampler.DROP_TABLES);
+        dropTables = file.exists() ? new JsonReader().parse(file) : null;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.printf(Locale.ROOT, "%,d rolls per pack type on %d threads, seed %d, alpha %s%n",
+                rolls, threads, seed, alpha);
+            // One short untimed run so the JIT has compiled the draw loop before we measure.
+            long warmup = Math.min(rolls, (long) DropRollTask.CHUNK * DropRollTask.LEAF_CHUNKS);
+            pool.invoke(new DropRollTask(sampler, PackType.GENERIC, ~seed, warmup, 0, DropRollTask.chunks(warmup),
+                new StripedCounts(sampler.getCatalog().size(), 1)));
+
+            for (PackType type : packs) {
+                StripedCounts counts = new StripedCounts(sampler.getCatalog().size(), threads * 2);
+                long start = System.nanoTime();
+                pool.invoke(new DropRollTask(sampler, type, seed, rolls, 0, DropRollTask.chunks(rolls), counts));
+                long elapsed = System.nanoTime() - start;
+                report(sampler, type, counts.sum(), elapsed);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println();
+        System.out.println(failed ? "FAILED" : "All drop rates match.");
+    }
+
+    private void report(PackSampler sampler, PackType type, long[] observed, long elapsedNanos) {
+        CardCatalog catalog = sampler.getCatalog();
+        AliasTable table = sampler.getTable(type);
+        double seconds = elapsedNanos / 1e9;
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%s: %.2f s, %,.0f rolls/s%n", type, seconds, rolls / seconds);
+
+        double[] cardProbabilities = new double[observed.length];
+        long impossible = 0;
+        for (int i = 0; i < observed.length; i++) {
+            cardProbabilities[i] = table.probability(i);
+            if (cardProbabilities[i] == 0) impossible += observed[i];
+        }
+
+        CardType[] cardTypes = CardType.values();
+        long[] typeObserved = new long[cardTypes.length];
+        for (int i = 0; i < observed.length; i++) {
+            CardType cardType = catalog.byOrdinal(i).getType();
+            if (cardType == null) continue;
+            typeObserved[cardType.ordinal()] += observed[i];
+        }
+        boolean ok = true;
+        double[] typeProbabilities = new double[cardTypes.length];
+        JsonValue tiers = dropTables != null ? dropTables.get(type.name()) : null;
+        if (tiers == null) {
+            System.out.println("  no drop table in " + PackSampler.DROP_TABLES);
+            ok = false;
+        } else {
+            ok &= advertisedTypeShares(tiers, catalog, typeProbabilities);
+        }
+        for (CardType cardType : cardTypes) {
+            int t = cardType.ordinal();
+            if (typeProbabilities[t] == 0 && typeObserved[t] == 0) continue;
+            System.out.printf(Locale.ROOT, "  %-9s expected %8.4f%%  observed %8.4f%%%n",
+                cardType, typeProbabilities[t] * 100, (double) typeObserved[t] / rolls * 100);
+            // The chi-square test leaves out outcomes with no chance, so catch draws of them here.
+            if (typeProbabilities[t] == 0) ok = false;
+        }
+
+        ok &= test("by type", typeObserved, typeProbabilities);
+        ok &= test("by card", observed, cardProbabilities);
+        if (impossible > 0) {
+            System.out.printf(Locale.ROOT, "  %,d draws of cards with no chance%n", impossible);
+            ok = false;
+        }
+        if (sampler.getFallbacks().contains(type)) {
+            System.out.println("  a tier had no cards and fell back to another pool; the odds differ from " + PackSampler.DROP_TABLES);
+            ok = false;
+        }
+        System.out.println("  " + (ok ? "PASS" : "FAIL"));
+        failed |= !ok;
+    }
+
+    /**
+     * Fills {@code shares} with each card type's advertised share of a pack: every tier's weight over the total, counted
+     * to the tier's type. A tier without a type spreads its weight over all cards, so each type gets its card count's
+     * part of it.
+     * @return false if a tier names a type that doesn't exist
+     */
+    private static boolean advertisedTypeShares(JsonValue tiers, CardCatalog catalog, double[] shares) {
+        boolean ok = true;
+        double total = 0;
+        for (JsonValue tier = tiers.child; tier != null; tier = tier.next) {
+            double weight = tier.getDouble("weight", 0);
+            if (weight <= 0) continue;
+            String typeName = tier.getString("type", null);
+            if (typeName == null) {
+                for (CardType cardType : CardType.values()) {
+                    shares[cardType.ordinal()] += weight * catalog.ofType(cardType).size() / catalog.size();
+                }
+            } else {
+                try {
+                    shares[CardType.valueOf(typeName.toUpperCase(Locale.ROOT)).ordinal()] += weight;
+                } catch (IllegalArgumentException e) {
+                    System.out.println("  tier type " + typeName + " is not a card type");
+                    ok = false;
+                    continue;
+                }
+            }
+            total += weight;
+        }
+        for (int t = 0; t < shares.length; t++) {
+            shares[t] = total > 0 ? shares[t] / total : 0;
+        }
+        return ok;
+    }
+
+    private boolean test(String name, long[] observed, double[] probabilities) {
+        double statistic = ChiSquare.statistic(observed, probabilities);
+        int df = ChiSquare.degreesOfFreedom(probabilities);
+        double p = ChiSquare.pValue(statistic, df);
+        System.out.printf(Locale.ROOT, "  %-8s chi2 %10.2f  df %3d  p %.4f%n", name, statistic, df, p);
+        return df == 0 || p >= alpha;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.grace.ni.fernan.sim;
+
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.PackOpenScreenFernan.PackType;
+import io.github.grace.ni.fernan.PackSampler;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Rolls chunks [from, to) of one pack type's cards, splitting the range until a leaf's worth is left, and adds the
+ * counts per catalog ordinal to {@link StripedCounts}.
+ *
+ * Chunk #c of a pack type always uses its own {@code GameRandom.forStream} stream, so a seed gives the same counts
+ * on any number of threads.
+ */
+class DropRollTask extends RecursiveAction {
+    /** Rolls per random stream. */
+    static final int CHUNK = 1 << 16;
+    /** Chunks per leaf; a leaf's counts fit in ints. */
+    static final int LEAF_CHUNKS = 16;
+
+    private final PackSampler sampler;
+    private final PackType type;
+    private final long seed;
+    private final long rolls;
+    private final long from;
+    private final long to;
+    private final StripedCounts counts;
+
+    /** @param rolls the total, so the last chunk can be partial */
+    DropRollTask(PackSampler sampler, PackType type, long seed, long rolls, long from, long to, StripedCounts counts) {
+        this.sampler = sampler;
+        this.type = type;
+        this.seed = seed;
+        this.rolls = rolls;
+        this.from = from;
+        this.to = to;
+        this.counts = counts;
+    }
+
+    static long chunks(long rolls) {
+        return (rolls + CHUNK - 1) / CHUNK;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= LEAF_CHUNKS) {
+            int[] local = new int[sampler.getCatalog().size()];
+            for (long chunk = from; chunk < to; chunk++) {
+                // Pack types get disjoint stream ranges, so each is the same whichever others are checked.
+                GameRandom random = GameRandom.forStream(seed, ((long) type.ordinal() << 48) + chunk);
+                long end = Math.min(rolls, (chunk + 1) * CHUNK);
+                for (long i = chunk * CHUNK; i < end; i++) {
+                    local[sampler.drawOrdinal(type, random)]++;
+                }
+            }
+            counts.add(local);
+            return;
+        }
+        long mid = (from + to) >>> 1;
+        invokeAll(new DropRollTask(sampler, type, seed, rolls, from, mid, counts),
+            new DropRollTask(sampler, type, seed, rolls, mid, to, counts));
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.grace.ni.fernan.sim;
+
+import io.github.grace.ni.fernan.battle.BattleState;
+
+/**
+ * Running totals for a batch of simulated battles. Each fork/join leaf fills its own
+ * instance and the results are merged on the way back up, so nothing is shared while battles run.
+ */
+public class SimulationStats {
+    private static final double Z_95 = 1.959964;
+
+    long battles;
+    long wins;
+    long losses;
+    long stalls;
+    double roundsSum;
+    double roundsSquares;
+    double faithSum;
+    double faithSquares;
+
+    public void record(BattleState state) {
+        battles++;
+        switch (state.getOutcome()) {
+            case VICTORY:
+                wins++;
+                break;
+            case DEFEAT:
+                losses++;
+                break;
+            default:
+                stalls++;
+                break;
+        }
+        int rounds = state.getRoundNumber();
+        int faith = state.getFaithSpent();
+        roundsSum += rounds;
+        roundsSquares += (double) rounds * rounds;
+        faithSum += faith;
+        faithSquares += (double) faith * faith;
+    }
+
+    public SimulationStats merge(SimulationStats other) {
+        battles += other.battles;
+        wins += other.wins;
+        losses += other.losses;
+        stalls += other.stalls;
+        roundsSum += other.roundsSum;
+        roundsSquares += other.roundsSquares;
+        faithSum += other.faithSum;
+        faithSquares += other.faithSquares;
+        return this;
+    }
+
+    public long getBattles() { return battles; }
+    public long getWins() { return wins; }
+    public long getLosses() { return losses; }
+    public long getStalls() { return stalls; }
+
+    public double getWinRate() {
+        return battles == 0 ? 0 : (double) wins / battles;
+    }
+
+    /** 95% Wilson score interval for the win rate, as {low, high}. */
+    public double[] getWinRateInterval() {
+        if (battles == 0) return new double[] {0, 1};
+        double n = battles;
+        double p = getWinRate();
+        double z2 = Z_95 * Z_95;
+        double centre = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double spread = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / (1 + z2 / n);
+        return new double[] {centre - spread, centre + spread};
+    }
+
+    public double getMeanRounds() { return mean(roundsSum); }
+    public double getRoundsMargin() { return margin(roundsSum, roundsSquares); }
+    public double getMeanFaithSpent() { return mean(faithSum); }
+    public double getFaithSpentMargin() { return margin(faithSum, faithSquares); }
+
+    private double mean(double sum) {
+        return battles == 0 ? 0 : sum / battles;
+    }
+
+    /** Half-width of the 95% normal-approximation interval around the mean. */
+    private double margin(double sum, double squares) {
+        if (battles < 2) return 0;
+        double mean = sum / battles;
+        double variance = Math.max(0, (squares - battles * mean * mean) / (battles - 1));
+        return Z_95 * Math.sqrt(variance / battles);
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.grace.ni.fernan.sim;
+
+import io.github.grace.ni.fernan.CardSystem.Card;
+import io.github.grace.ni.fernan.GameRandom;
+import io.github.grace.ni.fernan.battle.BattleEngine;
+import io.github.grace.ni.fernan.battle.BattleListener;
+import io.github.grace.ni.fernan.battle.BattleState;
+import io.github.grace.ni.fernan.battle.EnemyPolicy;
+import io.github.grace.ni.fernan.battle.PlayerPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays battles [from, to) by splitting the range in half until it is small enough to run
+ * on one worker. Idle workers steal the other halves, which keeps every core busy even when
+ * some battles run much longer than others.
+ *
+ * Battle #i always uses {@code GameRandom.forStream(seed, i)}, so a seed reproduces the same
+ * results bit for bit regardless of the thread count or how the range was split.
+ */
+public class SimulationTask extends RecursiveTask<SimulationStats> {
+    /** Battles per leaf; big enough that splitting overhead disappears next to the battles. */
+    static final int LEAF_SIZE = 2048;
+
+    private final List<Card> deck;
+    private final Card enemy;
+    private final PlayerPolicy policy;
+    private final EnemyPolicy enemyPolicy;
+    private final int maxRounds;
+    private final long seed;
+    private final long from;
+    private final long to;
+
+    /**
+     * @param deck  catalog prototypes, copied for every battle
+     * @param enemy catalog prototype, copied for every battle
+     */
+    public SimulationTask(List<Card> deck, Card enemy, PlayerPolicy policy, EnemyPolicy enemyPolicy,
+                          int maxRounds, long seed, long from, long to) {
+        this.deck = deck;
+        this.enemy = enemy;
+        this.policy = policy;
+        this.enemyPolicy = enemyPolicy;
+        this.maxRounds = maxRounds;
+        this.seed = seed;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (to - from <= LEAF_SIZE) {
+            SimulationStats stats = new SimulationStats();
+            for (long i = from; i < to; i++) {
+                stats.record(playOne(i));
+            }
+            return stats;
+        }
+        long mid = (from + to) >>> 1;
+        SimulationTask left = new SimulationTask(deck, enemy, policy, enemyPolicy, maxRounds, seed, from, mid);
+        SimulationTask right = new SimulationTask(deck, enemy, policy, enemyPolicy, maxRounds, seed, mid, to);
+        left.fork();
+        SimulationStats result = right.compute();
+        return result.merge(left.join());
+    }
+
+    private BattleState playOne(long battle) {
+        List<Card> battleDeck = new ArrayList<>(deck.size());
+        for (Card c : deck) {
+            battleDeck.add(new Card(c));
+        }
+        BattleState state = new BattleState(battleDeck, new Card(enemy), GameRandom.forStream(seed, battle));
+        BattleEngine engine = new BattleEngine(state, BattleListener.NONE, enemyPolicy);
+        engine.start();
+        engine.playOut(policy, maxRounds);
+        return state;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.grace.ni.fernan.sim;
+
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Draw counts per outcome, summed across threads without a shared hot counter: each worker adds its leaf's counts to
+ * its own stripe of plain longs, and the stripes are only added up at the end. Stripes are padded apart so two
+ * workers never write to the same cache line.
+ */
+final class StripedCounts {
+    /** Longs per 64-byte cache line. */
+    private static final int LINE = 8;
+
+    private final int size;
+    private final int stride;
+    private final int stripes;
+    private final long[] cells;
+    /** Uncontended as long as each worker has its own stripe; they keep extra threads joining the pool correct. */
+    private final Object[] locks;
+
+    StripedCounts(int size, int stripes) {
+        this.size = size;
+        this.stripes = stripes;
+        // Rounded up to whole lines plus a spare line between stripes.
+        this.stride = ((size + LINE - 1) / LINE + 1) * LINE;
+        this.cells = new long[stripes * stride];
+        this.locks = new Object[stripes];
+        for (int i = 0; i < stripes; i++) locks[i] = new Object();
+    }
+
+    /** Adds a leaf's counts to the calling thread's stripe. */
+    void add(int[] counts) {
+        int stripe = stripe();
+        int base = stripe * stride;
+        synchronized (locks[stripe]) {
+            for (int i = 0; i < size; i++) {
+                cells[base + i] += counts[i];
+            }
+        }
+    }
+
+    /** The totals per outcome. Call once every {@link #add} has returned. */
+    long[] sum() {
+        long[] total = new long[size];
+        for (int s = 0; s < stripes; s++) {
+            synchronized (locks[s]) {
+                for (int i = 0; i < size; i++) {
+                    total[i] += cells[s * stride + i];
+                }
+            }
+        }
+        return total;
+    }
+
+    private int stripe() {
+        Thread thread = Thread.currentThread();
+        int index = thread instanceof ForkJoinWorkerThread
+            ? ((ForkJoinWorkerThread) thread).getPoolIndex()
+            : (int) thread.getId();
+        return Math.floorMod(index, stripes);
+    }
+}